@@ -9,8 +9,7 @@ import com.example.monoauction.common.dto.ApiResponse;
 import com.example.monoauction.item.dto.ItemResponse;
 import com.example.monoauction.item.model.AuctionItem;
 import com.example.monoauction.security.SecurityUtils;
-import com.example.monoauction.user.model.User;
-import com.example.monoauction.user.service.UserService;
+import com.example.monoauction.user.service.SellerNameCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -27,17 +26,19 @@ public class AdminReviewController {
 
     private final AdminReviewService reviewService;
 
-    private final UserService userService;
+    private final SellerNameCache sellerNameCache;
 
     @GetMapping("/pending")
     public ResponseEntity<ApiResponse<List<ItemResponse>>> getItemForReview() {
         List<AuctionItem> items = reviewService.getItemForReview();
 
+        // All sellers of the queue are resolved together rather than one lookup per item
+        Map<Long, String> sellerNames = sellerNameCache.namesOf(
+                items.stream().map(AuctionItem::getSellerId).toList());
+
         List<ItemResponse> responses = items.stream()
-                .map(item -> {
-                    User seller = userService.getUserById(item.getSellerId());
-                    return new ItemResponse(item, seller.getFullName());
-                })
+                .map(item -> new ItemResponse(item,
+                        sellerNames.getOrDefault(item.getSellerId(), SellerNameCache.UNKNOWN)))
                 .toList();
 
         return ResponseEntity.ok(ApiResponse.success(responses));
@@ -51,10 +52,9 @@ public class AdminReviewController {
         Long adminId = SecurityUtils.getCurrentUserId();
         String notes = request != null ? request.getNotes() : "Approved By Admin";
         AuctionItem item = reviewService.approveItem(id, adminId, notes);
-        User seller = userService.getUserById(item.getSellerId());
 
         return ResponseEntity.ok(ApiResponse.success("Item approved successfully",
-                new ItemResponse(item, seller.getFullName())));
+                new ItemResponse(item, sellerNameCache.nameOf(item.getSellerId()))));
     }
 
     @PostMapping("/{id}/reject")
@@ -64,9 +64,8 @@ public class AdminReviewController {
             ){
         Long adminId = SecurityUtils.getCurrentUserId();
         AuctionItem item = reviewService.rejectItem(id, adminId, request.getReason());
-        User seller = userService.getUserById(item.getSellerId());
 
-        return ResponseEntity.ok(ApiResponse.success("Item Rejected", new ItemResponse(item, seller.getFullName())));
+        return ResponseEntity.ok(ApiResponse.success("Item Rejected", new ItemResponse(item, sellerNameCache.nameOf(item.getSellerId()))));
     }
 
     @PostMapping("/{id}/request-changes")
@@ -76,10 +75,9 @@ public class AdminReviewController {
             )  {
         Long adminId = SecurityUtils.getCurrentUserId();
         AuctionItem item = reviewService.requestChanges(id, adminId, request.getNotes());
-        User seller = userService.getUserById(item.getSellerId());
 
         return ResponseEntity.ok(ApiResponse.success("Changes requested",
-                new ItemResponse(item, seller.getFullName())));
+                new ItemResponse(item, sellerNameCache.nameOf(item.getSellerId()))));
     }
 
 
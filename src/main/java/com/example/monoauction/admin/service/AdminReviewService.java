@@ -1,11 +1,11 @@
 package com.example.monoauction.admin.service;
 
-import com.example.monoauction.batch.model.AuctionBatch;
 import com.example.monoauction.batch.service.AuctionBatchService;
 import com.example.monoauction.common.enums.ItemStatus;
 import com.example.monoauction.common.enums.UserRole;
 import com.example.monoauction.item.model.AuctionItem;
 import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.item.search.SearchFacets;
 import com.example.monoauction.notifications.event.ItemApprovedEvent;
 import com.example.monoauction.notifications.event.ItemRejectedEvent;
 import com.example.monoauction.user.model.User;
@@ -30,14 +30,15 @@ public class AdminReviewService {
     private final AuctionBatchService batchService;
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final SearchFacets searchFacets;
 
     public List<AuctionItem> getItemForReview(){
-     AuctionBatch currentBatch = batchService.getCurrentBatch();
+     Long currentBatchId = batchService.getCurrentPhase().batchId();
      List<ItemStatus> reviewStatus = Arrays.asList(
              ItemStatus.SUBMITTED,
              ItemStatus.UNDER_REVIEW
      );
-     return itemRepository.findByBatchIdAndStatusIn(currentBatch.getId(),reviewStatus);
+     return itemRepository.findByBatchIdAndStatusIn(currentBatchId,reviewStatus);
     }
 
     @CacheEvict(value = "dashboardOverview", allEntries = true)
@@ -53,6 +54,7 @@ public class AdminReviewService {
             throw new RuntimeException("Only Admin Can Approve Items");
         }
 
+        ItemStatus oldStatus = item.getStatus();
         item.setStatus(ItemStatus.APPROVED);
         item.setReviewedBy(admin.getId());
         item.setReviewedAt(LocalDateTime.now());
@@ -60,6 +62,7 @@ public class AdminReviewService {
         item.setAdminNote(notes);
 
         AuctionItem savedItem = itemRepository.save(item);
+        searchFacets.statusChanged(savedItem, oldStatus);
 
         batchService.incrementItemApproved(item.getBatchId());
         eventPublisher.publishEvent(new ItemApprovedEvent(savedItem));
@@ -79,12 +82,14 @@ public class AdminReviewService {
             throw new RuntimeException("Only Admin Can Reject Items");
         }
 
+        ItemStatus oldStatus = item.getStatus();
         item.setStatus(ItemStatus.REJECTED);
         item.setReviewedBy(admin.getId());
         item.setReviewedAt(LocalDateTime.now());
         item.setRejectionReason(reason);
 
         AuctionItem savedItem = itemRepository.save(item);
+        searchFacets.statusChanged(savedItem, oldStatus);
 
         batchService.incrementItemRejected(item.getBatchId());
         eventPublisher.publishEvent(new ItemRejectedEvent(savedItem, reason));
@@ -105,35 +110,39 @@ public class AdminReviewService {
             throw new RuntimeException("Only Admin Can Request Changes");
         }
 
+        ItemStatus oldStatus = item.getStatus();
         item.setStatus(ItemStatus.CHANGES_REQUESTED);
         item.setReviewedBy(admin.getId());
         item.setReviewedAt(LocalDateTime.now());
         item.setAdminNote(feedback);
 
-        return itemRepository.save(item);
+        AuctionItem savedItem = itemRepository.save(item);
+        searchFacets.statusChanged(savedItem, oldStatus);
+
+        return savedItem;
     }
 
     public List<AuctionItem> getAllItemsInCurrentBatch(){
-        AuctionBatch currentBatch = batchService.getCurrentBatch();
-        return itemRepository.findByBatchId(currentBatch.getId());
+        Long currentBatchId = batchService.getCurrentPhase().batchId();
+        return itemRepository.findByBatchId(currentBatchId);
     }
 
     public Map<String, Long> getReviewStats(){
-        AuctionBatch currentBatch = batchService.getCurrentBatch();
+        Long currentBatchId = batchService.getCurrentPhase().batchId();
 
         Map<String, Long> stats = new HashMap<>();
 
         stats.put("submitted", itemRepository.countByBatchIdAndStatus(
-                currentBatch.getId(), ItemStatus.SUBMITTED));
+                currentBatchId, ItemStatus.SUBMITTED));
 
         stats.put("underReview", itemRepository.countByBatchIdAndStatus(
-                currentBatch.getId(), ItemStatus.UNDER_REVIEW));
+                currentBatchId, ItemStatus.UNDER_REVIEW));
 
         stats.put("approved", itemRepository.countByBatchIdAndStatus(
-                currentBatch.getId(), ItemStatus.APPROVED));
+                currentBatchId, ItemStatus.APPROVED));
 
         stats.put("rejected", itemRepository.countByBatchIdAndStatus(
-                currentBatch.getId(), ItemStatus.REJECTED));
+                currentBatchId, ItemStatus.REJECTED));
 
         return stats;
     }
@@ -2,7 +2,9 @@ package com.example.monoauction.admin.service;
 
 import com.example.monoauction.admin.dto.analytics.*;
 import com.example.monoauction.batch.model.AuctionBatch;
+import com.example.monoauction.batch.dto.BatchTotals;
 import com.example.monoauction.batch.repository.AuctionBatchRepository;
+import com.example.monoauction.batch.service.BatchCounters;
 import com.example.monoauction.bids.repository.BidRepository;
 import com.example.monoauction.common.execptions.ResourceNotFoundException;
 import com.example.monoauction.item.repository.AuctionItemRepository;
@@ -31,6 +33,7 @@ public class AnalyticsService {
     private final AuctionItemRepository itemRepository;
     private final BidRepository bidRepository;
     private final UserRepository userRepository;
+    private final BatchCounters batchCounters;
 
     @Cacheable(value = "dashboardOverview", unless = "#result == null")
     public DashboardOverview getDashboardOverview() {
@@ -43,17 +46,17 @@ public class AnalyticsService {
         Long batchId = currentBatch.getId();
 
         // Item statistics
-        Integer totalSubmitted = currentBatch.getTotalItemsSubmitted();
-        Integer totalApproved = currentBatch.getTotalItemsApproved();
-        Integer totalRejected = currentBatch.getTotalItemsRejected();
+        BatchTotals totals = batchCounters.totals(currentBatch);
+        Integer totalSubmitted = totals.totalItemsSubmitted();
+        Integer totalApproved = totals.totalItemsApproved();
+        Integer totalRejected = totals.totalItemsRejected();
         Long totalLive = itemRepository.countByBatchIdAndStatus(batchId, "LIVE");
         Long totalSold = itemRepository.countByBatchIdAndStatus(batchId, "SOLD");
         Long totalUnsold = itemRepository.countByBatchIdAndStatus(batchId, "UNSOLD");
 
         // Financial metrics
         BigDecimal totalRevenue = batchRepository.getTotalRevenue();
-        BigDecimal totalRevenueThisBatch = currentBatch.getTotalRevenue() != null ?
-                currentBatch.getTotalRevenue() : BigDecimal.ZERO;
+        BigDecimal totalRevenueThisBatch = totals.totalRevenue();
         BigDecimal averageItemPrice = itemRepository.getAverageSalePrice(batchId);
         BigDecimal highestBid = itemRepository.getHighestBid(batchId);
 
@@ -125,12 +128,14 @@ public class AnalyticsService {
         Long uniqueBidders = bidRepository.countUniqueBiddersByBatchId(batchId);
         Double avgBidsPerItem = bidRepository.getAverageBidsPerItem(batchId);
 
-        Double approvalRate = batch.getTotalItemsSubmitted() > 0 ?
-                (batch.getTotalItemsApproved().doubleValue() / batch.getTotalItemsSubmitted().doubleValue()) * 100 : 0.0;
+        BatchTotals totals = batchCounters.totals(batch);
+
+        Double approvalRate = totals.totalItemsSubmitted() > 0 ?
+                ((double) totals.totalItemsApproved() / totals.totalItemsSubmitted()) * 100 : 0.0;
         Double soldRate = (totalSold + totalUnsold) > 0 ?
                 (totalSold.doubleValue() / (totalSold + totalUnsold)) * 100 : 0.0;
-        Double conversionRate = batch.getTotalItemsSubmitted() > 0 ?
-                (totalSold.doubleValue() / batch.getTotalItemsSubmitted().doubleValue()) * 100 : 0.0;
+        Double conversionRate = totals.totalItemsSubmitted() > 0 ?
+                (totalSold.doubleValue() / totals.totalItemsSubmitted()) * 100 : 0.0;
 
         return BatchAnalytics.builder()
                 .batchId(batch.getId())
@@ -144,12 +149,12 @@ public class AnalyticsService {
                 .reviewEndDate(batch.getReviewEndDate())
                 .auctionStartTime(batch.getAuctionStartTime())
                 .auctionEndTime(batch.getAuctionEndTime())
-                .totalItemsSubmitted(batch.getTotalItemsSubmitted())
-                .totalItemsApproved(batch.getTotalItemsApproved())
-                .totalItemsRejected(batch.getTotalItemsRejected())
+                .totalItemsSubmitted(totals.totalItemsSubmitted())
+                .totalItemsApproved(totals.totalItemsApproved())
+                .totalItemsRejected(totals.totalItemsRejected())
                 .totalItemsSold(totalSold.intValue())
                 .totalItemsUnsold(totalUnsold.intValue())
-                .totalRevenue(batch.getTotalRevenue() != null ? batch.getTotalRevenue() : BigDecimal.ZERO)
+                .totalRevenue(totals.totalRevenue())
                 .averageSalePrice(averagePrice)
                 .totalBids(totalBids)
                 .uniqueBidders(uniqueBidders)
@@ -0,0 +1,12 @@
+package com.example.monoauction.batch.dto;
+
+import java.math.BigDecimal;
+
+// Batch counters as persisted plus whatever this node has not flushed yet
+public record BatchTotals(
+        int totalItemsSubmitted,
+        int totalItemsApproved,
+        int totalItemsRejected,
+        int totalItemsSold,
+        BigDecimal totalRevenue) {
+}
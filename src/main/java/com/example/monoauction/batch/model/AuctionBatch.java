@@ -58,21 +58,26 @@ public class AuctionBatch {
     @Column(nullable = false)
     private LocalDateTime auctionEndTime;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer totalItemsSubmitted = 0;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer totalItemsApproved = 0;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer totalItemsRejected = 0;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer totalItemsSold = 0;
 
-    @Column(precision = 12, scale = 2)
+    // Counters only move through AuctionBatchRepository.addTotals; see BatchCounters
+    @Column(precision = 12, scale = 2, updatable = false)
     private BigDecimal totalRevenue = BigDecimal.ZERO;
 
+    // Token of the lifecycle lease that last drove this batch; only ever written by AuctionBatchRepository.claimFence
+    @Column(name = "fencing_token", insertable = false, updatable = false)
+    private Long fencingToken;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
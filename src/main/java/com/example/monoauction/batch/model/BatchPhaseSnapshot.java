@@ -0,0 +1,65 @@
+package com.example.monoauction.batch.model;
+
+import com.example.monoauction.common.enums.BatchStatus;
+
+import java.time.LocalDateTime;
+
+// Immutable copy of the phase-relevant columns of the current batch, shared across request threads
+public record BatchPhaseSnapshot(
+        Long batchId,
+        String batchCode,
+        int weekNumber,
+        int year,
+        BatchStatus status,
+        LocalDateTime submissionStartDate,
+        LocalDateTime submissionEndDate,
+        LocalDateTime reviewStartDate,
+        LocalDateTime reviewEndDate,
+        LocalDateTime auctionStartTime,
+        LocalDateTime auctionEndTime,
+        LocalDateTime validUntil) {
+
+    public static BatchPhaseSnapshot of(AuctionBatch batch, LocalDateTime validUntil) {
+        return new BatchPhaseSnapshot(
+                batch.getId(),
+                batch.getBatchCode(),
+                batch.getWeekNumber(),
+                batch.getYear(),
+                batch.getStatus(),
+                batch.getSubmissionStartDate(),
+                batch.getSubmissionEndDate(),
+                batch.getReviewStartDate(),
+                batch.getReviewEndDate(),
+                batch.getAuctionStartTime(),
+                batch.getAuctionEndTime(),
+                validUntil);
+    }
+
+    public boolean isSubmissionOpen(LocalDateTime now) {
+        return status == BatchStatus.SUBMISSION &&
+                now.isAfter(submissionStartDate) &&
+                now.isBefore(submissionEndDate);
+    }
+
+    public boolean isReviewPhaseActive(LocalDateTime now) {
+        return status == BatchStatus.REVIEW &&
+                now.isAfter(reviewStartDate) &&
+                now.isBefore(reviewEndDate);
+    }
+
+    public boolean isAuctionLive() {
+        return status == BatchStatus.LIVE;
+    }
+
+    // The moment the lifecycle scheduler may move this batch on, or null once it has ended
+    public LocalDateTime nextTransitionAt() {
+        return switch (status) {
+            case SUBMISSION -> submissionEndDate;
+            case REVIEW -> reviewEndDate.isAfter(auctionStartTime.minusMinutes(1))
+                    ? reviewEndDate
+                    : auctionStartTime.minusMinutes(1);
+            case LIVE -> auctionEndTime;
+            default -> null;
+        };
+    }
+}
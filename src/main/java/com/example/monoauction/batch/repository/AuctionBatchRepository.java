@@ -5,8 +5,10 @@ import com.example.monoauction.common.enums.BatchStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -24,6 +26,32 @@ public interface AuctionBatchRepository extends JpaRepository<AuctionBatch, Long
 
     Page<AuctionBatch> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE ah_auctionbatch SET fencing_token = :token " +
+            "WHERE id = :batchId AND (fencing_token IS NULL OR fencing_token <= :token)", nativeQuery = true)
+    int claimFence(@Param("batchId") Long batchId, @Param("token") long token);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE ah_auctionbatch SET " +
+            "total_items_submitted = total_items_submitted + :submitted, " +
+            "total_items_approved = total_items_approved + :approved, " +
+            "total_items_rejected = total_items_rejected + :rejected, " +
+            "total_items_sold = total_items_sold + :sold, " +
+            "total_revenue = COALESCE(total_revenue, 0) + :revenue WHERE id = :batchId", nativeQuery = true)
+    int addTotals(@Param("batchId") Long batchId,
+                  @Param("submitted") long submitted,
+                  @Param("approved") long approved,
+                  @Param("rejected") long rejected,
+                  @Param("sold") long sold,
+                  @Param("revenue") BigDecimal revenue);
+
+    // Share-locks the batch row so a newer leader cannot claim it until the caller's transaction ends
+    @Query(value = "SELECT id FROM ah_auctionbatch WHERE id = :batchId AND fencing_token = :token FOR SHARE",
+            nativeQuery = true)
+    List<Long> lockFence(@Param("batchId") Long batchId, @Param("token") long token);
+
     // Get current active batch
     @Query("SELECT ab FROM AuctionBatch ab WHERE ab.status IN ('SUBMISSION', 'REVIEW', 'LIVE') ORDER BY ab.createdAt DESC")
     Optional<AuctionBatch> findCurrentBatch();
@@ -1,16 +1,22 @@
 package com.example.monoauction.batch.service;
 
 import com.example.monoauction.batch.model.AuctionBatch;
+import com.example.monoauction.batch.model.BatchPhaseSnapshot;
 import com.example.monoauction.batch.repository.AuctionBatchRepository;
-import com.example.monoauction.bids.model.Bid;
-import com.example.monoauction.bids.repository.BidRepository;
+import com.example.monoauction.bids.engine.BidSequencer;
+import com.example.monoauction.bids.engine.LiveBidEngine;
 import com.example.monoauction.common.enums.*;
-import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.common.money.Money;
+import com.example.monoauction.item.dto.ItemTransition;
 import com.example.monoauction.item.repository.AuctionItemRepository;
 import com.example.monoauction.notifications.event.AuctionStartedEvent;
+import com.example.monoauction.notifications.service.ItemStatusBroadcaster;
 import com.example.monoauction.notifications.service.WebSocketNotificationService;
-import com.example.monoauction.payments.model.Transaction;
-import com.example.monoauction.payments.repository.TransactionRepository;
+import com.example.monoauction.scheduler.event.BatchPhaseChangedEvent;
+import com.example.monoauction.scheduler.service.ItemDeadlineTracker;
+import com.example.monoauction.scheduler.service.LifecycleLease;
+import com.example.monoauction.settlement.dto.SettlementSummary;
+import com.example.monoauction.settlement.service.BatchSettlementEngine;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,8 +25,9 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import javax.swing.*;
 import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -37,26 +44,106 @@ import java.util.Optional;
 public class AuctionBatchService {
     private final AuctionBatchRepository batchRepository;
     private final AuctionItemRepository itemRepository;
-    private final BidRepository bidRepository;
-    private final TransactionRepository transactionRepository;
     private final WebSocketNotificationService webSocketService;
+    private final ItemStatusBroadcaster statusBroadcaster;
     private final ApplicationEventPublisher eventPublisher;
+    private final LiveBidEngine liveBidEngine;
+    private final BidSequencer bidSequencer;
+    private final BatchSettlementEngine settlementEngine;
+    private final ItemDeadlineTracker deadlineTracker;
+    private final BatchCounters batchCounters;
 
     @Value("${auction.lifecycle.scheduler.enabled}")
     private boolean schedulerEnabled;
 
+    @Value("${auction.lifecycle.phase-recheck-seconds:2}")
+    private long phaseRecheckSeconds;
+
+    private final Object phaseLock = new Object();
+    private volatile BatchPhaseSnapshot phase;
+    private volatile long phaseGeneration;
+
     public AuctionBatch getCurrentBatch(){
-        LocalDate now = LocalDate.now();
-        int week = now.get(WeekFields.of(DayOfWeek.MONDAY, 1).weekOfYear());
-        int year = now.getYear();
+        return getBatchById(getCurrentPhase().batchId());
+    }
 
-        Optional<AuctionBatch> existingBatch = batchRepository.findByWeekNumberAndYearAndIsDeleted(week, year, false);
+    // Read on every bid and submission; a lifecycle change, the batch's next boundary or the week rolling over reloads it
+    public BatchPhaseSnapshot getCurrentPhase(){
+        BatchPhaseSnapshot snapshot = phase;
+        if(snapshot != null && LocalDateTime.now().isBefore(snapshot.validUntil())){
+            return snapshot;
+        }
 
-        if(existingBatch.isPresent()){
-            return existingBatch.get();
-        } else {
-            return createNewBatch(week, year);
+        BatchPhaseSnapshot previous;
+
+        // Single-flight: one caller loads or creates the batch, the rest wait for its snapshot
+        synchronized (phaseLock){
+            previous = phase;
+            if(previous != null && LocalDateTime.now().isBefore(previous.validUntil())){
+                return previous;
+            }
+
+            long generation = phaseGeneration;
+            snapshot = loadPhase();
+            if(generation == phaseGeneration){
+                phase = snapshot;
+            }
+        }
+
+        // A transition made on another node is only seen here, so it is announced like a local one
+        if(previous != null && (!previous.batchId().equals(snapshot.batchId()) || previous.status() != snapshot.status())){
+            eventPublisher.publishEvent(new BatchPhaseChangedEvent(previous.batchId()));
+        }
+        return snapshot;
+    }
+
+    // Dropped once the transaction commits, so the next reader never reloads uncommitted state
+    public void invalidatePhase(){
+        if(TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clearPhase();
+                }
+            });
+            return;
+        }
+        clearPhase();
+    }
+
+    private void clearPhase(){
+        Long batchId;
+        synchronized (phaseLock){
+            batchId = phase == null ? null : phase.batchId();
+            phaseGeneration++;
+            phase = null;
+        }
+        eventPublisher.publishEvent(new BatchPhaseChangedEvent(batchId));
+    }
+
+    private BatchPhaseSnapshot loadPhase(){
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        int week = today.get(WeekFields.of(DayOfWeek.MONDAY, 1).weekOfYear());
+        int year = today.getYear();
+
+        AuctionBatch batch = batchRepository.findByWeekNumberAndYearAndIsDeleted(week, year, false)
+                .orElseGet(() -> createNewBatch(week, year));
+
+        // The week number changes at Monday midnight, which is the only boundary that can change the current batch
+        LocalDateTime validUntil = today.with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atStartOfDay();
+
+        // Transitions may be made by another node, so the snapshot also ends at the batch's next boundary, and
+        // once that has passed it is re-checked shortly until the transition lands
+        LocalDateTime boundary = BatchPhaseSnapshot.of(batch, validUntil).nextTransitionAt();
+        if(boundary != null && boundary.isBefore(validUntil)){
+            validUntil = boundary;
+        }
+        if(!validUntil.isAfter(now)){
+            validUntil = now.plusSeconds(phaseRecheckSeconds);
         }
+
+        return BatchPhaseSnapshot.of(batch, validUntil);
     }
 
     public AuctionBatch createNewBatch(int week, int year){
@@ -102,57 +189,42 @@ public class AuctionBatchService {
     }
 
     public boolean isSubmissionOpen(){
-        AuctionBatch currentBatch = getCurrentBatch();
-        LocalDateTime now = LocalDateTime.now();
-
-        return currentBatch.getStatus() == BatchStatus.SUBMISSION &&
-                now.isAfter(currentBatch.getSubmissionStartDate()) &&
-                now.isBefore(currentBatch.getSubmissionEndDate());
+        return getCurrentPhase().isSubmissionOpen(LocalDateTime.now());
     }
 
     public boolean isReviewPhaseActive(){
-        AuctionBatch currentBatch = getCurrentBatch();
-        LocalDateTime now = LocalDateTime.now();
-
-        return currentBatch.getStatus() == BatchStatus.REVIEW &&
-                now.isAfter(currentBatch.getReviewStartDate()) &&
-                now.isBefore(currentBatch.getReviewEndDate());
+        return getCurrentPhase().isReviewPhaseActive(LocalDateTime.now());
     }
 
     public boolean isAuctionLive(){
-        AuctionBatch currentBatch = getCurrentBatch();
-        return currentBatch.getStatus() == BatchStatus.LIVE;
+        return getCurrentPhase().isAuctionLive();
     }
 
     public void updateBatchStatus(Long batchId, BatchStatus newStatus){
         AuctionBatch batch = getBatchById(batchId);
         batch.setStatus(newStatus);
         batchRepository.save(batch);
+        invalidatePhase();
     }
 
     public void incrementItemSubmitted(Long batchId){
-        AuctionBatch batch = getBatchById(batchId);
-        batch.setTotalItemsSubmitted(batch.getTotalItemsSubmitted() + 1);
-        batchRepository.save(batch);
+        batchCounters.addSubmitted(batchId, 1);
+    }
+
+    public void decrementItemSubmitted(Long batchId){
+        batchCounters.addSubmitted(batchId, -1);
     }
 
     public void incrementItemApproved(Long batchId){
-        AuctionBatch batch = getBatchById(batchId);
-        batch.setTotalItemsApproved(batch.getTotalItemsApproved() + 1);
-        batchRepository.save(batch);
+        batchCounters.addApproved(batchId);
     }
 
     public void incrementItemRejected(Long batchId){
-        AuctionBatch batch = getBatchById(batchId);
-        batch.setTotalItemsRejected(batch.getTotalItemsRejected() + 1);
-        batchRepository.save(batch);
+        batchCounters.addRejected(batchId);
     }
 
     public void incrementItemSold(Long batchId, BigDecimal amount){
-        AuctionBatch batch = getBatchById(batchId);
-        batch.setTotalItemsSold(batch.getTotalItemsSold() + 1);
-        batch.setTotalRevenue(batch.getTotalRevenue().add(amount));
-        batchRepository.save(batch);
+        batchCounters.addSold(batchId, Money.toCents(amount));
     }
 
     public AuctionBatch createTestBatch(){
@@ -170,6 +242,7 @@ public class AuctionBatchService {
             existingBatch.get().setStatus(BatchStatus.DELETED);
             batchRepository.save(existingBatch.get());
         }
+        invalidatePhase();
 
         LocalDateTime now = LocalDateTime.now();
         AuctionBatch batch = new AuctionBatch();
@@ -226,17 +299,10 @@ public class AuctionBatchService {
     private void transitionToReview(AuctionBatch batch){
         batch.setStatus(BatchStatus.REVIEW);
         batchRepository.save(batch);
+        invalidatePhase();
 
-        List<AuctionItem> submittedItems = itemRepository.findByBatchIdAndStatus(batch.getId(), ItemStatus.SUBMITTED);
-
-
-        for(AuctionItem item : submittedItems){
-            ItemStatus oldStatus = item.getStatus();
-            item.setStatus(ItemStatus.UNDER_REVIEW);
-            itemRepository.save(item);
-
-            webSocketService.sendItemStatusUpdate(item, oldStatus);
-        }
+        List<ItemTransition> submittedItems = itemRepository.moveSubmittedToReview(batch.getId(), LocalDateTime.now());
+        statusBroadcaster.broadcast(submittedItems, ItemStatus.SUBMITTED, ItemStatus.UNDER_REVIEW);
 
         webSocketService.sendAuctionStatusUpdate(batch,
                 "Submission phase ended. Items are now under review.");
@@ -248,18 +314,15 @@ public class AuctionBatchService {
     private void startAuction(AuctionBatch batch){
         batch.setStatus(BatchStatus.LIVE);
         batchRepository.save(batch);
+        invalidatePhase();
 
-        List<AuctionItem> approvedItems = itemRepository
-                .findByBatchIdAndStatus(batch.getId(), ItemStatus.APPROVED);
+        List<ItemTransition> approvedItems = itemRepository
+                .moveApprovedToLive(batch.getId(), LocalDateTime.now(), batch.getAuctionEndTime());
+        List<Long> approvedIds = approvedItems.stream().map(ItemTransition::getId).toList();
 
-        for(AuctionItem item : approvedItems) {
-            ItemStatus oldStatus = item.getStatus();
-            item.setStatus(ItemStatus.LIVE);
-            item.setAuctionStartedAt(LocalDateTime.now());
-            itemRepository.save(item);
-
-            webSocketService.sendItemStatusUpdate(item, oldStatus);
-        }
+        liveBidEngine.loadBatch(batch.getId(), approvedIds);
+        approvedIds.forEach(itemId -> deadlineTracker.arm(itemId, batch.getId(), batch.getAuctionEndTime()));
+        statusBroadcaster.broadcast(approvedItems, ItemStatus.APPROVED, ItemStatus.LIVE);
 
         webSocketService.sendAuctionStatusUpdate(batch,
                 "AUCTION IS NOW LIVE! Start Bidding!");
@@ -270,30 +333,29 @@ public class AuctionBatchService {
     }
 
     private void endAuction(AuctionBatch batch){
+        // Recorded first so a close interrupted from here on is resumed at startup
+        settlementEngine.begin(batch.getId());
+
         batch.setStatus(BatchStatus.ENDED);
         batchRepository.save(batch);
-
-        List<AuctionItem> liveItems = itemRepository
-                .findByBatchIdAndStatus(batch.getId(), ItemStatus.LIVE);
-
-        int soldCount = 0;
-        int unsoldCount = 0;
-        BigDecimal totalAmount = BigDecimal.ZERO;
-
-        for(AuctionItem item : liveItems){
-            boolean isSold = processItemEnd(item);
-
-            if(isSold){
-                soldCount++;
-                totalAmount = totalAmount.add(item.getCurrentBid());
-            }
-            else{
-                unsoldCount++;
-            }
+        invalidatePhase();
+
+        liveBidEngine.drainBatch(batch.getId());
+        bidSequencer.drainBatch(batch.getId());
+        deadlineTracker.releaseBatch(batch.getId());
+
+        // Chunks commit on their own, so an incomplete run must not roll ENDED back; the rest is resumed after commit
+        SettlementSummary summary;
+        try {
+            summary = settlementEngine.settleBatch(batch.getId(), LifecycleLease.UNFENCED);
+        } catch (RuntimeException e) {
+            log.error("Settlement Incomplete For Batch {}: {}", batch.getBatchCode(), e.getMessage(), e);
+            return;
         }
+        int soldCount = summary.soldCount();
+        int unsoldCount = summary.unsoldCount();
 
-        batch.setTotalItemsSold(soldCount);
-        batch.setTotalRevenue(totalAmount);
+        BigDecimal totalAmount = Money.toBigDecimal(summary.revenueCents());
 
         webSocketService.sendAuctionStatusUpdate(batch,
                 "AUCTION ENDED! " + soldCount + " Items Sold.");
@@ -304,87 +366,4 @@ public class AuctionBatchService {
 
     }
 
-    private boolean processItemEnd(AuctionItem item){
-        ItemStatus oldStatus = item.getStatus();
-        item.setAuctionEndedAt(LocalDateTime.now());
-
-        Optional<Bid> winningBidOpt = bidRepository
-                .findTopByItemIdOrderByAmountDesc(item.getId());
-
-        if(winningBidOpt.isEmpty()){
-            item.setStatus(ItemStatus.UNSOLD);
-            itemRepository.save(item);
-
-            webSocketService.sendItemStatusUpdate(item, oldStatus);
-
-            log.info("Item {} - No Bid Received", item.getId());
-            return false;
-        }
-
-        Bid winningBid = winningBidOpt.get();
-
-        if(item.getReservePrice() != null &&
-                winningBid.getAmount().compareTo(item.getReservePrice()) < 0){
-            item.setStatus(ItemStatus.UNSOLD);
-            winningBid.setStatus(BidStatus.LOST);
-
-            itemRepository.save(item);
-            bidRepository.save(winningBid);
-
-            webSocketService.sendItemStatusUpdate(item, oldStatus);
-
-            log.info("Item {} - Reserve Price Not Met. Highest Bid: {}, Reserve: {}",
-                    item.getId(), winningBid.getAmount(), item.getReservePrice());
-            return false;
-        }
-
-        item.setStatus(ItemStatus.SOLD);
-        item.setWinnerId(winningBid.getBidderId());
-        item.setSoldAt(LocalDateTime.now());
-
-        winningBid.setStatus(BidStatus.WON);
-
-        itemRepository.save(item);
-        bidRepository.save(winningBid);
-
-        webSocketService.sendItemStatusUpdate(item, oldStatus);
-
-        List<Bid> otherBids = bidRepository.findByItemIdAndStatusNot(item.getId(), BidStatus.WON);
-
-        otherBids.forEach(otherBid -> {
-            otherBid.setStatus(BidStatus.LOST);
-            bidRepository.save(otherBid);
-        });
-
-        createTransaction(item, winningBid);
-
-        log.info("Item {} - Sold To User {} For {}"
-                , item.getId(), winningBid.getBidderId(), winningBid.getAmount());
-        return true;
-    }
-
-    private void createTransaction(AuctionItem item, Bid winningBid){
-        Transaction transaction = new Transaction();
-
-        transaction.setAuctionItemId(item.getId());
-        transaction.setBuyerId(winningBid.getBidderId());
-        transaction.setSellerId(item.getSellerId());
-        transaction.setWinningBidId(winningBid.getId());
-        transaction.setAmount(winningBid.getAmount());
-
-        BigDecimal platformFee = winningBid.getAmount().multiply(new BigDecimal("0.05"));
-        transaction.setPlatformFee(platformFee);
-
-        BigDecimal sellerPayout = winningBid.getAmount().subtract(platformFee);
-        transaction.setSellerPayout(sellerPayout);
-
-        transaction.setStatus(TransactionStatus.PENDING);
-        transaction.setPaymentMethod(PaymentMethod.PENDING);
-
-        transactionRepository.save(transaction);
-
-        log.info("Transaction Created For Item {}, Amount: {}, Fee: {}, Payout {}."
-                , item.getId(), winningBid.getAmount(), platformFee, sellerPayout);
-    }
-
 }
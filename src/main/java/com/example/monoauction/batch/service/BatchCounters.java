@@ -0,0 +1,126 @@
+package com.example.monoauction.batch.service;
+
+import com.example.monoauction.batch.dto.BatchTotals;
+import com.example.monoauction.batch.model.AuctionBatch;
+import com.example.monoauction.batch.repository.AuctionBatchRepository;
+import com.example.monoauction.common.money.Money;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Submission, review and sale counters of each batch. Changes are added to striped in-memory adders
+ * once the transaction that caused them commits, and flushed as additive UPDATEs, so submissions and
+ * reviews never wait on the batch row. The counter columns are not updatable through the entity,
+ * which keeps a batch save from writing back a stale total over a flush.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchCounters {
+
+    private final AuctionBatchRepository batchRepository;
+
+    private final Map<Long, Deltas> pending = new ConcurrentHashMap<>();
+
+    public void addSubmitted(Long batchId, long delta) {
+        afterCommit(() -> deltas(batchId).submitted.add(delta));
+    }
+
+    public void addApproved(Long batchId) {
+        afterCommit(() -> deltas(batchId).approved.increment());
+    }
+
+    public void addRejected(Long batchId) {
+        afterCommit(() -> deltas(batchId).rejected.increment());
+    }
+
+    public void addSold(Long batchId, long amountCents) {
+        afterCommit(() -> {
+            Deltas deltas = deltas(batchId);
+            deltas.sold.increment();
+            deltas.revenueCents.add(amountCents);
+        });
+    }
+
+    public BatchTotals totals(AuctionBatch batch) {
+        Deltas deltas = pending.get(batch.getId());
+        BigDecimal revenue = batch.getTotalRevenue() != null ? batch.getTotalRevenue() : BigDecimal.ZERO;
+        if (deltas == null) {
+            return new BatchTotals(batch.getTotalItemsSubmitted(), batch.getTotalItemsApproved(),
+                    batch.getTotalItemsRejected(), batch.getTotalItemsSold(), revenue);
+        }
+
+        return new BatchTotals(
+                batch.getTotalItemsSubmitted() + deltas.submitted.intValue(),
+                batch.getTotalItemsApproved() + deltas.approved.intValue(),
+                batch.getTotalItemsRejected() + deltas.rejected.intValue(),
+                batch.getTotalItemsSold() + deltas.sold.intValue(),
+                revenue.add(Money.toBigDecimal(deltas.revenueCents.sum())));
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${auction.batch-counters.flush-ms:1000}")
+    public void flush() {
+        pending.forEach((batchId, deltas) -> {
+            long submitted = deltas.submitted.sumThenReset();
+            long approved = deltas.approved.sumThenReset();
+            long rejected = deltas.rejected.sumThenReset();
+            long sold = deltas.sold.sumThenReset();
+            long revenueCents = deltas.revenueCents.sumThenReset();
+
+            if ((submitted | approved | rejected | sold | revenueCents) == 0) {
+                return;
+            }
+
+            try {
+                batchRepository.addTotals(batchId, submitted, approved, rejected, sold,
+                        Money.toBigDecimal(revenueCents));
+            } catch (Exception e) {
+                log.error("Error Flushing Counters For Batch {}", batchId, e);
+
+                // Put the deltas back so the next flush carries them
+                deltas.submitted.add(submitted);
+                deltas.approved.add(approved);
+                deltas.rejected.add(rejected);
+                deltas.sold.add(sold);
+                deltas.revenueCents.add(revenueCents);
+            }
+        });
+    }
+
+    private Deltas deltas(Long batchId) {
+        return pending.computeIfAbsent(batchId, id -> new Deltas());
+    }
+
+    // A rolled back submission or review must not be counted
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+            return;
+        }
+        change.run();
+    }
+
+    private static final class Deltas {
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder approved = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder sold = new LongAdder();
+        private final LongAdder revenueCents = new LongAdder();
+    }
+}
@@ -2,10 +2,20 @@ package com.example.monoauction.bids.controller;
 
 import com.example.monoauction.bids.dto.BidResponse;
 import com.example.monoauction.bids.dto.PlaceBidRequest;
+import com.example.monoauction.bids.dto.ProxyBidRequest;
+import com.example.monoauction.bids.dto.ProxyBidResponse;
+import com.example.monoauction.bids.engine.AcceptedBid;
+import com.example.monoauction.bids.engine.BidSequencer;
 import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.model.ProxyBid;
+import com.example.monoauction.bids.ratelimit.BidRateLimiter;
+import com.example.monoauction.bids.service.BidPlacementService;
 import com.example.monoauction.bids.service.BidService;
+import com.example.monoauction.bids.service.ProxyBidService;
 import com.example.monoauction.common.dto.ApiResponse;
+import com.example.monoauction.common.dto.CursorPage;
 import com.example.monoauction.security.SecurityUtils;
+import com.example.monoauction.user.model.User;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -14,8 +24,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/bids")
@@ -24,39 +34,89 @@ import java.util.Map;
 public class BidController {
 
     private final BidService bidService;
+    private final BidSequencer bidSequencer;
+    private final ProxyBidService proxyBidService;
+    private final BidRateLimiter bidRateLimiter;
+    private final BidPlacementService bidPlacementService;
 
+    // Only the sequencer completes later; every other mode hands back an already completed future
     @PostMapping("/item/{itemId}")
-    public ResponseEntity<ApiResponse<BidResponse>> placeBid(
+    public CompletableFuture<ResponseEntity<ApiResponse<BidResponse>>> placeBid(
             @PathVariable Long itemId,
-            @Valid @RequestBody PlaceBidRequest request
+            @Valid @RequestBody PlaceBidRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
             ){
-        Long bidderId = SecurityUtils.getCurrentUserId();
-        Bid bid = bidService.placeBid(itemId, bidderId, request.getAmount());
+        User bidder = SecurityUtils.getCurrentUser();
 
+        return bidPlacementService.placeBid(itemId, bidder, request.getAmount(), idempotencyKey)
+                .thenApply(this::bidPlaced);
+    }
+
+    private ResponseEntity<ApiResponse<BidResponse>> bidPlaced(Bid bid){
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Bid placed successfully", new BidResponse(bid)));
     }
 
-    @GetMapping("/item/{itemId}/history")
-    public ResponseEntity<ApiResponse<List<BidResponse>>> getBidHistory(
+    @PostMapping("/item/{itemId}/proxy")
+    public CompletableFuture<ResponseEntity<ApiResponse<ProxyBidResponse>>> placeProxyBid(
+            @PathVariable Long itemId,
+            @Valid @RequestBody ProxyBidRequest request
+    ){
+        User bidder = SecurityUtils.getCurrentUser();
+        bidRateLimiter.acquire(bidder.getId(), itemId);
+
+        CompletableFuture<AcceptedBid> accepted = bidSequencer.isEnabled()
+                ? bidSequencer.submitProxy(itemId, bidder, request.getMaxAmount())
+                : CompletableFuture.completedFuture(bidService.placeProxyBid(itemId, bidder, request.getMaxAmount()));
+
+        return accepted.thenApply(a -> proxyBidPlaced(a, bidder, request.getMaxAmount()));
+    }
+
+    @GetMapping("/item/{itemId}/proxy")
+    public ResponseEntity<ApiResponse<BigDecimal>> getMyProxyBid(
             @PathVariable Long itemId
     ){
-        List<Bid> bids = bidService.getBidHistory(itemId);
-        List<BidResponse> responses = bids.stream()
-                .map(BidResponse::new)
-                .toList();
+        BigDecimal maxAmount = proxyBidService.getMaximum(itemId, SecurityUtils.getCurrentUserId())
+                .map(ProxyBid::getMaxAmount)
+                .orElse(null);
+
+        return ResponseEntity.ok(ApiResponse.success(maxAmount));
+    }
+
+    private ResponseEntity<ApiResponse<ProxyBidResponse>> proxyBidPlaced(AcceptedBid accepted, User bidder, BigDecimal maxAmount){
+        Bid leadingBid = accepted.getLeadingBid();
+        ProxyBidResponse response = new ProxyBidResponse(
+                accepted.getItem().getId(),
+                maxAmount,
+                leadingBid.getAmount(),
+                leadingBid.getBidderId().equals(bidder.getId()),
+                accepted.getBid() != null ? new BidResponse(accepted.getBid()) : null
+        );
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Maximum bid placed successfully", response));
+    }
+
+    @GetMapping("/item/{itemId}/history")
+    public ResponseEntity<ApiResponse<CursorPage<BidResponse>>> getBidHistory(
+            @PathVariable Long itemId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ){
+        CursorPage<BidResponse> responses = bidService.getBidHistory(itemId, cursor, limit)
+                .map(BidResponse::new);
 
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<ApiResponse<List<BidResponse>>> getUserBids(
-            @PathVariable Long userId
+    public ResponseEntity<ApiResponse<CursorPage<BidResponse>>> getUserBids(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
     ){
-        List<Bid> bids = bidService.getUserBid(userId);
-        List<BidResponse> responses = bids.stream()
-                .map(BidResponse::new)
-                .toList();
+        CursorPage<BidResponse> responses = bidService.getUserBid(userId, cursor, limit)
+                .map(BidResponse::new);
 
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
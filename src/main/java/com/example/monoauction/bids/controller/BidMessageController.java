@@ -0,0 +1,72 @@
+package com.example.monoauction.bids.controller;
+
+import com.example.monoauction.bids.dto.BidAckMessage;
+import com.example.monoauction.bids.dto.BidResponse;
+import com.example.monoauction.bids.dto.PlaceBidMessage;
+import com.example.monoauction.bids.service.BidPlacementService;
+import com.example.monoauction.common.execptions.BusinessException;
+import com.example.monoauction.security.StompPrincipal;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.handler.annotation.support.MethodArgumentNotValidException;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Bid placement for clients that already hold a STOMP session: SEND to /app/bid, and the ack or the
+ * rejection comes back on /user/queue/bids. A client-chosen request-id header is echoed back so
+ * replies can be matched to bids.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class BidMessageController {
+
+    private static final String REQUEST_ID_HEADER = "request-id";
+
+    private final BidPlacementService bidPlacementService;
+
+    @MessageMapping("/bid")
+    @SendToUser(value = "/queue/bids", broadcast = false)
+    public CompletableFuture<BidAckMessage> placeBid(
+            @Valid @Payload PlaceBidMessage request,
+            @Header(value = REQUEST_ID_HEADER, required = false) String requestId,
+            Principal principal
+    ){
+        if(!(principal instanceof StompPrincipal bidder)){
+            throw new BusinessException("Authentication Required To Place Bids");
+        }
+        if(bidder.isExpired()){
+            throw new BusinessException("Session Expired, Please Reconnect");
+        }
+
+        return bidPlacementService.placeBid(request.getItemId(), bidder.user(), request.getAmount(), request.getIdempotencyKey())
+                .thenApply(bid -> new BidAckMessage(requestId, true, "Bid placed successfully",
+                        new BidResponse(bid), LocalDateTime.now()));
+    }
+
+    @MessageExceptionHandler
+    @SendToUser(value = "/queue/bids", broadcast = false)
+    public BidAckMessage handleRejection(
+            Throwable ex,
+            @Header(value = REQUEST_ID_HEADER, required = false) String requestId
+    ){
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+
+        String message = cause instanceof MethodArgumentNotValidException invalid && invalid.getBindingResult() != null
+                ? invalid.getBindingResult().getAllErrors().get(0).getDefaultMessage()
+                : cause.getMessage();
+
+        return new BidAckMessage(requestId, false, message, null, LocalDateTime.now());
+    }
+}
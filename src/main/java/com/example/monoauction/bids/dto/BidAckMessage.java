@@ -0,0 +1,18 @@
+package com.example.monoauction.bids.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BidAckMessage {
+    private String requestId;
+    private boolean accepted;
+    private String message;
+    private BidResponse bid;
+    private LocalDateTime timestamp;
+}
@@ -18,4 +18,5 @@ public class BidUpdateMessage {
     private Integer totalBids;
     private LocalDateTime bidTime;
     private String status;
+    private Long seq;
 }
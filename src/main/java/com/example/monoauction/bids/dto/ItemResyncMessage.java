@@ -0,0 +1,18 @@
+package com.example.monoauction.bids.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemResyncMessage {
+    private Long itemId;
+    // Apply live messages with a higher seq than this one on top of the resync
+    private Long seq;
+    private List<Object> deltas;
+    private ItemSnapshotMessage snapshot;
+}
@@ -0,0 +1,22 @@
+package com.example.monoauction.bids.dto;
+
+import com.example.monoauction.common.enums.ItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemSnapshotMessage {
+    private Long itemId;
+    private ItemStatus status;
+    private BigDecimal currentBid;
+    private Integer totalBids;
+    private LocalDateTime auctionEndsAt;
+    private List<BidResponse> recentBids;
+}
@@ -17,4 +17,5 @@ public class ItemStatusUpdateMessage {
     private ItemStatus newStatus;
     private LocalDateTime timestamp;
     private String message;
+    private Long seq;
 }
@@ -0,0 +1,23 @@
+package com.example.monoauction.bids.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceBidMessage {
+    @NotNull(message = "Item is required")
+    private Long itemId;
+
+    @NotNull(message = "Bid Amount is required")
+    @DecimalMin(value = "0.01", message = "Bid Amount must be greater than 0")
+    private BigDecimal amount;
+
+    private String idempotencyKey;
+}
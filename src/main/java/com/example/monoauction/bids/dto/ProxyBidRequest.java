@@ -0,0 +1,18 @@
+package com.example.monoauction.bids.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProxyBidRequest {
+    @NotNull(message = "Maximum Amount is required")
+    @DecimalMin(value = "0.01", message = "Maximum Amount must be greater than 0")
+    private BigDecimal maxAmount;
+}
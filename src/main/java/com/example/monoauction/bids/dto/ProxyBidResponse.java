@@ -0,0 +1,18 @@
+package com.example.monoauction.bids.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProxyBidResponse {
+    private Long itemId;
+    private BigDecimal maxAmount;
+    private BigDecimal currentBid;
+    private boolean leading;
+    private BidResponse bid;
+}
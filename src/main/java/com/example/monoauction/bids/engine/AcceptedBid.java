@@ -0,0 +1,24 @@
+package com.example.monoauction.bids.engine;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.model.ProxyBid;
+import com.example.monoauction.item.model.AuctionItem;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class AcceptedBid {
+    // The caller's own row; null when a leading bidder only raised their proxy maximum
+    private final Bid bid;
+    // Every row produced by the step, in the order they were placed
+    private final List<Bid> bids;
+    private final Bid previousBid;
+    private final Bid leadingBid;
+    private final AuctionItem item;
+    private final int totalBids;
+    // The maximum a proxy step set, journaled with its rows; null for plain bids
+    private final ProxyBid maximum;
+}
@@ -0,0 +1,59 @@
+package com.example.monoauction.bids.engine;
+
+import com.example.monoauction.user.model.User;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+
+// Preallocated ring slot, reused for every command that lands on it
+@Getter
+class BidCommand {
+    enum Type { BID, PROXY, DRAIN, CLOSE }
+
+    private Type type;
+    private Long itemId;
+    private Long batchId;
+    private User bidder;
+    private BigDecimal amount;
+    private String idempotencyKey;
+    private CompletableFuture<AcceptedBid> result;
+
+    void bid(Type type, Long itemId, User bidder, BigDecimal amount, String idempotencyKey,
+             CompletableFuture<AcceptedBid> result) {
+        this.type = type;
+        this.itemId = itemId;
+        this.batchId = null;
+        this.bidder = bidder;
+        this.amount = amount;
+        this.idempotencyKey = idempotencyKey;
+        this.result = result;
+    }
+
+    void drain(Long batchId, CompletableFuture<AcceptedBid> result) {
+        this.type = Type.DRAIN;
+        this.itemId = null;
+        this.batchId = batchId;
+        this.bidder = null;
+        this.amount = null;
+        this.idempotencyKey = null;
+        this.result = result;
+    }
+
+    void close(Long itemId, CompletableFuture<AcceptedBid> result) {
+        this.type = Type.CLOSE;
+        this.itemId = itemId;
+        this.batchId = null;
+        this.bidder = null;
+        this.amount = null;
+        this.idempotencyKey = null;
+        this.result = result;
+    }
+
+    void clear() {
+        this.bidder = null;
+        this.amount = null;
+        this.idempotencyKey = null;
+        this.result = null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.monoauction.bids.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+// Multi-producer, single-consumer ring. Producers claim a sequence with CAS,
+// fill the preallocated slot and publish it; the shard thread is the only reader.
+class BidRingBuffer {
+
+    private final BidCommand[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+
+    BidRingBuffer(int size) {
+        int capacity = Integer.highestOneBit(Math.max(size, 2));
+        this.slots = new BidCommand[capacity];
+        this.published = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new BidCommand();
+            published.set(i, -1);
+        }
+    }
+
+    boolean offer(Consumer<BidCommand> writer) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        writer.accept(slots[index]);
+        published.set(index, sequence);
+        return true;
+    }
+
+    // Number of contiguous published slots from the consumer cursor, capped at max
+    int available(int max) {
+        long next = consumed;
+        int count = 0;
+        while (count < max && published.get((int) ((next + count) & mask)) == next + count) {
+            count++;
+        }
+        return count;
+    }
+
+    BidCommand get(int offset) {
+        return slots[(int) ((consumed + offset) & mask)];
+    }
+
+    // Slots are only handed back once the whole batch has been processed
+    void release(int count) {
+        for (int i = 0; i < count; i++) {
+            get(i).clear();
+        }
+        consumed = consumed + count;
+    }
+}
@@ -0,0 +1,346 @@
+package com.example.monoauction.bids.engine;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.repository.BidRepository;
+import com.example.monoauction.bids.service.ProxyBidService;
+import com.example.monoauction.bids.service.BidNotificationService;
+import com.example.monoauction.common.enums.BidProcessingMode;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.common.execptions.TooManyRequestsException;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.scheduler.service.ItemDeadlineTracker;
+import com.example.monoauction.user.model.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidSequencer {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final AuctionItemRepository itemRepository;
+    private final BidRepository bidRepository;
+    private final BidNotificationService bidNotificationService;
+    private final ProxyBidService proxyBidService;
+    private final ItemDeadlineTracker deadlineTracker;
+    private final BidWriteBehindJournal bidJournal;
+
+    @Value("${auction.bidding.mode:DIRECT}")
+    private BidProcessingMode biddingMode;
+
+    @Value("${auction.bidding.sequencer.shards:4}")
+    private int shardCount;
+
+    @Value("${auction.bidding.sequencer.ring-size:4096}")
+    private int ringSize;
+
+    @Value("${auction.bidding.sequencer.max-batch:256}")
+    private int maxBatch;
+
+    @Value("${auction.bidding.engine.drain-timeout-seconds:30}")
+    private long drainTimeoutSeconds;
+
+    private final Set<Long> drainedBatches = ConcurrentHashMap.newKeySet();
+    private Shard[] shards;
+    private ThreadPoolTaskExecutor notificationExecutor;
+
+    @PostConstruct
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        // Notifications query and publish, so they run behind the shards rather than on them; one thread keeps their order
+        notificationExecutor = new ThreadPoolTaskExecutor();
+        notificationExecutor.setCorePoolSize(1);
+        notificationExecutor.setMaxPoolSize(1);
+        notificationExecutor.setThreadNamePrefix("BidNotify-");
+        notificationExecutor.initialize();
+
+        shards = new Shard[Math.max(shardCount, 1)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(i);
+            shards[i].start();
+        }
+
+        log.info("Bid Sequencer Started With {} Shards", shards.length);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (shards == null) {
+            return;
+        }
+        for (Shard shard : shards) {
+            shard.stop();
+        }
+        notificationExecutor.shutdown();
+    }
+
+    public boolean isEnabled() {
+        return biddingMode == BidProcessingMode.SEQUENCER;
+    }
+
+    public CompletableFuture<Bid> submit(Long itemId, User bidder, BigDecimal amount, String idempotencyKey) {
+        return submit(BidCommand.Type.BID, itemId, bidder, amount, idempotencyKey).thenApply(AcceptedBid::getBid);
+    }
+
+    public CompletableFuture<AcceptedBid> submitProxy(Long itemId, User bidder, BigDecimal maxAmount) {
+        return submit(BidCommand.Type.PROXY, itemId, bidder, maxAmount, null);
+    }
+
+    private CompletableFuture<AcceptedBid> submit(BidCommand.Type type, Long itemId, User bidder, BigDecimal amount,
+                                                  String idempotencyKey) {
+        CompletableFuture<AcceptedBid> result = new CompletableFuture<>();
+        Shard shard = shardFor(itemId);
+
+        if (!shard.ring.offer(command -> command.bid(type, itemId, bidder, amount, idempotencyKey, result))) {
+            result.completeExceptionally(new TooManyRequestsException("Too Many Bids In Progress, Please Retry", 1));
+            return result;
+        }
+
+        shard.wake();
+        return result;
+    }
+
+    public void drainBatch(Long batchId) {
+        if (!isEnabled()) {
+            return;
+        }
+        drainedBatches.add(batchId);
+
+        List<CompletableFuture<AcceptedBid>> barriers = new ArrayList<>();
+        for (Shard shard : shards) {
+            CompletableFuture<AcceptedBid> barrier = new CompletableFuture<>();
+            while (!shard.ring.offer(command -> command.drain(batchId, barrier))) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            shard.wake();
+            barriers.add(barrier);
+        }
+
+        try {
+            CompletableFuture.allOf(barriers.toArray(new CompletableFuture<?>[0]))
+                    .get(drainTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.error("Timed Out Draining Bid Sequencer For Batch {}", batchId, e);
+        }
+        bidJournal.awaitFlushed();
+
+        log.info("Bid Sequencer Drained Batch {}", batchId);
+    }
+
+    public void closeItem(Long itemId) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Shard shard = shardFor(itemId);
+        CompletableFuture<AcceptedBid> closed = new CompletableFuture<>();
+        while (!shard.ring.offer(command -> command.close(itemId, closed))) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        shard.wake();
+
+        try {
+            closed.get(drainTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.error("Timed Out Closing Item {} In Bid Sequencer", itemId, e);
+        }
+        bidJournal.awaitFlushed();
+    }
+
+    private Shard shardFor(Long itemId) {
+        return shards[Math.floorMod(Long.hashCode(itemId), shards.length)];
+    }
+
+    private final class Shard implements Runnable {
+
+        private final BidRingBuffer ring = new BidRingBuffer(ringSize);
+        private final Map<Long, LiveBidBook> books = new HashMap<>();
+        private final List<AcceptedBid> accepted = new ArrayList<>();
+        private final List<CompletableFuture<AcceptedBid>> acceptedResults = new ArrayList<>();
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        Shard(int index) {
+            this.thread = new Thread(this, "BidShard-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        void stop() {
+            running = false;
+            wake();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(drainTimeoutSeconds));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void wake() {
+            LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                int count = ring.available(maxBatch);
+                if (count == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    continue;
+                }
+
+                try {
+                    process(count);
+                } catch (Exception e) {
+                    log.error("Error In Bid Shard {}", thread.getName(), e);
+                } finally {
+                    ring.release(count);
+                }
+            }
+        }
+
+        private void process(int count) {
+            for (int i = 0; i < count; i++) {
+                BidCommand command = ring.get(i);
+
+                if (command.getType() == BidCommand.Type.DRAIN) {
+                    flush();
+                    books.values().removeIf(book -> book.getBatchId().equals(command.getBatchId()));
+                    command.getResult().complete(null);
+                    continue;
+                }
+
+                if (command.getType() == BidCommand.Type.CLOSE) {
+                    flush();
+                    LiveBidBook book = books.remove(command.getItemId());
+                    if (book != null) {
+                        book.close();
+                    }
+                    command.getResult().complete(null);
+                    continue;
+                }
+
+                try {
+                    accepted.add(apply(command));
+                    acceptedResults.add(command.getResult());
+                } catch (Exception e) {
+                    command.getResult().completeExceptionally(e);
+                }
+            }
+
+            flush();
+        }
+
+        private void flush() {
+            if (accepted.isEmpty()) {
+                return;
+            }
+
+            try {
+                List<CompletableFuture<Bid>> persisted = new ArrayList<>(accepted.size());
+                for (AcceptedBid a : accepted) {
+                    persisted.add(append(a));
+                }
+
+                // Each step is answered on its own, so one rejected row never fails bids that were stored
+                for (int i = 0; i < accepted.size(); i++) {
+                    AcceptedBid a = accepted.get(i);
+                    try {
+                        bidJournal.awaitAcknowledgement(persisted.get(i));
+                    } catch (Exception e) {
+                        log.error("Error Persisting Sequenced Bid For Item {}", a.getItem().getId(), e);
+
+                        // The book ran ahead of the database; rebuild it from the last committed state
+                        books.remove(a.getItem().getId());
+                        acceptedResults.get(i).completeExceptionally(
+                                new RuntimeException("Bid Could Not Be Saved, Please Retry"));
+                        continue;
+                    }
+
+                    acceptedResults.get(i).complete(a);
+                    persisted.get(i).thenRunAsync(() -> notifyAccepted(a), notificationExecutor);
+                }
+            } finally {
+                accepted.clear();
+                acceptedResults.clear();
+            }
+        }
+
+        private CompletableFuture<Bid> append(AcceptedBid a) {
+            try {
+                return bidJournal.append(a);
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        private AcceptedBid apply(BidCommand command) {
+            deadlineTracker.ensureOpen(command.getItemId());
+            LiveBidBook book = resolveBook(command.getItemId());
+            AcceptedBid accepted;
+
+            if (command.getType() == BidCommand.Type.PROXY) {
+                accepted = book.acceptProxy(command.getBidder(), command.getAmount());
+            } else {
+                accepted = book.accept(command.getBidder(), command.getAmount(), command.getIdempotencyKey());
+            }
+
+            if (!accepted.getBids().isEmpty()) {
+                deadlineTracker.onBidAccepted(command.getItemId());
+            }
+            return accepted;
+        }
+
+        private void notifyAccepted(AcceptedBid a) {
+            try {
+                bidNotificationService.notifyAccepted(a);
+            } catch (Exception e) {
+                log.error("Error Notifying Bids For Item {}", a.getItem().getId(), e);
+            }
+        }
+
+        private LiveBidBook resolveBook(Long itemId) {
+            LiveBidBook book = books.get(itemId);
+            if (book != null) {
+                return book;
+            }
+
+            AuctionItem item = itemRepository.findById(itemId)
+                    .orElseThrow(() -> new RuntimeException("Item Not Found With These Details"));
+
+            if (item.getStatus() != ItemStatus.LIVE || drainedBatches.contains(item.getBatchId())) {
+                throw new RuntimeException("Item Is Not Available For Bidding");
+            }
+
+            Bid leadingBid = bidRepository.findTopByItemIdOrderByAmountDescIdDesc(itemId).orElse(null);
+            book = new LiveBidBook(item, leadingBid, proxyBidService.getItemMaximums(itemId));
+            books.put(itemId, book);
+            return book;
+        }
+    }
+}
@@ -0,0 +1,649 @@
+package com.example.monoauction.bids.engine;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.model.ProxyBid;
+import com.example.monoauction.common.enums.BidDurabilityMode;
+import com.example.monoauction.common.enums.BidProcessingMode;
+import com.example.monoauction.common.enums.BidStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind persistence for bids accepted by the in-memory engine and the sequencer.
+ * Bids and proxy maximums are queued and a single flusher group-commits them in one transaction.
+ * With ACK_AFTER_ENQUEUE every entry is also appended to a local journal that is replayed on startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidWriteBehindJournal {
+
+    private static final String INSERT_BIDS =
+            "INSERT INTO ah_bids (item_id, bidder_id, amount, status, bid_time, bidder_name, created_at, idempotency_key) VALUES ";
+    private static final String BID_ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int BID_COLUMNS = 8;
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    // The insert is not visible to the outer SELECT, so a replayed row resolves to the existing id
+    private static final String REPLAY_BID =
+            "WITH inserted AS (" +
+            "INSERT INTO ah_bids (item_id, bidder_id, amount, status, bid_time, bidder_name, created_at, idempotency_key) " +
+            "SELECT ?, ?, ?, ?, ?, ?, ?, ? WHERE NOT EXISTS (" +
+            "SELECT 1 FROM ah_bids WHERE item_id = ? AND bidder_id = ? AND amount = ? AND bid_time = ?) " +
+            "RETURNING id) " +
+            "SELECT id FROM inserted UNION ALL " +
+            "SELECT id FROM ah_bids WHERE item_id = ? AND bidder_id = ? AND amount = ? AND bid_time = ? LIMIT 1";
+
+    private static final String MARK_OUTBID =
+            "UPDATE ah_bids SET status = ? WHERE item_id = ? AND status = ? AND id <> ?";
+    // Each column only moves forward on its own; rows of one step can land in different flushes at an equal price
+    private static final String UPDATE_ITEM =
+            "UPDATE ah_auctionitems SET current_bid = GREATEST(current_bid, ?), total_bids = GREATEST(total_bids, ?) " +
+            "WHERE id = ?";
+
+    // A later maximum always wins; the guard keeps a replayed older one from overwriting it
+    private static final String UPSERT_MAXIMUM =
+            "INSERT INTO ah_proxy_bids (item_id, bidder_id, bidder_name, max_amount, max_amount_set_at, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (item_id, bidder_id) DO UPDATE SET " +
+            "bidder_name = EXCLUDED.bidder_name, max_amount = EXCLUDED.max_amount, max_amount_set_at = EXCLUDED.max_amount_set_at " +
+            "WHERE ah_proxy_bids.max_amount_set_at IS NULL OR ah_proxy_bids.max_amount_set_at <= EXCLUDED.max_amount_set_at";
+    private static final String MAXIMUM_MARKER = "P";
+
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${auction.bidding.mode:DIRECT}")
+    private BidProcessingMode biddingMode;
+
+    @Value("${auction.bidding.write-behind.durability:ACK_AFTER_FLUSH}")
+    private BidDurabilityMode durability;
+
+    @Value("${auction.bidding.write-behind.queue-capacity:16384}")
+    private int queueCapacity;
+
+    @Value("${auction.bidding.write-behind.flush-interval-ms:5}")
+    private long flushIntervalMs;
+
+    @Value("${auction.bidding.write-behind.flush-rows:500}")
+    private int flushRows;
+
+    @Value("${auction.bidding.write-behind.journal-file:data/bid-journal.log}")
+    private String journalFile;
+
+    @Value("${auction.bidding.write-behind.fsync:false}")
+    private boolean fsync;
+
+    @Value("${auction.bidding.engine.drain-timeout-seconds:30}")
+    private long drainTimeoutSeconds;
+
+    private final Object journalLock = new Object();
+    private BlockingQueue<Entry> queue;
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService completionExecutor;
+    private FileChannel journal;
+    private Thread flusher;
+    private volatile boolean running;
+    private long journaled;
+    private long flushed;
+    private boolean replayRequired;
+
+    @PostConstruct
+    public void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        replayJournal();
+
+        if (biddingMode != BidProcessingMode.IN_MEMORY && biddingMode != BidProcessingMode.SEQUENCER) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+        if (durability == BidDurabilityMode.ACK_AFTER_ENQUEUE) {
+            openJournal();
+        }
+
+        // Futures are completed on one thread so dependent callbacks run in persisted order
+        completionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "BidFlushAck");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        running = true;
+        flusher = new Thread(this::runFlusher, "BidFlusher");
+        flusher.setDaemon(true);
+        flusher.start();
+
+        log.info("Bid Write-Behind Journal Started With Durability {}", durability);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flusher == null) {
+            return;
+        }
+
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(drainTimeoutSeconds));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        completionExecutor.shutdown();
+        closeJournal();
+    }
+
+    /**
+     * Queues an accepted bid. Blocks while the queue is full. The returned future completes
+     * with the persisted bid (id assigned) once its group commit succeeds.
+     */
+    public CompletableFuture<Bid> append(Bid bid, int totalBids) {
+        // Postgres keeps microseconds; trimming keeps replayed rows comparable to flushed ones
+        bid.setBidTime(bid.getBidTime().truncatedTo(ChronoUnit.MICROS));
+        Entry entry = new Entry(bid, totalBids);
+
+        if (journal != null) {
+            writeJournal(entry);
+        }
+        enqueue(entry);
+        return entry.persisted;
+    }
+
+    // The future of the last row stands for the whole step, rows are flushed in order
+    public CompletableFuture<Bid> append(AcceptedBid accepted) {
+        CompletableFuture<Bid> persisted = CompletableFuture.completedFuture(accepted.getBid());
+        CompletableFuture<Bid> maximum = accepted.getMaximum() != null
+                ? append(accepted.getMaximum())
+                : persisted;
+        for (Bid bid : accepted.getBids()) {
+            persisted = append(bid, accepted.getTotalBids());
+        }
+        // A step whose maximum was lost is not acknowledged, even if its rows were stored
+        return persisted.thenCombine(maximum, (bid, ignored) -> bid);
+    }
+
+    private CompletableFuture<Bid> append(ProxyBid maximum) {
+        maximum.setMaxAmountSetAt(maximum.getMaxAmountSetAt().truncatedTo(ChronoUnit.MICROS));
+        Entry entry = new Entry(maximum);
+
+        if (journal != null) {
+            writeJournal(entry);
+        }
+        enqueue(entry);
+        return entry.persisted;
+    }
+
+    /**
+     * Applies the configured durability mode: with ACK_AFTER_FLUSH the caller waits for the
+     * commit, with ACK_AFTER_ENQUEUE the journal entry is enough to answer the bidder.
+     */
+    public void awaitAcknowledgement(CompletableFuture<Bid> persisted) {
+        if (durability != BidDurabilityMode.ACK_AFTER_FLUSH) {
+            return;
+        }
+
+        try {
+            persisted.get(drainTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Bid Could Not Be Saved, Please Retry");
+        } catch (Exception e) {
+            throw new RuntimeException("Bid Could Not Be Saved, Please Retry");
+        }
+    }
+
+    public void awaitFlushed() {
+        if (flusher == null) {
+            return;
+        }
+
+        Entry barrier = new Entry(null, 0);
+        try {
+            enqueue(barrier);
+            barrier.persisted.get(drainTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.error("Timed Out Waiting For Pending Bids To Flush", e);
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Bid Could Not Be Saved, Please Retry");
+        }
+    }
+
+    private void runFlusher() {
+        List<Entry> batch = new ArrayList<>(flushRows);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Error In Bid Flusher", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Group commit window: flush when the batch is full or the interval since the first bid elapses
+    private void collect(List<Entry> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+
+        while (batch.size() < flushRows) {
+            if (queue.drainTo(batch, flushRows - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<Entry> batch) throws InterruptedException {
+        List<Entry> rows = batch.stream().filter(entry -> !entry.isBarrier()).toList();
+        Map<Entry, Exception> failures = new IdentityHashMap<>();
+
+        Exception failure = writeWithRetry(rows);
+        if (failure instanceof NonTransientDataAccessException) {
+            // A row the database rejects would fail every retry of the whole group, so only the rows are failed
+            writeIsolated(rows, failures);
+        } else if (failure != null) {
+            rows.forEach(entry -> failures.put(entry, failure));
+        }
+
+        markFlushed(rows.size() - failures.size());
+        if (!failures.isEmpty()) {
+            log.error("Dropping {} Of {} Rows From The Flush Queue", failures.size(), rows.size(),
+                    failures.values().iterator().next());
+            synchronized (journalLock) {
+                // Keep the journal so the next startup replays what the database missed
+                replayRequired = true;
+            }
+        }
+
+        List<Entry> completed = List.copyOf(batch);
+        completionExecutor.execute(() -> completed.forEach(entry -> {
+            Exception error = failures.get(entry);
+            if (error != null) {
+                entry.persisted.completeExceptionally(error);
+            } else {
+                entry.persisted.complete(entry.bid);
+            }
+        }));
+    }
+
+    private Exception writeWithRetry(List<Entry> rows) throws InterruptedException {
+        Exception failure = null;
+
+        for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS && !rows.isEmpty(); attempt++) {
+            failure = writeOnce(rows);
+            if (failure == null || failure instanceof NonTransientDataAccessException) {
+                return failure;
+            }
+            log.warn("Flushing {} Rows Failed On Attempt {}", rows.size(), attempt, failure);
+            Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+        }
+        return failure;
+    }
+
+    // Halves are written in order, so item state still follows acceptance order around the rejected rows
+    private void writeIsolated(List<Entry> rows, Map<Entry, Exception> failures) {
+        Exception failure = writeOnce(rows);
+        if (failure == null) {
+            return;
+        }
+        if (rows.size() == 1) {
+            failures.put(rows.get(0), failure);
+            return;
+        }
+
+        int middle = rows.size() / 2;
+        writeIsolated(rows.subList(0, middle), failures);
+        writeIsolated(rows.subList(middle, rows.size()), failures);
+    }
+
+    private Exception writeOnce(List<Entry> rows) {
+        List<Entry> bids = rows.stream().filter(entry -> entry.bid != null).toList();
+        List<ProxyBid> maximums = rows.stream().map(entry -> entry.maximum).filter(Objects::nonNull).toList();
+
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> {
+                saveMaximums(maximums);
+                return write(bids);
+            });
+            for (int i = 0; i < bids.size(); i++) {
+                bids.get(i).bid.setId(ids.get(i));
+            }
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private List<Long> write(List<Entry> bids) {
+        List<Long> ids = new ArrayList<>(bids.size());
+        if (bids.isEmpty()) {
+            return ids;
+        }
+        for (int from = 0; from < bids.size(); from += MAX_ROWS_PER_STATEMENT) {
+            ids.addAll(insertRows(bids.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, bids.size()))));
+        }
+        applyItemState(bids, ids);
+        return ids;
+    }
+
+    private void saveMaximums(List<ProxyBid> maximums) {
+        if (maximums.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(maximums.size());
+        for (ProxyBid maximum : maximums) {
+            Timestamp setAt = Timestamp.valueOf(maximum.getMaxAmountSetAt());
+            args.add(new Object[]{maximum.getItemId(), maximum.getBidderId(), maximum.getBidderName(),
+                    maximum.getMaxAmount(), setAt, setAt});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_MAXIMUM, args);
+    }
+
+    private List<Long> insertRows(List<Entry> rows) {
+        String sql = INSERT_BIDS + String.join(", ", Collections.nCopies(rows.size(), BID_ROW)) + " RETURNING id";
+        Object[] args = new Object[rows.size() * BID_COLUMNS];
+
+        int i = 0;
+        for (Entry row : rows) {
+            Bid bid = row.bid;
+            Timestamp bidTime = Timestamp.valueOf(bid.getBidTime());
+            args[i++] = bid.getItemId();
+            args[i++] = bid.getBidderId();
+            args[i++] = bid.getAmount();
+            args[i++] = bid.getStatus().ordinal();
+            args[i++] = bidTime;
+            args[i++] = bid.getBidderName();
+            args[i++] = bidTime;
+            args[i++] = bid.getIdempotencyKey();
+        }
+
+        return jdbcTemplate.queryForList(sql, Long.class, args);
+    }
+
+    // Only the last bid per item decides the winning row and the item's current price
+    private void applyItemState(List<Entry> bids, List<Long> ids) {
+        Map<Long, Integer> lastPerItem = new LinkedHashMap<>();
+        for (int i = 0; i < bids.size(); i++) {
+            lastPerItem.put(bids.get(i).bid.getItemId(), i);
+        }
+
+        List<Object[]> outbid = new ArrayList<>(lastPerItem.size());
+        List<Object[]> itemState = new ArrayList<>(lastPerItem.size());
+        lastPerItem.forEach((itemId, index) -> {
+            Entry last = bids.get(index);
+            BigDecimal amount = last.bid.getAmount();
+            outbid.add(new Object[]{BidStatus.OUTBID.ordinal(), itemId, BidStatus.WINNING.ordinal(), ids.get(index)});
+            itemState.add(new Object[]{amount, last.totalBids, itemId});
+        });
+
+        jdbcTemplate.batchUpdate(MARK_OUTBID, outbid);
+        jdbcTemplate.batchUpdate(UPDATE_ITEM, itemState);
+    }
+
+    private void writeJournal(Entry entry) {
+        String line = (entry.bid != null ? bidLine(entry) : maximumLine(entry.maximum)) + "\n";
+
+        synchronized (journalLock) {
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    journal.write(buffer);
+                }
+                if (fsync) {
+                    journal.force(false);
+                }
+                journaled++;
+            } catch (IOException e) {
+                log.error("Error Writing Bid Journal", e);
+                throw new RuntimeException("Bid Could Not Be Saved, Please Retry");
+            }
+        }
+    }
+
+    private static String bidLine(Entry entry) {
+        Bid bid = entry.bid;
+        return String.join("\t",
+                bid.getItemId().toString(),
+                bid.getBidderId().toString(),
+                bid.getAmount().toPlainString(),
+                bid.getBidTime().toString(),
+                Integer.toString(entry.totalBids),
+                journalName(bid.getBidderName()),
+                bid.getIdempotencyKey() == null ? "" : bid.getIdempotencyKey());
+    }
+
+    // Six fields behind a marker, so a maximum can never be read as a bid
+    private static String maximumLine(ProxyBid maximum) {
+        return String.join("\t",
+                MAXIMUM_MARKER,
+                maximum.getItemId().toString(),
+                maximum.getBidderId().toString(),
+                maximum.getMaxAmount().toPlainString(),
+                maximum.getMaxAmountSetAt().toString(),
+                journalName(maximum.getBidderName()));
+    }
+
+    private static String journalName(String name) {
+        return name == null ? "" : name.replace('\t', ' ').replace('\n', ' ');
+    }
+
+    private void markFlushed(int count) {
+        if (journal == null) {
+            return;
+        }
+
+        synchronized (journalLock) {
+            flushed += count;
+            if (flushed != journaled || replayRequired) {
+                return;
+            }
+            // Everything journaled so far is committed, so the journal can start over
+            try {
+                journal.truncate(0);
+            } catch (IOException e) {
+                log.error("Error Truncating Bid Journal", e);
+            }
+        }
+    }
+
+    private void openJournal() {
+        try {
+            Path path = Paths.get(journalFile);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            journal = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could Not Open Bid Journal " + journalFile, e);
+        }
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            log.error("Error Closing Bid Journal", e);
+        }
+    }
+
+    private void replayJournal() {
+        Path path = Paths.get(journalFile);
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        try {
+            List<Entry> entries = new ArrayList<>();
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                Entry entry = parseJournalLine(line);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+
+            if (!entries.isEmpty()) {
+                List<Entry> bids = entries.stream().filter(entry -> entry.bid != null).toList();
+                List<ProxyBid> maximums = entries.stream().map(entry -> entry.maximum).filter(Objects::nonNull).toList();
+                transactionTemplate.executeWithoutResult(status -> {
+                    saveMaximums(maximums);
+                    List<Long> ids = new ArrayList<>(bids.size());
+                    for (Entry entry : bids) {
+                        ids.add(replayBid(entry.bid));
+                    }
+                    if (!bids.isEmpty()) {
+                        applyItemState(bids, ids);
+                    }
+                });
+                log.info("Replayed {} Journaled Bids And {} Proxy Maximums", bids.size(), maximums.size());
+            }
+
+            Files.write(path, new byte[0]);
+        } catch (Exception e) {
+            // Leave the journal in place; replay is idempotent and will be retried on the next start
+            log.error("Error Replaying Bid Journal {}", journalFile, e);
+            replayRequired = true;
+        }
+    }
+
+    private Long replayBid(Bid bid) {
+        Timestamp bidTime = Timestamp.valueOf(bid.getBidTime());
+        return jdbcTemplate.queryForObject(REPLAY_BID, Long.class,
+                bid.getItemId(), bid.getBidderId(), bid.getAmount(), bid.getStatus().ordinal(),
+                bidTime, bid.getBidderName(), bidTime, bid.getIdempotencyKey(),
+                bid.getItemId(), bid.getBidderId(), bid.getAmount(), bidTime,
+                bid.getItemId(), bid.getBidderId(), bid.getAmount(), bidTime);
+    }
+
+    private Entry parseJournalLine(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length == 6 && MAXIMUM_MARKER.equals(fields[0])) {
+            return parseMaximumLine(fields);
+        }
+        if (fields.length != 7) {
+            // A torn last line from a crash mid-write was never acknowledged
+            log.warn("Skipping Incomplete Bid Journal Line");
+            return null;
+        }
+
+        try {
+            Bid bid = Bid.builder()
+                    .itemId(Long.valueOf(fields[0]))
+                    .bidderId(Long.valueOf(fields[1]))
+                    .amount(new BigDecimal(fields[2]))
+                    .status(BidStatus.WINNING)
+                    .bidTime(LocalDateTime.parse(fields[3]))
+                    .bidderName(fields[5].isEmpty() ? null : fields[5])
+                    .idempotencyKey(fields[6].isEmpty() ? null : fields[6])
+                    .build();
+            return new Entry(bid, Integer.parseInt(fields[4]));
+        } catch (RuntimeException e) {
+            log.warn("Skipping Malformed Bid Journal Line");
+            return null;
+        }
+    }
+
+    private Entry parseMaximumLine(String[] fields) {
+        try {
+            ProxyBid maximum = ProxyBid.builder()
+                    .itemId(Long.valueOf(fields[1]))
+                    .bidderId(Long.valueOf(fields[2]))
+                    .maxAmount(new BigDecimal(fields[3]))
+                    .maxAmountSetAt(LocalDateTime.parse(fields[4]))
+                    .bidderName(fields[5].isEmpty() ? null : fields[5])
+                    .build();
+            return new Entry(maximum);
+        } catch (RuntimeException e) {
+            log.warn("Skipping Malformed Bid Journal Line");
+            return null;
+        }
+    }
+
+    // Carries either a bid row or a proxy maximum; a barrier carries neither
+    private static final class Entry {
+        private final Bid bid;
+        private final int totalBids;
+        private final ProxyBid maximum;
+        private final CompletableFuture<Bid> persisted = new CompletableFuture<>();
+
+        private Entry(Bid bid, int totalBids) {
+            this.bid = bid;
+            this.totalBids = totalBids;
+            this.maximum = null;
+        }
+
+        private Entry(ProxyBid maximum) {
+            this.bid = null;
+            this.totalBids = 0;
+            this.maximum = maximum;
+        }
+
+        private boolean isBarrier() {
+            return bid == null && maximum == null;
+        }
+    }
+}
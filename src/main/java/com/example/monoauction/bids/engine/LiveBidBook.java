@@ -0,0 +1,228 @@
+package com.example.monoauction.bids.engine;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.model.ProxyBid;
+import com.example.monoauction.common.enums.BidStatus;
+import com.example.monoauction.common.money.Money;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.user.model.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class LiveBidBook {
+    private final Long itemId;
+    private final Long batchId;
+    private final Long sellerId;
+    // Amounts are kept in cents; BigDecimal only appears on the rows handed to the journal
+    private final long startingPriceCents;
+    private final long bidIncrementCents;
+    private final AuctionItem item;
+
+    private long currentBidCents;
+    private int totalBids;
+    private Bid leadingBid;
+    private boolean closed;
+
+    // Hidden maximums in the order they were set; iteration order breaks ties
+    @Getter(AccessLevel.NONE)
+    private final Map<Long, Proxy> proxies = new LinkedHashMap<>();
+
+    public LiveBidBook(AuctionItem item, Bid leadingBid, List<ProxyBid> proxyBids) {
+        this.itemId = item.getId();
+        this.batchId = item.getBatchId();
+        this.sellerId = item.getSellerId();
+        this.startingPriceCents = Money.toCents(item.getStartingPrice());
+        this.bidIncrementCents = Money.toCents(item.getBidIncrement());
+        this.item = detachedCopy(item);
+        this.currentBidCents = Money.toCentsOrNone(item.getCurrentBid());
+        this.totalBids = item.getTotalBids() != null ? item.getTotalBids() : 0;
+        this.leadingBid = leadingBid;
+
+        for (ProxyBid proxyBid : proxyBids) {
+            registerProxy(proxyBid.getBidderId(), proxyBid.getBidderName(), Money.toCents(proxyBid.getMaxAmount()));
+        }
+    }
+
+    public BigDecimal minimumBid() {
+        return Money.toBigDecimal(minimumBidCents());
+    }
+
+    long minimumBidCents() {
+        return currentBidCents != Money.NONE
+                ? currentBidCents + bidIncrementCents
+                : startingPriceCents;
+    }
+
+    AcceptedBid accept(User bidder, BigDecimal bidAmount, String idempotencyKey) {
+        long amountCents = Money.toCents(bidAmount);
+        ensureOpenFor(bidder);
+        requireMinimum(amountCents);
+        AcceptedBid accepted = resolve(bidder.getId(), bidder.getFullName(), amountCents, null);
+        accepted.getBid().setIdempotencyKey(idempotencyKey);
+        return accepted;
+    }
+
+    private void validateProxy(User bidder, long maxCents) {
+        ensureOpenFor(bidder);
+
+        Proxy existing = proxies.get(bidder.getId());
+        if (existing != null && maxCents <= existing.maxCents()) {
+            throw new RuntimeException("Maximum Bid Must Be Higher Than Your Current Maximum");
+        }
+
+        if (isLeader(bidder.getId())) {
+            if (maxCents <= currentBidCents) {
+                throw new RuntimeException("Maximum Bid Must Be Higher Than The Current Bid");
+            }
+        } else {
+            requireMinimum(maxCents);
+        }
+    }
+
+    AcceptedBid acceptProxy(User bidder, BigDecimal maxAmount) {
+        long maxCents = Money.toCents(maxAmount);
+        validateProxy(bidder, maxCents);
+        boolean leading = isLeader(bidder.getId());
+        registerProxy(bidder.getId(), bidder.getFullName(), maxCents);
+        ProxyBid maximum = ProxyBid.builder()
+                .itemId(itemId)
+                .bidderId(bidder.getId())
+                .bidderName(bidder.getFullName())
+                .maxAmount(Money.toBigDecimal(maxCents))
+                .maxAmountSetAt(LocalDateTime.now())
+                .build();
+
+        // A leader only raises the hidden maximum; it never bids against itself
+        if (leading) {
+            return new AcceptedBid(null, List.of(), leadingBid, leadingBid, item, totalBids, maximum);
+        }
+        return resolve(bidder.getId(), bidder.getFullName(), maxCents, maximum);
+    }
+
+    void close() {
+        this.closed = true;
+    }
+
+    /**
+     * Resolves the whole proxy war in one step. Only the two strongest maximums matter, so at most
+     * two rows come out: the loser's final amount and the winner's price one increment above it.
+     */
+    private AcceptedBid resolve(Long bidderId, String bidderName, long amountCents, ProxyBid maximum) {
+        boolean proxy = maximum != null;
+        Bid previousBid = leadingBid;
+        List<Bid> bids = new ArrayList<>(2);
+        Proxy rival = strongestRival(bidderId);
+        Bid own;
+
+        if (rival == null) {
+            own = record(bids, bidderId, bidderName, proxy ? minimumBidCents() : amountCents, BidStatus.WINNING);
+        } else if (rival.maxCents() >= amountCents) {
+            own = record(bids, bidderId, bidderName, amountCents, BidStatus.OUTBID);
+            record(bids, rival.bidderId(), rival.bidderName(),
+                    Math.min(rival.maxCents(), amountCents + bidIncrementCents), BidStatus.WINNING);
+        } else {
+            record(bids, rival.bidderId(), rival.bidderName(), rival.maxCents(), BidStatus.OUTBID);
+            own = record(bids, bidderId, bidderName,
+                    proxy ? Math.min(amountCents, rival.maxCents() + bidIncrementCents) : amountCents, BidStatus.WINNING);
+        }
+
+        return new AcceptedBid(own, bids, previousBid, leadingBid, item, totalBids, maximum);
+    }
+
+    // Earliest maximum wins ties; exhausted maximums no longer take part
+    private Proxy strongestRival(Long bidderId) {
+        long minimumBid = minimumBidCents();
+        Proxy strongest = null;
+
+        for (Proxy proxy : proxies.values()) {
+            if (proxy.bidderId().equals(bidderId) || proxy.maxCents() < minimumBid) {
+                continue;
+            }
+            if (strongest == null || proxy.maxCents() > strongest.maxCents()) {
+                strongest = proxy;
+            }
+        }
+        return strongest;
+    }
+
+    private Bid record(List<Bid> bids, Long bidderId, String bidderName, long amountCents, BidStatus status) {
+        BigDecimal amount = Money.toBigDecimal(amountCents);
+        Bid bid = new Bid();
+        bid.setItemId(itemId);
+        bid.setBidderId(bidderId);
+        bid.setAmount(amount);
+        bid.setStatus(status);
+        // Rows of one step keep their placement order in bid-time history
+        bid.setBidTime(LocalDateTime.now().plus(bids.size(), ChronoUnit.MICROS));
+        bid.setBidderName(bidderName);
+
+        if (status == BidStatus.WINNING) {
+            this.leadingBid = bid;
+        }
+        this.currentBidCents = amountCents;
+        this.totalBids++;
+
+        item.setCurrentBid(amount);
+        item.setTotalBids(totalBids);
+        bids.add(bid);
+        return bid;
+    }
+
+    private void registerProxy(Long bidderId, String bidderName, long maxCents) {
+        proxies.remove(bidderId);
+        proxies.put(bidderId, new Proxy(bidderId, bidderName, maxCents));
+    }
+
+    private boolean isLeader(Long bidderId) {
+        return leadingBid != null && leadingBid.getBidderId().equals(bidderId);
+    }
+
+    private void ensureOpenFor(User bidder) {
+        if (closed) {
+            throw new RuntimeException("Item Is Not Available For Bidding");
+        }
+
+        if (sellerId.equals(bidder.getId())) {
+            throw new RuntimeException("You Cannot Bid On Your Own Items");
+        }
+    }
+
+    private void requireMinimum(long amountCents) {
+        long minimumBid = minimumBidCents();
+        if (amountCents < minimumBid) {
+            throw new RuntimeException("Bid must be at least " + Money.toBigDecimal(minimumBid));
+        }
+    }
+
+    private record Proxy(Long bidderId, String bidderName, long maxCents) {
+    }
+
+    // The book never holds a managed entity, otherwise dirty checking would write it back
+    private static AuctionItem detachedCopy(AuctionItem item) {
+        return AuctionItem.builder()
+                .id(item.getId())
+                .batchId(item.getBatchId())
+                .sellerId(item.getSellerId())
+                .title(item.getTitle())
+                .description(item.getDescription())
+                .category(item.getCategory())
+                .imageUrls(item.getImageUrls())
+                .startingPrice(item.getStartingPrice())
+                .reservePrice(item.getReservePrice())
+                .currentBid(item.getCurrentBid())
+                .bidIncrement(item.getBidIncrement())
+                .status(item.getStatus())
+                .totalBids(item.getTotalBids())
+                .auctionStartedAt(item.getAuctionStartedAt())
+                .build();
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.monoauction.bids.engine;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.model.ProxyBid;
+import com.example.monoauction.bids.repository.BidRepository;
+import com.example.monoauction.bids.service.ProxyBidService;
+import com.example.monoauction.common.enums.BidProcessingMode;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.scheduler.service.ItemDeadlineTracker;
+import com.example.monoauction.user.model.User;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveBidEngine {
+
+    private final AuctionItemRepository itemRepository;
+    private final BidRepository bidRepository;
+    private final BidWriteBehindJournal bidJournal;
+    private final ProxyBidService proxyBidService;
+    private final ItemDeadlineTracker deadlineTracker;
+
+    @Value("${auction.bidding.mode:DIRECT}")
+    private BidProcessingMode biddingMode;
+
+    @Value("${auction.bidding.engine.lock-stripes:64}")
+    private int lockStripes;
+
+    private final Map<Long, LiveBidBook> books = new ConcurrentHashMap<>();
+    private final Set<Long> drainedBatches = ConcurrentHashMap.newKeySet();
+    private ReentrantLock[] locks;
+
+    @PostConstruct
+    public void init() {
+        int stripes = Integer.highestOneBit(Math.max(lockStripes, 1));
+        locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public void loadBatch(Long batchId, List<Long> itemIds) {
+        if (biddingMode != BidProcessingMode.IN_MEMORY) {
+            return;
+        }
+        drainedBatches.remove(batchId);
+        List<AuctionItem> liveItems = itemRepository.findAllById(itemIds);
+        Map<Long, List<ProxyBid>> proxyBids = proxyBidService.getItemMaximums(
+                liveItems.stream().map(AuctionItem::getId).toList());
+
+        for (AuctionItem item : liveItems) {
+            ReentrantLock lock = lockFor(item.getId());
+            lock.lock();
+            try {
+                Bid leadingBid = bidRepository.findTopByItemIdOrderByAmountDescIdDesc(item.getId()).orElse(null);
+                books.put(item.getId(), new LiveBidBook(item, leadingBid,
+                        proxyBids.getOrDefault(item.getId(), List.of())));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        log.info("Live Bid Engine Loaded {} Items", liveItems.size());
+    }
+
+    public void drainBatch(Long batchId) {
+        if (biddingMode != BidProcessingMode.IN_MEMORY) {
+            return;
+        }
+        drainedBatches.add(batchId);
+        int closed = 0;
+
+        for (LiveBidBook book : books.values()) {
+            if (!book.getBatchId().equals(batchId)) {
+                continue;
+            }
+
+            ReentrantLock lock = lockFor(book.getItemId());
+            lock.lock();
+            try {
+                book.close();
+                books.remove(book.getItemId());
+                closed++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        bidJournal.awaitFlushed();
+
+        log.info("Live Bid Engine Drained {} Items For Batch {}", closed, batchId);
+    }
+
+    public void closeItem(Long itemId) {
+        if (biddingMode != BidProcessingMode.IN_MEMORY) {
+            return;
+        }
+
+        ReentrantLock lock = lockFor(itemId);
+        lock.lock();
+        try {
+            LiveBidBook book = books.remove(itemId);
+            if (book != null) {
+                book.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        bidJournal.awaitFlushed();
+    }
+
+    public boolean isLive(Long itemId) {
+        return resolveBook(itemId).isPresent();
+    }
+
+    public Optional<BigDecimal> getMinimumBid(Long itemId) {
+        return resolveBook(itemId).map(LiveBidBook::minimumBid);
+    }
+
+    public Optional<Bid> getLeadingBid(Long itemId) {
+        return resolveBook(itemId).map(LiveBidBook::getLeadingBid);
+    }
+
+    public AcceptedBid placeBid(Long itemId, User bidder, BigDecimal bidAmount, String idempotencyKey,
+                                Consumer<AcceptedBid> afterPersist) {
+        return apply(itemId, book -> book.accept(bidder, bidAmount, idempotencyKey), afterPersist);
+    }
+
+    public AcceptedBid placeProxyBid(Long itemId, User bidder, BigDecimal maxAmount, Consumer<AcceptedBid> afterPersist) {
+        return apply(itemId, book -> book.acceptProxy(bidder, maxAmount), afterPersist);
+    }
+
+    private AcceptedBid apply(Long itemId, Function<LiveBidBook, AcceptedBid> step, Consumer<AcceptedBid> afterPersist) {
+        LiveBidBook book = resolveBook(itemId)
+                .orElseThrow(() -> new RuntimeException("Item Is Not Available For Bidding"));
+
+        AcceptedBid accepted;
+        CompletableFuture<Bid> persisted;
+
+        ReentrantLock lock = lockFor(itemId);
+        lock.lock();
+        try {
+            deadlineTracker.ensureOpen(itemId);
+            accepted = step.apply(book);
+            if (!accepted.getBids().isEmpty()) {
+                deadlineTracker.onBidAccepted(itemId);
+            }
+
+            // Appended under the item lock so the journal sees bids in acceptance order
+            persisted = bidJournal.append(accepted);
+        } finally {
+            lock.unlock();
+        }
+
+        persisted.whenComplete((bid, error) -> {
+            if (error != null) {
+                log.error("Error Persisting Bids For Item {}", itemId, error);
+            } else if (afterPersist != null) {
+                afterPersist.accept(accepted);
+            }
+        });
+
+        try {
+            bidJournal.awaitAcknowledgement(persisted);
+        } catch (RuntimeException e) {
+            // The book ran ahead of the database; closed first so no bid lands on it before it is rebuilt
+            lock.lock();
+            try {
+                book.close();
+                books.remove(itemId, book);
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+
+        return accepted;
+    }
+
+    private Optional<LiveBidBook> resolveBook(Long itemId) {
+        LiveBidBook book = books.get(itemId);
+        if (book != null) {
+            return Optional.of(book);
+        }
+
+        // Lazily rebuild after a restart in the middle of a live auction
+        ReentrantLock lock = lockFor(itemId);
+        lock.lock();
+        try {
+            book = books.get(itemId);
+            if (book == null) {
+                AuctionItem item = itemRepository.findById(itemId).orElse(null);
+                if (item == null || item.getStatus() != ItemStatus.LIVE
+                        || drainedBatches.contains(item.getBatchId())) {
+                    return Optional.empty();
+                }
+                Bid leadingBid = bidRepository.findTopByItemIdOrderByAmountDescIdDesc(itemId).orElse(null);
+                book = new LiveBidBook(item, leadingBid, proxyBidService.getItemMaximums(itemId));
+                books.put(itemId, book);
+            }
+            return Optional.of(book);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(Long itemId) {
+        return locks[Long.hashCode(itemId) & (locks.length - 1)];
+    }
+}
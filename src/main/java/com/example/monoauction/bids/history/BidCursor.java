@@ -0,0 +1,31 @@
+package com.example.monoauction.bids.history;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.common.execptions.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// Opaque keyset position on (bid_time, id); clients only ever hand it back
+public record BidCursor(LocalDateTime bidTime, Long id) {
+
+    public static BidCursor of(Bid bid) {
+        return new BidCursor(bid.getBidTime(), bid.getId());
+    }
+
+    public String encode() {
+        String raw = bidTime + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BidCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int comma = raw.indexOf(',');
+            return new BidCursor(LocalDateTime.parse(raw.substring(0, comma)), Long.valueOf(raw.substring(comma + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid Cursor");
+        }
+    }
+}
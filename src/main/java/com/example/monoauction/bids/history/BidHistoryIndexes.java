@@ -0,0 +1,32 @@
+package com.example.monoauction.bids.history;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bidder history pages on (bidder_id, bid_time DESC, id DESC), which Hibernate adds as
+ * idx_bid_bidder_time_id. Schema update never drops indexes, so the (bidder_id, bid_time DESC)
+ * index it replaces is dropped here once the new one is in place.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidHistoryIndexes {
+
+    private static final String DROP_BIDDER_TIME_INDEX = "DROP INDEX IF EXISTS idx_batch_bidder_time";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void dropReplacedIndexes() {
+        try {
+            jdbcTemplate.execute(DROP_BIDDER_TIME_INDEX);
+        } catch (Exception e) {
+            log.error("Error Dropping Replaced Bid Index", e);
+        }
+    }
+}
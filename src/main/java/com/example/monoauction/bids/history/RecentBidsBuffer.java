@@ -0,0 +1,197 @@
+package com.example.monoauction.bids.history;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.common.enums.BidStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Last N bids of every LIVE item that has been read, newest first, so the first history page of a
+ * busy item never reaches Postgres. Rings are seeded lazily from the database, kept current as bids
+ * are accepted and dropped when the item settles.
+ */
+@Slf4j
+@Component
+public class RecentBidsBuffer {
+
+    // Newest first, matching ORDER BY bid_time DESC, id DESC
+    private static final Comparator<Bid> NEWEST_FIRST = Comparator
+            .comparing(Bid::getBidTime)
+            .thenComparing(Bid::getId)
+            .reversed();
+
+    @Value("${auction.bidding.history.recent-size:50}")
+    private int capacity;
+
+    private final Map<Long, ItemRing> rings = new ConcurrentHashMap<>();
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Optional<List<Bid>> firstPage(Long itemId, int limit) {
+        ItemRing ring = rings.get(itemId);
+        return ring == null ? Optional.empty() : ring.firstPage(limit);
+    }
+
+    // The ring is registered before loading so bids accepted meanwhile are not lost; the merge drops duplicates
+    public void seed(Long itemId, Supplier<List<Bid>> loader) {
+        ItemRing ring = rings.computeIfAbsent(itemId, id -> new ItemRing(capacity));
+        if (ring.isReady()) {
+            return;
+        }
+
+        List<Bid> newest = loader.get();
+        ring.seed(newest, newest.size() < capacity);
+    }
+
+    public void record(List<Bid> bids) {
+        for (Bid bid : bids) {
+            if (bid.getId() == null) {
+                continue;
+            }
+            ItemRing ring = rings.get(bid.getItemId());
+            if (ring != null) {
+                ring.add(bid);
+            }
+        }
+    }
+
+    public void release(Long itemId) {
+        rings.remove(itemId);
+    }
+
+    private static Bid snapshot(Bid bid) {
+        return Bid.builder()
+                .id(bid.getId())
+                .itemId(bid.getItemId())
+                .bidderId(bid.getBidderId())
+                .amount(bid.getAmount())
+                .status(bid.getStatus())
+                .bidTime(bid.getBidTime())
+                .bidderName(bid.getBidderName())
+                .build();
+    }
+
+    private static final class ItemRing {
+        private final Bid[] slots;
+        private int start;
+        private int count;
+        private boolean ready;
+        // A seed shorter than the ring is the item's whole history, so a short ring is still a full answer
+        private boolean wholeHistory;
+        private boolean overflowed;
+
+        ItemRing(int capacity) {
+            this.slots = new Bid[Math.max(capacity, 1)];
+        }
+
+        synchronized boolean isReady() {
+            return ready;
+        }
+
+        synchronized void seed(List<Bid> newest, boolean wholeHistory) {
+            if (ready) {
+                return;
+            }
+            for (Bid bid : newest) {
+                insert(bid);
+            }
+            keepOnlyNewestWinning();
+            this.wholeHistory = wholeHistory;
+            ready = true;
+        }
+
+        synchronized void add(Bid bid) {
+            insert(bid);
+            if (bid.getStatus() == BidStatus.WINNING) {
+                keepOnlyNewestWinning();
+            }
+        }
+
+        synchronized Optional<List<Bid>> firstPage(int limit) {
+            // One extra row tells whether a next page exists without asking the database
+            if (!ready || limit > slots.length || (count <= limit && (!wholeHistory || overflowed))) {
+                return Optional.empty();
+            }
+
+            int size = Math.min(count, limit + 1);
+            List<Bid> page = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                page.add(snapshot(get(i)));
+            }
+            return Optional.of(page);
+        }
+
+        private Bid get(int index) {
+            return slots[(start + index) % slots.length];
+        }
+
+        private void set(int index, Bid bid) {
+            slots[(start + index) % slots.length] = bid;
+        }
+
+        private void insert(Bid bid) {
+            int position = 0;
+            while (position < count) {
+                Bid existing = get(position);
+                if (existing.getId().equals(bid.getId())) {
+                    return;
+                }
+                if (NEWEST_FIRST.compare(bid, existing) < 0) {
+                    break;
+                }
+                position++;
+            }
+
+            if (position == 0) {
+                // The common case: the newest bid takes the slot of the oldest once the ring is full
+                start = (start - 1 + slots.length) % slots.length;
+                slots[start] = snapshot(bid);
+                if (count < slots.length) {
+                    count++;
+                } else {
+                    overflowed = true;
+                }
+                return;
+            }
+
+            if (count == slots.length) {
+                overflowed = true;
+                if (position == count) {
+                    return;
+                }
+            } else {
+                count++;
+            }
+            for (int i = count - 1; i > position; i--) {
+                set(i, get(i - 1));
+            }
+            set(position, snapshot(bid));
+        }
+
+        // Mirrors the database, where accepting a bid marks every other winning row of the item outbid
+        private void keepOnlyNewestWinning() {
+            boolean seenWinning = false;
+            for (int i = 0; i < count; i++) {
+                Bid bid = get(i);
+                if (bid.getStatus() != BidStatus.WINNING) {
+                    continue;
+                }
+                if (seenWinning) {
+                    bid.setStatus(BidStatus.OUTBID);
+                }
+                seenWinning = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.monoauction.bids.idempotency;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.repository.BidRepository;
+import com.example.monoauction.common.execptions.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Deduplicates bid placements carrying an Idempotency-Key. A retry joins the original request's
+ * result, even while it is still in flight, so it never reaches the bid path twice. Entries expire
+ * after a TTL and the map is bounded; anything that falls out of it is still caught by the unique
+ * (bidder_id, idempotency_key) constraint on ah_bids.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidIdempotencyCache {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_.:-]{1,64}");
+
+    private final BidRepository bidRepository;
+
+    @Value("${auction.bidding.idempotency.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${auction.bidding.idempotency.max-entries:50000}")
+    private int maxEntries;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    public CompletableFuture<Bid> execute(Long bidderId, String idempotencyKey, Supplier<CompletableFuture<Bid>> placement) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return placement.get();
+        }
+        if (!KEY_PATTERN.matcher(idempotencyKey).matches()) {
+            throw new BusinessException("Invalid Idempotency Key");
+        }
+
+        Key key = new Key(bidderId, idempotencyKey);
+        long now = System.currentTimeMillis();
+        Entry entry = new Entry(new CompletableFuture<>(), now + TimeUnit.SECONDS.toMillis(ttlSeconds));
+
+        Entry existing = entries.putIfAbsent(key, entry);
+        while (existing != null) {
+            if (existing.expiresAtMillis > now) {
+                log.debug("Replaying Bid For Idempotency Key {} Of Bidder {}", idempotencyKey, bidderId);
+                return existing.result;
+            }
+            existing = entries.replace(key, existing, entry) ? null : entries.putIfAbsent(key, entry);
+        }
+        evictIfFull(now);
+
+        try {
+            // Past the TTL, or after a restart, the database still knows the key
+            Optional<Bid> stored = bidRepository.findByBidderIdAndIdempotencyKey(bidderId, idempotencyKey);
+            if (stored.isPresent()) {
+                entry.result.complete(stored.get());
+                return entry.result;
+            }
+
+            CompletableFuture<Bid> placed;
+            try {
+                placed = placement.get();
+            } catch (RuntimeException e) {
+                placed = CompletableFuture.failedFuture(e);
+            }
+
+            placed.whenComplete((bid, error) -> {
+                if (error == null) {
+                    entry.result.complete(bid);
+                    return;
+                }
+
+                // Losing the unique-key race to a request that was evicted from the cache still resolves to its bid
+                Optional<Bid> original = findQuietly(bidderId, idempotencyKey);
+                if (original.isPresent()) {
+                    entry.result.complete(original.get());
+                    return;
+                }
+
+                fail(key, entry, error);
+            });
+        } catch (Exception e) {
+            // Retries already joined to the entry must not wait on a future nothing will complete
+            fail(key, entry, e);
+        }
+
+        return entry.result;
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+    }
+
+    // In-flight entries are kept so concurrent retries keep joining them; completed ones fall back to the database
+    private void evictIfFull(long now) {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+        if (entries.size() > maxEntries) {
+            entries.values().removeIf(entry -> entry.result.isDone());
+        }
+    }
+
+    // A failed bid is not remembered, so the client can retry it with the same key
+    private void fail(Key key, Entry entry, Throwable error) {
+        entries.remove(key, entry);
+        entry.result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error);
+    }
+
+    private Optional<Bid> findQuietly(Long bidderId, String idempotencyKey) {
+        try {
+            return bidRepository.findByBidderIdAndIdempotencyKey(bidderId, idempotencyKey);
+        } catch (Exception e) {
+            log.error("Error Looking Up Idempotency Key {} Of Bidder {}", idempotencyKey, bidderId, e);
+            return Optional.empty();
+        }
+    }
+
+    private record Key(Long bidderId, String idempotencyKey) {
+    }
+
+    private record Entry(CompletableFuture<Bid> result, long expiresAtMillis) {
+    }
+}
@@ -15,8 +15,11 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "ah_bids", indexes = {
         @Index(name = "idx_batch_item_amount", columnList = "item_id, amount DESC"),
-        @Index(name = "idx_batch_bidder_time", columnList = "bidder_id, bid_time DESC"),
-        @Index(name = "idx_batch_item_status", columnList = "item_id, status")})
+        @Index(name = "idx_bid_bidder_time_id", columnList = "bidder_id, bid_time DESC, id DESC"),
+        @Index(name = "idx_bid_item_time_id", columnList = "item_id, bid_time DESC, id DESC"),
+        @Index(name = "idx_batch_item_status", columnList = "item_id, status")},
+        uniqueConstraints = @UniqueConstraint(name = "uk_bid_bidder_idempotency",
+                columnNames = {"bidder_id", "idempotency_key"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -44,6 +47,9 @@ public class Bid {
 
     private String userAgent;
 
+    @Column(length = 64)
+    private String idempotencyKey;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,40 @@
+package com.example.monoauction.bids.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ah_proxy_bids",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"item_id", "bidder_id"}),
+        indexes = @Index(name = "idx_proxy_item", columnList = "item_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProxyBid {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long itemId;
+
+    private Long bidderId;
+
+    private String bidderName;
+
+    private BigDecimal maxAmount;
+
+    // Ties between equal maximums go to whoever reached that maximum first
+    private LocalDateTime maxAmountSetAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,135 @@
+package com.example.monoauction.bids.ratelimit;
+
+import com.example.monoauction.common.enums.BidPhase;
+import com.example.monoauction.common.execptions.TooManyRequestsException;
+import com.example.monoauction.scheduler.service.ItemDeadlineTracker;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-bidder and per-item admission control for bid placement. Runs before any repository call
+ * so a rejected request costs a map lookup and a CAS.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidRateLimiter {
+
+    private final ItemDeadlineTracker deadlineTracker;
+
+    @Value("${auction.bidding.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auction.bidding.rate-limit.max-tracked-keys:100000}")
+    private int maxTrackedKeys;
+
+    @Value("${auction.bidding.rate-limit.closing-window-seconds:300}")
+    private long closingWindowSeconds;
+
+    @Value("${auction.bidding.rate-limit.open.bidder-per-second:2}")
+    private double openBidderRate;
+
+    @Value("${auction.bidding.rate-limit.open.bidder-burst:5}")
+    private int openBidderBurst;
+
+    @Value("${auction.bidding.rate-limit.open.item-per-second:50}")
+    private double openItemRate;
+
+    @Value("${auction.bidding.rate-limit.open.item-burst:100}")
+    private int openItemBurst;
+
+    @Value("${auction.bidding.rate-limit.closing.bidder-per-second:1}")
+    private double closingBidderRate;
+
+    @Value("${auction.bidding.rate-limit.closing.bidder-burst:3}")
+    private int closingBidderBurst;
+
+    @Value("${auction.bidding.rate-limit.closing.item-per-second:200}")
+    private double closingItemRate;
+
+    @Value("${auction.bidding.rate-limit.closing.item-burst:400}")
+    private int closingItemBurst;
+
+    private final Map<Long, TokenBucket> bidderBuckets = new ConcurrentHashMap<>();
+    private final Map<Long, TokenBucket> itemBuckets = new ConcurrentHashMap<>();
+    private final Map<BidPhase, Limits> limits = new EnumMap<>(BidPhase.class);
+
+    @PostConstruct
+    public void init() {
+        limits.put(BidPhase.OPEN, new Limits(
+                intervalNanos(openBidderRate), openBidderBurst, intervalNanos(openItemRate), openItemBurst));
+        limits.put(BidPhase.CLOSING, new Limits(
+                intervalNanos(closingBidderRate), closingBidderBurst, intervalNanos(closingItemRate), closingItemBurst));
+    }
+
+    public void acquire(Long bidderId, Long itemId) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        Limits phaseLimits = limits.get(phaseOf(itemId));
+
+        TokenBucket bidderBucket = take(bidderBuckets, bidderId, now, phaseLimits.bidderIntervalNanos(),
+                phaseLimits.bidderBurst(), "Too Many Bids, Please Slow Down");
+        try {
+            take(itemBuckets, itemId, now, phaseLimits.itemIntervalNanos(), phaseLimits.itemBurst(),
+                    "Too Many Bids On This Item, Please Retry");
+        } catch (TooManyRequestsException e) {
+            // A bid the item turned away does not count against the bidder
+            bidderBucket.refund(phaseLimits.bidderIntervalNanos());
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelay = 30000)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        bidderBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+        itemBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    private BidPhase phaseOf(Long itemId) {
+        return deadlineTracker.millisRemaining(itemId) <= TimeUnit.SECONDS.toMillis(closingWindowSeconds)
+                ? BidPhase.CLOSING
+                : BidPhase.OPEN;
+    }
+
+    private TokenBucket take(Map<Long, TokenBucket> buckets, Long key, long now,
+                      long intervalNanos, int burst, String message) {
+        TokenBucket bucket = buckets.get(key);
+
+        if (bucket == null) {
+            if (buckets.size() >= maxTrackedKeys) {
+                buckets.values().removeIf(existing -> existing.isIdle(now));
+                if (buckets.size() >= maxTrackedKeys) {
+                    // Every tracked key is actively bidding; shed the newcomer instead of growing
+                    throw new TooManyRequestsException("Bidding Is Busy, Please Retry", 1);
+                }
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+        }
+
+        long waitNanos = bucket.tryAcquire(now, intervalNanos, burst);
+        if (waitNanos > 0) {
+            throw new TooManyRequestsException(message, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)));
+        }
+        return bucket;
+    }
+
+    private static long intervalNanos(double perSecond) {
+        return (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(perSecond, 0.001));
+    }
+
+    private record Limits(long bidderIntervalNanos, int bidderBurst, long itemIntervalNanos, int itemBurst) {
+    }
+}
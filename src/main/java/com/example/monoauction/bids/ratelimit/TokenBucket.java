@@ -0,0 +1,44 @@
+package com.example.monoauction.bids.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single theoretical arrival time (the GCRA form), so taking a token is one
+ * CAS and the rate and burst can change between calls without resetting the bucket.
+ */
+public final class TokenBucket {
+
+    private final AtomicLong arrival;
+
+    public TokenBucket(long nowNanos) {
+        this.arrival = new AtomicLong(nowNanos);
+    }
+
+    // Returns 0 when a token was taken, otherwise the nanos until one becomes available
+    public long tryAcquire(long nowNanos, long intervalNanos, int burst) {
+        long tolerance = intervalNanos * (Math.max(burst, 1) - 1);
+
+        while (true) {
+            long current = arrival.get();
+            long start = Math.max(current, nowNanos);
+            long waitNanos = start - tolerance - nowNanos;
+
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (arrival.compareAndSet(current, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    // Gives back a token taken by a request that was turned away further on
+    public void refund(long intervalNanos) {
+        arrival.addAndGet(-intervalNanos);
+    }
+
+    // A full bucket is indistinguishable from a new one, so evicting it loses nothing
+    public boolean isIdle(long nowNanos) {
+        return arrival.get() <= nowNanos;
+    }
+}
@@ -2,10 +2,14 @@ package com.example.monoauction.bids.repository;
 
 import com.example.monoauction.bids.model.Bid;
 import com.example.monoauction.common.enums.BidStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,8 +21,33 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
 
     Optional<Bid> findTopByItemIdOrderByAmountDesc(Long itemId);
 
+    // Equal amounts can come out of a proxy tie; the later row is the one that won
+    Optional<Bid> findTopByItemIdOrderByAmountDescIdDesc(Long itemId);
+
     List<Bid> findByBidderIdOrderByBidTimeDesc(Long bidderId);
 
+    List<Bid> findByItemIdOrderByBidTimeDescIdDesc(Long itemId, Pageable pageable);
+
+    @Query("SELECT b FROM Bid b WHERE b.itemId = :itemId " +
+            "AND (b.bidTime < :bidTime OR (b.bidTime = :bidTime AND b.id < :id)) " +
+            "ORDER BY b.bidTime DESC, b.id DESC")
+    List<Bid> findItemBidsBefore(@Param("itemId") Long itemId,
+                                 @Param("bidTime") LocalDateTime bidTime,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
+
+    List<Bid> findByBidderIdOrderByBidTimeDescIdDesc(Long bidderId, Pageable pageable);
+
+    @Query("SELECT b FROM Bid b WHERE b.bidderId = :bidderId " +
+            "AND (b.bidTime < :bidTime OR (b.bidTime = :bidTime AND b.id < :id)) " +
+            "ORDER BY b.bidTime DESC, b.id DESC")
+    List<Bid> findBidderBidsBefore(@Param("bidderId") Long bidderId,
+                                   @Param("bidTime") LocalDateTime bidTime,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
+    Optional<Bid> findByBidderIdAndIdempotencyKey(Long bidderId, String idempotencyKey);
+
     Optional<Bid> findTopByItemIdAndBidderId(Long itemId, Long bidderId);
 
     List<Bid> findByItemIdAndStatus(Long itemId, BidStatus status);
@@ -31,6 +60,33 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
 
     List<Bid> findByBidderIdAndStatus(Long bidderId, BidStatus status);
 
+    @Modifying
+    @Query("UPDATE Bid b SET b.status = :newStatus WHERE b.itemId IN :itemIds")
+    int updateStatusForItems(@Param("itemIds") Collection<Long> itemIds,
+                             @Param("newStatus") BidStatus newStatus);
+
+    @Modifying
+    @Query("UPDATE Bid b SET b.status = :newStatus WHERE b.id IN :bidIds")
+    int updateStatusForBids(@Param("bidIds") Collection<Long> bidIds,
+                            @Param("newStatus") BidStatus newStatus);
+
+    // Highest bid of every item in one pass, ties going to the later bid as in findTopByItemIdOrderByAmountDescIdDesc
+    @Query(value = "SELECT DISTINCT ON (item_id) * FROM ah_bids WHERE item_id IN (:itemIds) " +
+            "ORDER BY item_id, amount DESC, id DESC", nativeQuery = true)
+    List<Bid> findTopBidPerItem(@Param("itemIds") Collection<Long> itemIds);
+
+    // Runs as a query so the updated rows come back in the same round trip
+    @Query(value = "UPDATE ah_bids SET status = :newStatus " +
+            "WHERE item_id = :itemId AND status = :status RETURNING *", nativeQuery = true)
+    List<Bid> updateStatusReturning(@Param("itemId") Long itemId,
+                                    @Param("status") int status,
+                                    @Param("newStatus") int newStatus);
+
+    // Bid.status is persisted as an ordinal
+    default List<Bid> markWinningBidsOutbid(Long itemId) {
+        return updateStatusReturning(itemId, BidStatus.WINNING.ordinal(), BidStatus.OUTBID.ordinal());
+    }
+
 
     // Count total bids in batch
     @Query("SELECT COUNT(b) FROM Bid b JOIN AuctionItem ai ON b.itemId = ai.id WHERE ai.batchId = :batchId")
@@ -0,0 +1,17 @@
+package com.example.monoauction.bids.repository;
+
+import com.example.monoauction.bids.model.ProxyBid;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProxyBidRepository extends JpaRepository<ProxyBid, Long> {
+
+    Optional<ProxyBid> findByItemIdAndBidderId(Long itemId, Long bidderId);
+
+    List<ProxyBid> findByItemIdOrderByMaxAmountSetAtAsc(Long itemId);
+
+    List<ProxyBid> findByItemIdInOrderByMaxAmountSetAtAsc(Collection<Long> itemIds);
+}
@@ -0,0 +1,83 @@
+package com.example.monoauction.bids.service;
+
+import com.example.monoauction.bids.engine.AcceptedBid;
+import com.example.monoauction.bids.history.RecentBidsBuffer;
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.notifications.event.BidPlacedEvent;
+import com.example.monoauction.notifications.event.OutbidEvent;
+import com.example.monoauction.notifications.event.WatchlistItemBidEvent;
+import com.example.monoauction.notifications.service.WebSocketNotificationService;
+import com.example.monoauction.user.model.User;
+import com.example.monoauction.user.repository.UserRepository;
+import com.example.monoauction.watchlist.model.WatchlistItem;
+import com.example.monoauction.watchlist.repository.WatchlistRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BidNotificationService {
+
+    private final WebSocketNotificationService webSocketService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WatchlistRepository watchlistRepository;
+    private final UserRepository userRepository;
+    private final RecentBidsBuffer recentBids;
+
+    public void notifyOutbid(Bid previousBid, AuctionItem item, BigDecimal newAmount) {
+        webSocketService.sendOutbidNotification(
+                previousBid.getBidderId(),
+                item.getId(),
+                newAmount
+        );
+        eventPublisher.publishEvent(new OutbidEvent(previousBid, item, newAmount));
+    }
+
+    // One outbid and one update per step, however many proxy rows the step produced
+    public void notifyAccepted(AcceptedBid accepted) {
+        if (accepted.getBids().isEmpty()) {
+            return;
+        }
+        recentBids.record(accepted.getBids());
+
+        Bid previousBid = accepted.getPreviousBid();
+        Bid leadingBid = accepted.getLeadingBid();
+
+        if (previousBid != null && !previousBid.getBidderId().equals(leadingBid.getBidderId())) {
+            notifyOutbid(previousBid, accepted.getItem(), leadingBid.getAmount());
+        }
+        notifyBidPlaced(accepted.getItem(), leadingBid);
+    }
+
+    public void notifyBidPlaced(AuctionItem item, Bid bid) {
+        webSocketService.sendBidUpdate(item.getId(), bid);
+        notifyWatchers(item, bid);
+        eventPublisher.publishEvent(new BidPlacedEvent(bid, item));
+    }
+
+    private void notifyWatchers(AuctionItem item, Bid bid) {
+        try {
+            List<WatchlistItem> watchlistItems = watchlistRepository.findUsersWatchingItem(item.getId());
+
+            List<User> watchers = watchlistItems.stream()
+                    .filter(wi -> wi.getNotifyOnBid() != null && wi.getNotifyOnBid())
+                    .map(wi -> userRepository.findById(wi.getUser().getId()).orElse(null))
+                    .collect(Collectors.toList());
+
+            if (!watchers.isEmpty()) {
+                eventPublisher.publishEvent(new WatchlistItemBidEvent(this, item, bid, watchers));
+            }
+
+        } catch (Exception e) {
+            log.error("Error notifying watchers for item {}", item.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.monoauction.bids.service;
+
+import com.example.monoauction.bids.engine.BidSequencer;
+import com.example.monoauction.bids.idempotency.BidIdempotencyCache;
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.ratelimit.BidRateLimiter;
+import com.example.monoauction.user.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+
+// Entry point shared by the REST and STOMP bid paths: deduplicate, throttle, then hand to the configured mode
+@Service
+@RequiredArgsConstructor
+public class BidPlacementService {
+
+    private final BidService bidService;
+    private final BidSequencer bidSequencer;
+    private final BidRateLimiter bidRateLimiter;
+    private final BidIdempotencyCache bidIdempotencyCache;
+
+    public CompletableFuture<Bid> placeBid(Long itemId, User bidder, BigDecimal amount, String idempotencyKey){
+        // Only a new key is throttled; a retry replays its original result instead of being turned away
+        return bidIdempotencyCache.execute(bidder.getId(), idempotencyKey, () -> {
+            bidRateLimiter.acquire(bidder.getId(), itemId);
+            return submitBid(itemId, bidder, amount, idempotencyKey);
+        });
+    }
+
+    private CompletableFuture<Bid> submitBid(Long itemId, User bidder, BigDecimal amount, String idempotencyKey){
+        if(bidSequencer.isEnabled()){
+            return bidSequencer.submit(itemId, bidder, amount, idempotencyKey);
+        }
+
+        return CompletableFuture.completedFuture(bidService.placeBid(itemId, bidder, amount, idempotencyKey));
+    }
+}
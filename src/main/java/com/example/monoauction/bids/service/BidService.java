@@ -1,32 +1,38 @@
 package com.example.monoauction.bids.service;
 
 import com.example.monoauction.batch.service.AuctionBatchService;
+import com.example.monoauction.bids.engine.AcceptedBid;
+import com.example.monoauction.bids.engine.LiveBidEngine;
+import com.example.monoauction.bids.history.BidCursor;
+import com.example.monoauction.bids.history.RecentBidsBuffer;
 import com.example.monoauction.bids.model.Bid;
 import com.example.monoauction.bids.repository.BidRepository;
+import com.example.monoauction.common.dto.CursorPage;
+import com.example.monoauction.common.enums.BidProcessingMode;
 import com.example.monoauction.common.enums.BidStatus;
 import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.common.execptions.BusinessException;
+import com.example.monoauction.common.money.Money;
 import com.example.monoauction.item.model.AuctionItem;
 import com.example.monoauction.item.repository.AuctionItemRepository;
-import com.example.monoauction.notifications.event.BidPlacedEvent;
-import com.example.monoauction.notifications.event.OutbidEvent;
-import com.example.monoauction.notifications.event.WatchlistItemBidEvent;
-import com.example.monoauction.notifications.service.WebSocketNotificationService;
+import com.example.monoauction.scheduler.service.ItemDeadlineTracker;
 import com.example.monoauction.user.model.User;
 import com.example.monoauction.user.repository.UserRepository;
-import com.example.monoauction.watchlist.model.WatchlistItem;
-import com.example.monoauction.watchlist.repository.WatchlistRepository;
+import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -38,22 +44,68 @@ public class BidService {
     private final AuctionItemRepository itemRepository;
     private final AuctionBatchService batchService ;
     private final UserRepository userRepository;
-    private final WebSocketNotificationService webSocketService;
-    private final ApplicationEventPublisher eventPublisher;
-    private final WatchlistRepository watchlistRepository;
+    private final BidNotificationService bidNotificationService;
+    private final LiveBidEngine liveBidEngine;
+    private final ItemDeadlineTracker deadlineTracker;
+    private final RecentBidsBuffer recentBids;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${auction.bidding.mode:DIRECT}")
+    private BidProcessingMode biddingMode;
+
+    @Value("${auction.bidding.history.page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${auction.bidding.history.max-page-size:100}")
+    private int maxPageSize;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @CacheEvict(value = "dashboardOverview", allEntries = true)
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public Bid placeBid(Long itemId, Long bidderId, BigDecimal bidAmount) {
+        User bidder = userRepository.findById(bidderId)
+                .orElseThrow(() -> new RuntimeException("User Not Found With These Details"));
+
+        return placeBid(itemId, bidder, bidAmount);
+    }
+
+    @CacheEvict(value = "dashboardOverview", allEntries = true)
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public Bid placeBid(Long itemId, User bidder, BigDecimal bidAmount) {
+        return placeBid(itemId, bidder, bidAmount, null);
+    }
+
+    // The in-memory engine waits on the journal, so it must not hold a pooled connection the flusher needs
+    @CacheEvict(value = "dashboardOverview", allEntries = true)
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public Bid placeBid(Long itemId, User bidder, BigDecimal bidAmount, String idempotencyKey) {
+        if(biddingMode == BidProcessingMode.IN_MEMORY){
+            return placeBidInMemory(itemId, bidder, bidAmount, idempotencyKey);
+        }
+
+        if(biddingMode == BidProcessingMode.CONDITIONAL_UPDATE){
+            return transactionTemplate.execute(status -> placeBidConditionally(itemId, bidder, bidAmount, idempotencyKey));
+        }
+
+        return transactionTemplate.execute(status -> placeBidDirectly(itemId, bidder, bidAmount, idempotencyKey));
+    }
+
+    private Bid placeBidDirectly(Long itemId, User bidder, BigDecimal bidAmount, String idempotencyKey) {
         if(!batchService.isAuctionLive()){
             throw new RuntimeException("Auction Is Not Live");
         }
 
         AuctionItem item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new RuntimeException("Item Not Found With These Details"));
-        User bidder = userRepository.findById(bidderId)
-                .orElseThrow(() -> new RuntimeException("User Not Found With These Details"));
 
         validateBid(item, bidder, bidAmount);
+        deadlineTracker.ensureOpen(itemId);
 
         Optional<Bid> previousHighestBid = bidRepository.findTopByItemIdOrderByAmountDesc(itemId);
 
@@ -61,34 +113,71 @@ public class BidService {
             prevBid.setStatus(BidStatus.OUTBID);
             bidRepository.save(prevBid);
 
-            webSocketService.sendOutbidNotification(
-                    prevBid.getBidderId(),
-                    itemId,
-                    bidAmount
-            );
-            eventPublisher.publishEvent(new OutbidEvent(prevBid, item, bidAmount));
+            bidNotificationService.notifyOutbid(prevBid, item, bidAmount);
         });
 
-        Bid bid = new Bid();
-        bid.setItemId(itemId);
-        bid.setBidderId(bidderId);
-        bid.setAmount(bidAmount);
-        bid.setStatus(BidStatus.WINNING);
-        bid.setBidTime(LocalDateTime.now());
-        bid.setBidderName(bidder.getFullName());
-
-        Bid savedBid = bidRepository.save(bid);
+        Bid savedBid = bidRepository.save(newWinningBid(itemId, bidder, bidAmount, idempotencyKey));
 
         item.setCurrentBid(bidAmount);
         item.setTotalBids(item.getTotalBids() + 1);
         itemRepository.save(item);
+        deadlineTracker.onBidAccepted(itemId);
+        recentBids.record(List.of(savedBid));
+
+        bidNotificationService.notifyBidPlaced(item, savedBid);
+
+        return savedBid;
+
+    }
+
+    private Bid placeBidConditionally(Long itemId, User bidder, BigDecimal bidAmount, String idempotencyKey) {
+        if(!batchService.isAuctionLive()){
+            throw new RuntimeException("Auction Is Not Live");
+        }
+
+        deadlineTracker.ensureOpen(itemId);
+
+        // The affected-row count decides acceptance; the row lock serializes competing bidders
+        int accepted = itemRepository.advanceCurrentBid(itemId, bidder.getId(), bidAmount, LocalDateTime.now());
+
+        if(accepted == 0){
+            AuctionItem item = itemRepository.findById(itemId)
+                    .orElseThrow(() -> new RuntimeException("Item Not Found With These Details"));
+            validateBid(item, bidder, bidAmount);
+            throw new RuntimeException("Bid must be at least " + minimumBid(item));
+        }
+
+        deadlineTracker.onBidAccepted(itemId);
+
+        List<Bid> outbidBids = bidRepository.markWinningBidsOutbid(itemId);
+        Bid savedBid = bidRepository.save(newWinningBid(itemId, bidder, bidAmount, idempotencyKey));
+        recentBids.record(List.of(savedBid));
+
+        AuctionItem item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new RuntimeException("Item Not Found With These Details"));
 
-        webSocketService.sendBidUpdate(itemId,savedBid);
-        notifyWatchers(item, savedBid);
-        eventPublisher.publishEvent(new BidPlacedEvent(savedBid, item));
+        outbidBids.forEach(prevBid -> bidNotificationService.notifyOutbid(prevBid, item, bidAmount));
+        bidNotificationService.notifyBidPlaced(item, savedBid);
 
         return savedBid;
+    }
+
+    private Bid placeBidInMemory(Long itemId, User bidder, BigDecimal bidAmount, String idempotencyKey) {
+        AcceptedBid accepted = liveBidEngine.placeBid(itemId, bidder, bidAmount, idempotencyKey,
+                bidNotificationService::notifyAccepted);
+
+        return accepted.getBid();
+    }
 
+    // Proxy wars are resolved against the live book, so they need the in-memory engine
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public AcceptedBid placeProxyBid(Long itemId, User bidder, BigDecimal maxAmount) {
+        if(biddingMode != BidProcessingMode.IN_MEMORY){
+            throw new BusinessException("Proxy Bidding Is Not Available");
+        }
+
+        return liveBidEngine.placeProxyBid(itemId, bidder, maxAmount,
+                bidNotificationService::notifyAccepted);
     }
 
     public void validateBid(AuctionItem item, User bidder, BigDecimal bidAmount){
@@ -102,54 +191,120 @@ public class BidService {
 
 
 
-        BigDecimal minimumBid = item.getCurrentBid() != null
-                ? item.getCurrentBid().add(item.getBidIncrement())
-                : item.getStartingPrice();
+        long minimumBid = minimumBidCents(item);
+
+        if(Money.toCents(bidAmount) < minimumBid){
+            throw new RuntimeException("Bid must be at least "+Money.toBigDecimal(minimumBid));
+        }
+
+
+    }
+
+    public CursorPage<Bid> getBidHistory(Long itemId, String cursor, Integer limit){
+        int pageSize = pageSize(limit);
+
+        if(cursor == null){
+            Optional<List<Bid>> recent = recentBidsPage(itemId, pageSize);
+            if(recent.isPresent()){
+                return page(recent.get(), pageSize);
+            }
+            return page(bidRepository.findByItemIdOrderByBidTimeDescIdDesc(itemId, PageRequest.of(0, pageSize + 1)), pageSize);
+        }
+
+        BidCursor position = BidCursor.decode(cursor);
+        return page(bidRepository.findItemBidsBefore(itemId, position.bidTime(), position.id(),
+                PageRequest.of(0, pageSize + 1)), pageSize);
+    }
+
+    public CursorPage<Bid> getUserBid(Long userId, String cursor, Integer limit){
+        int pageSize = pageSize(limit);
+
+        if(cursor == null){
+            return page(bidRepository.findByBidderIdOrderByBidTimeDescIdDesc(userId, PageRequest.of(0, pageSize + 1)), pageSize);
+        }
+
+        BidCursor position = BidCursor.decode(cursor);
+        return page(bidRepository.findBidderBidsBefore(userId, position.bidTime(), position.id(),
+                PageRequest.of(0, pageSize + 1)), pageSize);
+    }
 
-        if(bidAmount.compareTo(minimumBid) < 0){
-            throw new RuntimeException("Bid must be at least "+minimumBid);
+    // Only LIVE items get a ring; it is seeded once and kept current by accepted bids from then on
+    private Optional<List<Bid>> recentBidsPage(Long itemId, int pageSize){
+        Optional<List<Bid>> recent = recentBids.firstPage(itemId, pageSize);
+        if(recent.isPresent() || pageSize > recentBids.getCapacity()){
+            return recent;
         }
 
+        boolean live = itemRepository.findById(itemId)
+                .map(item -> item.getStatus() == ItemStatus.LIVE)
+                .orElse(false);
+        if(!live){
+            return Optional.empty();
+        }
 
+        recentBids.seed(itemId, () -> bidRepository.findByItemIdOrderByBidTimeDescIdDesc(
+                itemId, PageRequest.of(0, recentBids.getCapacity())));
+        return recentBids.firstPage(itemId, pageSize);
     }
 
-    public List<Bid> getBidHistory(Long itemId){
-        return bidRepository.findByItemIdOrderByBidTimeDesc(itemId);
+    // Rows are fetched one past the page size so the extra row answers whether another page exists
+    private CursorPage<Bid> page(List<Bid> rows, int pageSize){
+        if(rows.size() <= pageSize){
+            return new CursorPage<>(rows, null, false);
+        }
+
+        List<Bid> items = rows.subList(0, pageSize);
+        return new CursorPage<>(items, BidCursor.of(items.get(pageSize - 1)).encode(), true);
     }
 
-    public List<Bid> getUserBid(Long userId){
-        return bidRepository.findByBidderIdOrderByBidTimeDesc(userId);
+    private int pageSize(Integer limit){
+        if(limit == null){
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(limit, maxPageSize));
     }
 
     public Optional<Bid> getHighestBid(Long itemId){
+        if(biddingMode == BidProcessingMode.IN_MEMORY && liveBidEngine.isLive(itemId)){
+            return liveBidEngine.getLeadingBid(itemId);
+        }
         return bidRepository.findTopByItemIdOrderByAmountDesc(itemId);
     }
 
     public BigDecimal calculatedMinimumBid(Long itemId){
+        if(biddingMode == BidProcessingMode.IN_MEMORY){
+            Optional<BigDecimal> liveMinimum = liveBidEngine.getMinimumBid(itemId);
+            if(liveMinimum.isPresent()){
+                return liveMinimum.get();
+            }
+        }
+
         AuctionItem item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new RuntimeException("Item Not Found With These Details"));
-        
-        return item.getCurrentBid() != null
-                ? item.getCurrentBid().add(item.getBidIncrement())
-                : item.getStartingPrice();
-    }
 
-    private void notifyWatchers(AuctionItem item, Bid bid) {
-        try {
-            List<WatchlistItem> watchlistItems = watchlistRepository.findUsersWatchingItem(item.getId());
+        return minimumBid(item);
+    }
 
-            List<User> watchers = watchlistItems.stream()
-                    .filter(wi -> wi.getNotifyOnBid() != null && wi.getNotifyOnBid())
-                    .map(wi -> userRepository.findById(wi.getUser().getId()).orElse(null))
-                    .collect(Collectors.toList());
+    private BigDecimal minimumBid(AuctionItem item){
+        return Money.toBigDecimal(minimumBidCents(item));
+    }
 
-            if (!watchers.isEmpty()) {
-                eventPublisher.publishEvent(new WatchlistItemBidEvent(this, item, bid, watchers));
-            }
+    private long minimumBidCents(AuctionItem item){
+        return item.getCurrentBid() != null
+                ? Money.toCents(item.getCurrentBid()) + Money.toCents(item.getBidIncrement())
+                : Money.toCents(item.getStartingPrice());
+    }
 
-        } catch (Exception e) {
-            log.error("Error notifying watchers for item {}", item.getId(), e);
-        }
+    private Bid newWinningBid(Long itemId, User bidder, BigDecimal bidAmount, String idempotencyKey){
+        Bid bid = new Bid();
+        bid.setItemId(itemId);
+        bid.setBidderId(bidder.getId());
+        bid.setAmount(bidAmount);
+        bid.setStatus(BidStatus.WINNING);
+        bid.setBidTime(LocalDateTime.now());
+        bid.setBidderName(bidder.getFullName());
+        bid.setIdempotencyKey(idempotencyKey);
+        return bid;
     }
 
 }
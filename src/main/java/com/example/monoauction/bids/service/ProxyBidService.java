@@ -0,0 +1,34 @@
+package com.example.monoauction.bids.service;
+
+import com.example.monoauction.bids.model.ProxyBid;
+import com.example.monoauction.bids.repository.ProxyBidRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ProxyBidService {
+
+    private final ProxyBidRepository proxyBidRepository;
+
+    public Optional<ProxyBid> getMaximum(Long itemId, Long bidderId) {
+        return proxyBidRepository.findByItemIdAndBidderId(itemId, bidderId);
+    }
+
+    public List<ProxyBid> getItemMaximums(Long itemId) {
+        return proxyBidRepository.findByItemIdOrderByMaxAmountSetAtAsc(itemId);
+    }
+
+    public Map<Long, List<ProxyBid>> getItemMaximums(Collection<Long> itemIds) {
+        return proxyBidRepository.findByItemIdInOrderByMaxAmountSetAtAsc(itemIds).stream()
+                .collect(Collectors.groupingBy(ProxyBid::getItemId));
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.monoauction.common.enums;
+
+public enum BidDurabilityMode {
+    ACK_AFTER_FLUSH,  // Bidder is answered once the bid is committed to the database
+    ACK_AFTER_ENQUEUE // Bidder is answered once the bid is in the local journal
+}
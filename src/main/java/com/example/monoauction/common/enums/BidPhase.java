@@ -0,0 +1,6 @@
+package com.example.monoauction.common.enums;
+
+public enum BidPhase {
+    OPEN,   // Live, well ahead of the item's deadline
+    CLOSING // Inside the closing window before the item's deadline
+}
@@ -0,0 +1,8 @@
+package com.example.monoauction.common.enums;
+
+public enum BidProcessingMode {
+    DIRECT,             // Read-modify-write against the database per bid
+    IN_MEMORY,          // Accepted against the live book, persisted asynchronously
+    CONDITIONAL_UPDATE, // Accepted by a compare-and-set UPDATE on the item row
+    SEQUENCER           // Single-writer shard per item hash, batch-persisted
+}
@@ -0,0 +1,7 @@
+package com.example.monoauction.common.enums;
+
+public enum SearchMode {
+    DATABASE,  // LIKE queries and specifications against the item table
+    IN_MEMORY, // LIVE items served from the in-process inverted index
+    FULL_TEXT  // keyword searches matched against a tsvector column with a GIN index
+}
@@ -0,0 +1,6 @@
+package com.example.monoauction.common.enums;
+
+public enum SettlementStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
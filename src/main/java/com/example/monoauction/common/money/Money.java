@@ -0,0 +1,49 @@
+package com.example.monoauction.common.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Amounts as primitive {@code long} cents. The bidding and settlement paths do their arithmetic
+ * and comparisons here and only convert to {@link BigDecimal} at the JPA and DTO boundaries, where
+ * every money column is scale 2.
+ */
+public final class Money {
+
+    // Stands in for a null amount, such as the current bid of an item nobody has bid on yet
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final int SCALE = 2;
+    private static final long BASIS_POINTS = 10_000;
+
+    private Money() {
+    }
+
+    // Rounded like Postgres rounds a scale-2 numeric column, so an amount compares the same before and after saving
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static long toCentsOrNone(BigDecimal amount) {
+        return amount == null ? NONE : toCents(amount);
+    }
+
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public static BigDecimal toBigDecimalOrNull(long cents) {
+        return cents == NONE ? null : toBigDecimal(cents);
+    }
+
+    public static long add(long cents, long otherCents) {
+        return Math.addExact(cents, otherCents);
+    }
+
+    // Half-up to the cent, e.g. a 5% platform fee is percentOf(amount, 500)
+    public static long percentOf(long cents, long basisPoints) {
+        long scaled = Math.multiplyExact(cents, basisPoints);
+        long half = scaled >= 0 ? BASIS_POINTS / 2 : -BASIS_POINTS / 2;
+        return (scaled + half) / BASIS_POINTS;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.monoauction.config;
 
 import com.example.monoauction.security.JwtAuthenticationFilter;
 import com.example.monoauction.security.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -64,6 +65,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        // Async results are re-dispatched without the JWT filter; the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/batches/**").permitAll()
                         .requestMatchers("/", "/websocket-test.html", "/ws/**").permitAll()
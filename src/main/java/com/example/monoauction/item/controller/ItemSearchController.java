@@ -1,8 +1,10 @@
 package com.example.monoauction.item.controller;
 
 import com.example.monoauction.common.dto.ApiResponse;
+import com.example.monoauction.common.dto.CursorPage;
 import com.example.monoauction.common.enums.ItemCategory;
 import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.item.dto.ItemResponse;
 import com.example.monoauction.item.dto.ItemSearchRequest;
 import com.example.monoauction.item.dto.ItemSearchResponse;
 import com.example.monoauction.item.service.ItemSearchService;
@@ -36,7 +38,8 @@ public class ItemSearchController {
             @RequestParam(required = false, defaultValue = "date") String sortBy,
             @RequestParam(required = false, defaultValue = "DESC") String sortOrder,
             @RequestParam(required = false, defaultValue = "0") Integer page,
-            @RequestParam(required = false, defaultValue = "20") Integer size) {
+            @RequestParam(required = false, defaultValue = "20") Integer size,
+            @RequestParam(required = false, defaultValue = "true") Boolean countTotal) {
 
         ItemSearchRequest request = new ItemSearchRequest();
         request.setKeyword(keyword);
@@ -53,12 +56,49 @@ public class ItemSearchController {
         request.setSortOrder(sortOrder);
         request.setPage(page);
         request.setSize(size);
+        request.setCountTotal(countTotal);
 
         ItemSearchResponse response = searchService.searchItems(request);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/items/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ItemResponse>>> searchItemsByCursor(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) ItemCategory category,
+            @RequestParam(required = false) ItemStatus status,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Long sellerId,
+            @RequestParam(required = false) Long batchId,
+            @RequestParam(required = false) Boolean hasBids,
+            @RequestParam(required = false) Integer minBids,
+            @RequestParam(required = false) Boolean hasReservePrice,
+            @RequestParam(required = false, defaultValue = "date") String sortBy,
+            @RequestParam(required = false, defaultValue = "DESC") String sortOrder,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+
+        ItemSearchRequest request = new ItemSearchRequest();
+        request.setKeyword(keyword);
+        request.setCategory(category);
+        request.setStatus(status);
+        request.setMinPrice(minPrice);
+        request.setMaxPrice(maxPrice);
+        request.setSellerId(sellerId);
+        request.setBatchId(batchId);
+        request.setHasBids(hasBids);
+        request.setMinBids(minBids);
+        request.setHasReservePrice(hasReservePrice);
+        request.setSortBy(sortBy);
+        request.setSortOrder(sortOrder);
+
+        CursorPage<ItemResponse> response = searchService.searchItemsByCursor(request, cursor, limit);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @PostMapping("/items")
     public ResponseEntity<ApiResponse<ItemSearchResponse>> searchItemsPost(
             @RequestBody ItemSearchRequest request) {
@@ -9,8 +9,7 @@ import com.example.monoauction.item.dto.UpdateItemRequest;
 import com.example.monoauction.item.model.AuctionItem;
 import com.example.monoauction.item.service.ItemSubmissionService;
 import com.example.monoauction.security.SecurityUtils;
-import com.example.monoauction.user.model.User;
-import com.example.monoauction.user.service.UserService;
+import com.example.monoauction.user.service.SellerNameCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,7 +33,7 @@ public class ItemSubmissionController {
     private final FileStorageService fileStorageService;
 
 
-    private final UserService userService;
+    private final SellerNameCache sellerNameCache;
 
     @PostMapping("/submit")
     public ResponseEntity<ApiResponse<ItemResponse>> submitItem(
@@ -52,12 +51,10 @@ public class ItemSubmissionController {
                 request.getImageUrls()
         );
 
-        User seller = userService.getUserById(sellerId);
-
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(
                         "Item submitted successfully",
-                        new ItemResponse(item, seller.getFullName())
+                        new ItemResponse(item, sellerNameCache.nameOf(item.getSellerId()))
                 ));
 
     }
@@ -90,9 +87,7 @@ public class ItemSubmissionController {
 
             AuctionItem item = itemService.submitItemWithImages(sellerId, request, filenames);
 
-            User seller = userService.getUserById(sellerId);
-
-            ItemResponse response = new ItemResponse(item, seller.getFullName());
+            ItemResponse response = new ItemResponse(item, sellerNameCache.nameOf(item.getSellerId()));
             if (item.getImageUrls() != null && !item.getImageUrls().isEmpty()) {
                 String imageUrls = fileStorageService.filenamesToUrls(item.getImageUrls());
                 response.setImageUrls(imageUrls);
@@ -114,10 +109,9 @@ public class ItemSubmissionController {
     public ResponseEntity<ApiResponse<List<ItemResponse>>> getMySubmissions() {
         Long sellerId = SecurityUtils.getCurrentUserId();
         List<AuctionItem> items = itemService.getMySubmissions(sellerId);
-        User seller = userService.getUserById(sellerId);
 
         List<ItemResponse> itemResponses = items.stream()
-                .map(item -> new ItemResponse(item, seller.getFullName()))
+                .map(item -> new ItemResponse(item, sellerNameCache.nameOf(item.getSellerId())))
                 .toList();
 
         return ResponseEntity.ok(ApiResponse.success(
@@ -131,9 +125,8 @@ public class ItemSubmissionController {
             @PathVariable Long id
     ){
         AuctionItem item = itemService.getItemById(id);
-        User seller = userService.getUserById(item.getSellerId());
         return ResponseEntity.ok(ApiResponse.success(
-                new ItemResponse(item, seller.getFullName())
+                new ItemResponse(item, sellerNameCache.nameOf(item.getSellerId()))
         ));
     }
 
@@ -151,11 +144,9 @@ public class ItemSubmissionController {
                 request.getStartingPrice()
         );
 
-        User seller = userService.getUserById(sellerId);
-
         return ResponseEntity.ok(ApiResponse.success(
                 "Item updated successfully",
-                new ItemResponse(item, seller.getFullName())
+                new ItemResponse(item, sellerNameCache.nameOf(item.getSellerId()))
         ));
     }
 
@@ -10,8 +10,7 @@ import com.example.monoauction.item.dto.ItemResponse;
 import com.example.monoauction.item.model.AuctionItem;
 import com.example.monoauction.item.repository.AuctionItemRepository;
 import com.example.monoauction.security.SecurityUtils;
-import com.example.monoauction.user.model.User;
-import com.example.monoauction.user.service.UserService;
+import com.example.monoauction.user.service.SellerNameCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -32,19 +31,14 @@ public class ItemViewController {
 
     private final AuctionBatchService batchService;
 
-    private final UserService userService;
+    private final SellerNameCache sellerNameCache;
     private final FileStorageService fileStorageService;
 
     @GetMapping("/items")
     public ResponseEntity<ApiResponse<List<ItemResponse>>> getLiveItems(){
         List<AuctionItem> items = itemRepository.findByStatusOrderByCreatedAtDesc(ItemStatus.LIVE);
 
-        List<ItemResponse> responses = items.stream()
-                .map(item -> {
-                        User seller = userService.getUserById(item.getSellerId());
-                        return new ItemResponse(item, seller.getFullName());
-                })
-                .toList();
+        List<ItemResponse> responses = toResponses(items);
 
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
@@ -54,8 +48,7 @@ public class ItemViewController {
         AuctionItem item = itemRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Item not found"));
 
-        User seller = userService.getUserById(item.getSellerId());
-        ItemResponse response = new ItemResponse(item, seller.getFullName());
+        ItemResponse response = new ItemResponse(item, sellerNameCache.nameOf(item.getSellerId()));
 
         // Convert filenames to full URLs
         if (item.getImageUrls() != null && !item.getImageUrls().isEmpty()) {
@@ -83,12 +76,7 @@ public class ItemViewController {
         results.put("totalUnsold", unsoldItems.size());
         results.put("totalRevenue", currentBatch.getTotalRevenue());
 
-        List<ItemResponse> soldResponse = soldItems.stream()
-                .map(item ->{
-                    User seller = userService.getUserById(item.getSellerId());
-                    return new ItemResponse(item, seller.getFullName());
-                })
-                .toList();
+        List<ItemResponse> soldResponse = toResponses(soldItems);
 
         results.put("soldItems", soldResponse);
 
@@ -101,14 +89,20 @@ public class ItemViewController {
 
         List<AuctionItem> wonItems = itemRepository.findByWinnerIdOrderByCreatedAtDesc(userId);
 
-        List<ItemResponse> response = wonItems.stream()
-                .map(item -> {
-                    User seller = userService.getUserById(item.getSellerId());
-                    return new ItemResponse(item, seller.getFullName());
-                })
-                .toList();
+        List<ItemResponse> response = toResponses(wonItems);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    // One seller lookup for the whole list instead of one per item
+    private List<ItemResponse> toResponses(List<AuctionItem> items) {
+        Map<Long, String> sellerNames = sellerNameCache.namesOf(
+                items.stream().map(AuctionItem::getSellerId).toList());
+
+        return items.stream()
+                .map(item -> new ItemResponse(item,
+                        sellerNames.getOrDefault(item.getSellerId(), SellerNameCache.UNKNOWN)))
+                .toList();
+    }
+
 }
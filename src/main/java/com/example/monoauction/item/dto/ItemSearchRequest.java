@@ -28,6 +28,9 @@ public class ItemSearchRequest {
     private Integer page = 0;
     private Integer size = 20;
 
+    // False skips the total count; the response then only says whether there is a next page
+    private Boolean countTotal;
+
     private Boolean hasReservePrice;
     private Boolean hasBids;
     private Integer minBids;
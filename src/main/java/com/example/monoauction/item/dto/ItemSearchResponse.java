@@ -17,8 +17,9 @@ public class ItemSearchResponse {
     private List<ItemResponse> items;
 
     private int currentPage;
-    private int totalPages;
-    private long totalItems;
+    // Null when the search was run without a total count
+    private Integer totalPages;
+    private Long totalItems;
     private int pageSize;
     private boolean hasNext;
     private boolean hasPrevious;
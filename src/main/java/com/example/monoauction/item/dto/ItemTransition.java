@@ -0,0 +1,21 @@
+package com.example.monoauction.item.dto;
+
+// Row returned by the bulk status transitions, just enough to announce each item's change
+public interface ItemTransition {
+    Long getId();
+    String getTitle();
+
+    static ItemTransition of(Long id, String title) {
+        return new ItemTransition() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+        };
+    }
+}
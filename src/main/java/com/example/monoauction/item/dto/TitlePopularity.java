@@ -0,0 +1,8 @@
+package com.example.monoauction.item.dto;
+
+// Just the columns the search suggestions rank on
+public interface TitlePopularity {
+    String getTitle();
+    Integer getTotalBids();
+    Integer getWatchers();
+}
@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -20,8 +21,11 @@ import java.util.Set;
 @Entity
 @Table(name = "ah_auctionitems", indexes = {
         @Index(name = "idx_item_batch_status", columnList = "batch_id, status"),
-        @Index(name = "idx_item_seller", columnList = "seller_id")
+        @Index(name = "idx_item_seller", columnList = "seller_id"),
+        @Index(name = "idx_item_status_created_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_item_status_price_id", columnList = "status, starting_price, id")
 })
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -90,6 +94,9 @@ public class AuctionItem {
     private LocalDateTime approvedAt;
     private LocalDateTime auctionStartedAt;
     private LocalDateTime auctionEndedAt;
+
+    // Per-item close deadline; soft-close moves it out when a bid lands near the end
+    private LocalDateTime auctionEndsAt;
     private LocalDateTime soldAt;
 
     private boolean isDeleted;
@@ -2,16 +2,23 @@ package com.example.monoauction.item.repository;
 
 import com.example.monoauction.common.enums.ItemCategory;
 import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.item.dto.ItemTransition;
+import com.example.monoauction.item.dto.TitlePopularity;
 import com.example.monoauction.item.model.AuctionItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface AuctionItemRepository extends JpaRepository<AuctionItem, Long> , JpaSpecificationExecutor<AuctionItem>
 {
@@ -24,6 +31,9 @@ public interface AuctionItemRepository extends JpaRepository<AuctionItem, Long>
 
     List<AuctionItem> findByBatchIdAndStatus(Long batchId, ItemStatus status);
 
+    @Query("SELECT i.id FROM AuctionItem i WHERE i.batchId = :batchId AND i.status = :status ORDER BY i.id")
+    List<Long> findIdsByBatchIdAndStatus(@Param("batchId") Long batchId, @Param("status") ItemStatus status);
+
     List<AuctionItem> findByBatchIdAndStatusIn(Long batchId, List<ItemStatus> status);
 
     List<AuctionItem> findByStatusOrderByCreatedAtDesc(ItemStatus status);
@@ -34,6 +44,8 @@ public interface AuctionItemRepository extends JpaRepository<AuctionItem, Long>
 
     Long countByBatchIdAndStatus(Long batchId, ItemStatus status);
 
+    Long countByBatchIdAndStatusAndAuctionEndsAtAfter(Long batchId, ItemStatus status, LocalDateTime endsAfter);
+
     List<AuctionItem> findByTitleContainingIgnoreCaseAndStatus(String title, ItemStatus status);
 
     List<AuctionItem> findByWinnerIdOrderByCreatedAtDesc(Long winnerId);
@@ -42,6 +54,57 @@ public interface AuctionItemRepository extends JpaRepository<AuctionItem, Long>
 
     List<AuctionItem> findTop10ByTitleStartingWithIgnoreCase(String prefix);
 
+    @Query("SELECT i.title AS title, i.totalBids AS totalBids, SIZE(i.watchedBy) AS watchers " +
+            "FROM AuctionItem i WHERE i.status IN :statuses")
+    List<TitlePopularity> findTitlePopularity(@Param("statuses") Collection<ItemStatus> statuses);
+
+    @Query("SELECT i.auctionEndsAt FROM AuctionItem i WHERE i.id = :itemId")
+    Optional<LocalDateTime> findAuctionEndsAtById(@Param("itemId") Long itemId);
+
+    // Takes the row lock, so an extension committed by another node waits for the settlement it lost to
+    @Modifying
+    @Query("UPDATE AuctionItem i SET i.auctionEndedAt = :now " +
+            "WHERE i.id = :itemId AND i.status = :status AND (i.auctionEndsAt IS NULL OR i.auctionEndsAt <= :now)")
+    int claimForSettlement(@Param("itemId") Long itemId,
+                           @Param("status") ItemStatus status,
+                           @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AuctionItem i SET i.auctionEndsAt = :endsAt " +
+            "WHERE i.id = :itemId AND (i.auctionEndsAt IS NULL OR i.auctionEndsAt < :endsAt)")
+    int extendAuctionEnd(@Param("itemId") Long itemId,
+                         @Param("endsAt") LocalDateTime endsAt);
+
+    // Bulk lifecycle transitions: one statement per batch, returning the rows it moved
+    @Transactional
+    @Query(value = "UPDATE ah_auctionitems SET status = 'UNDER_REVIEW', " +
+            "version = COALESCE(version, 0) + 1, updated_at = :now " +
+            "WHERE batch_id = :batchId AND status = 'SUBMITTED' RETURNING id, title",
+            nativeQuery = true)
+    List<ItemTransition> moveSubmittedToReview(@Param("batchId") Long batchId,
+                                               @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Query(value = "UPDATE ah_auctionitems SET status = 'LIVE', auction_started_at = :now, " +
+            "auction_ends_at = :endsAt, version = COALESCE(version, 0) + 1, updated_at = :now " +
+            "WHERE batch_id = :batchId AND status = 'APPROVED' RETURNING id, title",
+            nativeQuery = true)
+    List<ItemTransition> moveApprovedToLive(@Param("batchId") Long batchId,
+                                            @Param("now") LocalDateTime now,
+                                            @Param("endsAt") LocalDateTime endsAt);
+
+    @Modifying
+    @Query(value = "UPDATE ah_auctionitems SET current_bid = :amount, total_bids = total_bids + 1, " +
+            "version = COALESCE(version, 0) + 1, updated_at = :now " +
+            "WHERE id = :itemId AND status = 'LIVE' AND seller_id <> :bidderId AND " +
+            "((current_bid IS NULL AND starting_price <= :amount) OR current_bid + bid_increment <= :amount)",
+            nativeQuery = true)
+    int advanceCurrentBid(@Param("itemId") Long itemId,
+                          @Param("bidderId") Long bidderId,
+                          @Param("amount") BigDecimal amount,
+                          @Param("now") LocalDateTime now);
+
     @Query("SELECT i FROM AuctionItem i WHERE " +
             "LOWER(i.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(i.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
@@ -79,6 +142,15 @@ public interface AuctionItemRepository extends JpaRepository<AuctionItem, Long>
             "WHERE i.status = :status")
     Object[] findPriceRange(@Param("status") ItemStatus status);
 
+    // Search facets: item counts per status, category and starting price
+    @Query("SELECT i.status, i.category, i.startingPrice, COUNT(i) FROM AuctionItem i " +
+            "GROUP BY i.status, i.category, i.startingPrice")
+    List<Object[]> countFacets();
+
+    @Query("SELECT i.category, i.startingPrice, COUNT(i) FROM AuctionItem i " +
+            "WHERE i.id IN :itemIds GROUP BY i.category, i.startingPrice")
+    List<Object[]> countFacetsForItems(@Param("itemIds") Collection<Long> itemIds);
+
     @Query("SELECT i FROM AuctionItem i WHERE i.totalBids > 0")
     Page<AuctionItem> findItemsWithBids(Pageable pageable);
 
@@ -0,0 +1,167 @@
+package com.example.monoauction.item.search;
+
+import com.example.monoauction.common.enums.SearchMode;
+import com.example.monoauction.item.dto.ItemSearchRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Postgres full-text keyword search. Items carry a generated, weighted tsvector (title over
+ * description) behind a GIN index; keywords become a prefix tsquery and matches are ranked with
+ * ts_rank unless the request asks for another order. Only ids are selected here; callers load the page.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextItemSearch {
+
+    private static final String ADD_SEARCH_VECTOR = "ALTER TABLE ah_auctionitems ADD COLUMN IF NOT EXISTS " +
+            "search_vector tsvector GENERATED ALWAYS AS (" +
+            "setweight(to_tsvector('english', coalesce(title, '')), 'A') || " +
+            "setweight(to_tsvector('english', coalesce(description, '')), 'B')) STORED";
+    private static final String CREATE_SEARCH_INDEX = "CREATE INDEX IF NOT EXISTS idx_item_search_vector " +
+            "ON ah_auctionitems USING GIN (search_vector)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Value("${auction.search.mode:DATABASE}")
+    private SearchMode searchMode;
+
+    private volatile boolean ready;
+
+    // Runs after Hibernate has updated the table; until then keyword searches stay on LIKE
+    @EventListener(ApplicationReadyEvent.class)
+    public void createSearchVector() {
+        if (searchMode != SearchMode.FULL_TEXT) {
+            return;
+        }
+
+        jdbcTemplate.execute(ADD_SEARCH_VECTOR);
+        jdbcTemplate.execute(CREATE_SEARCH_INDEX);
+        ready = true;
+
+        log.info("Full-Text Item Search Ready");
+    }
+
+    public boolean canServe(ItemSearchRequest request) {
+        return ready && !toTsQuery(request.getKeyword()).isEmpty();
+    }
+
+    public ItemIdPage search(ItemSearchRequest request, int page, int size) {
+        MapSqlParameterSource params = new MapSqlParameterSource("query", toTsQuery(request.getKeyword()));
+        String where = buildWhere(request, params);
+
+        Long total = namedJdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM ah_auctionitems" + where, params, Long.class);
+        if (total == null || total == 0) {
+            return new ItemIdPage(List.of(), 0);
+        }
+
+        params.addValue("limit", size).addValue("offset", (long) page * size);
+        List<Long> itemIds = namedJdbcTemplate.queryForList(
+                "SELECT id FROM ah_auctionitems" + where + buildOrderBy(request) + " LIMIT :limit OFFSET :offset",
+                params, Long.class);
+
+        return new ItemIdPage(itemIds, total);
+    }
+
+    // Keyset page on (sort key, id) for cursor paging; only the keys ItemCursor allows reach this
+    public List<Long> searchAfter(ItemSearchRequest request, String sortKey, boolean descending, ItemCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("query", toTsQuery(request.getKeyword()));
+        String where = buildWhere(request, params);
+
+        boolean byPrice = "price".equals(sortKey);
+        String column = byPrice ? "starting_price" : "created_at";
+        String direction = descending ? "DESC" : "ASC";
+
+        if (after != null) {
+            where += " AND (" + column + ", id) " + (descending ? "<" : ">") + " (:afterValue, :afterId)";
+            params.addValue("afterValue", byPrice ? after.price() : Timestamp.valueOf(after.createdAt()))
+                    .addValue("afterId", after.id());
+        }
+        params.addValue("limit", limit);
+
+        return namedJdbcTemplate.queryForList("SELECT id FROM ah_auctionitems" + where +
+                " ORDER BY " + column + " " + direction + ", id " + direction + " LIMIT :limit", params, Long.class);
+    }
+
+    // Tokens are reduced to letters and digits, so user input never reaches tsquery syntax
+    static String toTsQuery(String keyword) {
+        return LiveItemIndex.tokenize(keyword).stream()
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+    private String buildWhere(ItemSearchRequest request, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder(" WHERE search_vector @@ to_tsquery('english', :query)");
+
+        if (request.getCategory() != null) {
+            where.append(" AND category = :category");
+            params.addValue("category", request.getCategory().name());
+        }
+        if (request.getStatus() != null) {
+            where.append(" AND status = :status");
+            params.addValue("status", request.getStatus().name());
+        }
+        if (request.getMinPrice() != null) {
+            where.append(" AND starting_price >= :minPrice");
+            params.addValue("minPrice", request.getMinPrice());
+        }
+        if (request.getMaxPrice() != null) {
+            where.append(" AND starting_price <= :maxPrice");
+            params.addValue("maxPrice", request.getMaxPrice());
+        }
+        if (request.getSellerId() != null) {
+            where.append(" AND seller_id = :sellerId");
+            params.addValue("sellerId", request.getSellerId());
+        }
+        if (request.getBatchId() != null) {
+            where.append(" AND batch_id = :batchId");
+            params.addValue("batchId", request.getBatchId());
+        }
+        if (Boolean.TRUE.equals(request.getHasBids())) {
+            where.append(" AND total_bids > 0");
+        }
+        if (request.getMinBids() != null) {
+            where.append(" AND total_bids >= :minBids");
+            params.addValue("minBids", request.getMinBids());
+        }
+        if (request.getHasReservePrice() != null) {
+            where.append(request.getHasReservePrice()
+                    ? " AND reserve_price IS NOT NULL" : " AND reserve_price IS NULL");
+        }
+
+        return where.toString();
+    }
+
+    // Same keys as ItemSearchService.buildSort; without one, the best matches come first
+    private String buildOrderBy(ItemSearchRequest request) {
+        String sortBy = request.getSortBy();
+        if (sortBy == null || sortBy.isEmpty()) {
+            return " ORDER BY ts_rank(search_vector, to_tsquery('english', :query)) DESC, id DESC";
+        }
+
+        String column = switch (sortBy.toLowerCase(Locale.ROOT)) {
+            case "price" -> "starting_price";
+            case "bids" -> "total_bids";
+            case "title" -> "title";
+            default -> "created_at";
+        };
+        String direction = "DESC".equalsIgnoreCase(request.getSortOrder()) ? "DESC" : "ASC";
+
+        return " ORDER BY " + column + " " + direction + ", id " + direction;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.monoauction.item.search;
+
+import com.example.monoauction.common.execptions.BusinessException;
+import com.example.monoauction.item.model.AuctionItem;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// Opaque keyset position on (sort key, id); the sort key is kept so a cursor cannot be replayed under another order.
+// Only keys that never change once an item is listed are used, so a position cannot move while a client pages.
+public record ItemCursor(String sortBy, String value, Long id) {
+
+    public static ItemCursor of(AuctionItem item, String sortBy) {
+        String value = "price".equals(sortBy)
+                ? item.getStartingPrice().toPlainString()
+                : item.getCreatedAt().toString();
+        return new ItemCursor(sortBy, value, item.getId());
+    }
+
+    public BigDecimal price() {
+        try {
+            return new BigDecimal(value);
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid Cursor");
+        }
+    }
+
+    public LocalDateTime createdAt() {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid Cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = sortBy + "," + value + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ItemCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(",", 3);
+            return new ItemCursor(parts[0], parts[1], Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid Cursor");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.monoauction.item.search;
+
+import java.util.List;
+
+// One page of matching item ids in result order, with the total match count
+public record ItemIdPage(List<Long> itemIds, long total) {
+}
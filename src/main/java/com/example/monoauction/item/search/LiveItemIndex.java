@@ -0,0 +1,357 @@
+package com.example.monoauction.item.search;
+
+import com.example.monoauction.common.enums.ItemCategory;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.common.enums.SearchMode;
+import com.example.monoauction.common.money.Money;
+import com.example.monoauction.item.dto.ItemSearchRequest;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.notifications.event.AuctionStartedEvent;
+import com.example.monoauction.notifications.event.BidPlacedEvent;
+import com.example.monoauction.notifications.event.ItemStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over LIVE items. Every item gets a slot; title and description tokens map
+ * to sorted slot arrays, categories to bitmaps, and the sortable and filterable columns live in
+ * primitive arrays, so a search is answered in memory and only the page it returns is loaded from the
+ * database. Built when an auction starts; items leave it as they settle and bid counts follow bids.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveItemIndex {
+
+    private static final Pattern NON_TOKEN = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final AuctionItemRepository itemRepository;
+
+    @Value("${auction.search.mode:DATABASE}")
+    private SearchMode searchMode;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index;
+
+    public boolean isEnabled() {
+        return searchMode == SearchMode.IN_MEMORY;
+    }
+
+    // Only LIVE searches with something the index can match on are answered here
+    public boolean canServe(ItemSearchRequest request) {
+        if (!isEnabled() || request.getStatus() != ItemStatus.LIVE || "views".equalsIgnoreCase(request.getSortBy())) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            if (index == null) {
+                return false;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return request.getKeyword() == null || request.getKeyword().isBlank()
+                || !tokenize(request.getKeyword()).isEmpty();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (isEnabled()) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAuctionStarted(AuctionStartedEvent event) {
+        if (isEnabled()) {
+            rebuild();
+        }
+    }
+
+    @EventListener
+    public void onItemStatusChanged(ItemStatusChangedEvent event) {
+        if (!isEnabled() || event.getOldStatus() != ItemStatus.LIVE) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                event.getItemIds().forEach(index::remove);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onBidPlaced(BidPlacedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        AuctionItem item = event.getItem();
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                index.bidPlaced(item.getId(), item.getTotalBids() != null ? item.getTotalBids() : 0);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild() {
+        List<AuctionItem> liveItems = itemRepository.findByStatusOrderByCreatedAtDesc(ItemStatus.LIVE);
+        Index rebuilt = new Index(liveItems);
+
+        lock.writeLock().lock();
+        try {
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Live Item Index Built With {} Items And {} Terms", liveItems.size(), rebuilt.postings.size());
+    }
+
+    public ItemIdPage search(ItemSearchRequest request, int page, int size) {
+        lock.readLock().lock();
+        try {
+            return index.search(request, page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> searchAfter(ItemSearchRequest request, String sortKey, boolean descending, ItemCursor after, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.searchAfter(request, sortKey, descending, after, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_TOKEN.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static final class Index {
+        private final long[] itemIds;
+        private final Map<Long, Integer> slots;
+        private final long[] createdAtMillis;
+        private final long[] priceCents;
+        private final long[] sellerIds;
+        private final long[] batchIds;
+        private final String[] titles;
+        private final int[] totalBids;
+        private final BitSet withReserve = new BitSet();
+        private final Map<ItemCategory, BitSet> categories = new EnumMap<>(ItemCategory.class);
+        private final NavigableMap<String, int[]> postings = new TreeMap<>();
+        private final BitSet live = new BitSet();
+
+        Index(List<AuctionItem> items) {
+            int n = items.size();
+            itemIds = new long[n];
+            slots = new HashMap<>(n * 2);
+            createdAtMillis = new long[n];
+            priceCents = new long[n];
+            sellerIds = new long[n];
+            batchIds = new long[n];
+            titles = new String[n];
+            totalBids = new int[n];
+
+            Map<String, IntBuffer> building = new HashMap<>();
+            for (int slot = 0; slot < n; slot++) {
+                AuctionItem item = items.get(slot);
+                itemIds[slot] = item.getId();
+                slots.put(item.getId(), slot);
+                createdAtMillis[slot] = item.getCreatedAt() == null ? 0 : toMillis(item.getCreatedAt());
+                priceCents[slot] = Money.toCents(item.getStartingPrice());
+                sellerIds[slot] = item.getSellerId();
+                batchIds[slot] = item.getBatchId();
+                titles[slot] = item.getTitle() == null ? "" : item.getTitle().toLowerCase(Locale.ROOT);
+                totalBids[slot] = item.getTotalBids() == null ? 0 : item.getTotalBids();
+                if (item.getReservePrice() != null) {
+                    withReserve.set(slot);
+                }
+                categories.computeIfAbsent(item.getCategory(), c -> new BitSet()).set(slot);
+
+                // Slots are visited in order, so every posting list comes out sorted
+                Set<String> terms = new HashSet<>(tokenize(item.getTitle()));
+                terms.addAll(tokenize(item.getDescription()));
+                for (String term : terms) {
+                    building.computeIfAbsent(term, t -> new IntBuffer()).add(slot);
+                }
+                live.set(slot);
+            }
+            building.forEach((term, buffer) -> postings.put(term, buffer.toArray()));
+        }
+
+        void remove(Long itemId) {
+            Integer slot = slots.get(itemId);
+            if (slot != null) {
+                live.clear(slot);
+            }
+        }
+
+        void bidPlaced(Long itemId, int itemTotalBids) {
+            Integer slot = slots.get(itemId);
+            if (slot != null) {
+                totalBids[slot] = Math.max(totalBids[slot] + 1, itemTotalBids);
+            }
+        }
+
+        ItemIdPage search(ItemSearchRequest request, int page, int size) {
+            Integer[] ordered = matching(request);
+            Arrays.sort(ordered, comparator(request.getSortBy(), request.getSortOrder()));
+
+            List<Long> pageIds = new ArrayList<>(size);
+            for (int i = page * size; i < ordered.length && pageIds.size() < size; i++) {
+                pageIds.add(itemIds[ordered[i]]);
+            }
+            return new ItemIdPage(pageIds, ordered.length);
+        }
+
+        // Keyset counterpart of search for cursor paging, sorted by creation time or price and then id
+        List<Long> searchAfter(ItemSearchRequest request, String sortKey, boolean descending, ItemCursor after, int limit) {
+            boolean byPrice = "price".equals(sortKey);
+            long[] keys = byPrice ? priceCents : createdAtMillis;
+
+            long afterKey = after == null ? 0 : byPrice ? Money.toCents(after.price()) : toMillis(after.createdAt());
+
+            List<Integer> remaining = new ArrayList<>();
+            for (int slot : matching(request)) {
+                if (after != null) {
+                    int order = keys[slot] != afterKey
+                            ? Long.compare(keys[slot], afterKey)
+                            : Long.compare(itemIds[slot], after.id());
+                    if (descending ? order >= 0 : order <= 0) {
+                        continue;
+                    }
+                }
+                remaining.add(slot);
+            }
+
+            remaining.sort(comparator(byPrice ? "price" : "date", descending ? "DESC" : "ASC"));
+
+            List<Long> ids = new ArrayList<>(Math.min(limit, remaining.size()));
+            for (int i = 0; i < remaining.size() && ids.size() < limit; i++) {
+                ids.add(itemIds[remaining.get(i)]);
+            }
+            return ids;
+        }
+
+        private Integer[] matching(ItemSearchRequest request) {
+            BitSet matches = (BitSet) live.clone();
+
+            // Each keyword token matches any indexed term it is a prefix of; tokens are ANDed
+            for (String token : tokenize(request.getKeyword())) {
+                BitSet termMatches = new BitSet();
+                for (int[] posting : postings.subMap(token, true, token + Character.MAX_VALUE, true).values()) {
+                    for (int slot : posting) {
+                        termMatches.set(slot);
+                    }
+                }
+                matches.and(termMatches);
+            }
+
+            if (request.getCategory() != null) {
+                BitSet category = categories.get(request.getCategory());
+                if (category == null) {
+                    return new Integer[0];
+                }
+                matches.and(category);
+            }
+            if (request.getHasReservePrice() != null) {
+                if (request.getHasReservePrice()) {
+                    matches.and(withReserve);
+                } else {
+                    matches.andNot(withReserve);
+                }
+            }
+
+            long minCents = request.getMinPrice() == null ? Long.MIN_VALUE : Money.toCents(request.getMinPrice());
+            long maxCents = request.getMaxPrice() == null ? Long.MAX_VALUE : Money.toCents(request.getMaxPrice());
+            int minBids = request.getMinBids() != null ? request.getMinBids()
+                    : Boolean.TRUE.equals(request.getHasBids()) ? 1 : Integer.MIN_VALUE;
+
+            int[] hits = new int[matches.cardinality()];
+            int count = 0;
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                if (priceCents[slot] < minCents || priceCents[slot] > maxCents || totalBids[slot] < minBids) {
+                    continue;
+                }
+                if (request.getSellerId() != null && sellerIds[slot] != request.getSellerId()) {
+                    continue;
+                }
+                if (request.getBatchId() != null && batchIds[slot] != request.getBatchId()) {
+                    continue;
+                }
+                hits[count++] = slot;
+            }
+
+            Integer[] matched = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                matched[i] = hits[i];
+            }
+            return matched;
+        }
+
+        // Same keys as ItemSearchService.buildSort, with the item id breaking ties
+        private Comparator<Integer> comparator(String sortBy, String sortOrder) {
+            String key = sortBy == null ? "date" : sortBy.toLowerCase(Locale.ROOT);
+            Comparator<Integer> comparator = switch (key) {
+                case "price" -> Comparator.comparingLong(slot -> priceCents[slot]);
+                case "bids" -> Comparator.comparingInt(slot -> totalBids[slot]);
+                case "title" -> Comparator.comparing(slot -> titles[slot]);
+                default -> Comparator.comparingLong(slot -> createdAtMillis[slot]);
+            };
+            comparator = comparator.thenComparingLong(slot -> itemIds[slot]);
+
+            boolean descending = sortBy == null || sortBy.isEmpty() || "DESC".equalsIgnoreCase(sortOrder);
+            return descending ? comparator.reversed() : comparator;
+        }
+    }
+
+    private static final class IntBuffer {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
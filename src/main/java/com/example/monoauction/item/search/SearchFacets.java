@@ -0,0 +1,197 @@
+package com.example.monoauction.item.search;
+
+import com.example.monoauction.common.enums.ItemCategory;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.common.money.Money;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.notifications.event.ItemStatusChangedEvent;
+import com.example.monoauction.notifications.event.ItemSubmittedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Category counts and starting-price range of every item status, kept in memory so a search
+ * response never runs aggregate queries. Bulk transitions arrive as {@link ItemStatusChangedEvent}s,
+ * single-item changes are applied once their transaction commits, and a periodic reload from the
+ * table corrects any drift.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchFacets {
+
+    private final AuctionItemRepository itemRepository;
+
+    private Map<ItemStatus, StatusFacets> facets;
+
+    public synchronized boolean isReady() {
+        return facets != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${auction.search.facets.reload-ms:300000}",
+            initialDelayString = "${auction.search.facets.reload-ms:300000}")
+    public void reload() {
+        try {
+            Map<ItemStatus, StatusFacets> loaded = new EnumMap<>(ItemStatus.class);
+            for (Object[] row : itemRepository.countFacets()) {
+                loaded.computeIfAbsent((ItemStatus) row[0], s -> new StatusFacets())
+                        .add((ItemCategory) row[1], Money.toCents((BigDecimal) row[2]), (Long) row[3]);
+            }
+
+            synchronized (this) {
+                facets = loaded;
+            }
+        } catch (Exception e) {
+            log.error("Error Reloading Search Facets", e);
+        }
+    }
+
+    public synchronized List<ItemCategory> getCategories() {
+        Set<ItemCategory> categories = EnumSet.noneOf(ItemCategory.class);
+        for (StatusFacets status : facets.values()) {
+            for (ItemCategory category : ItemCategory.values()) {
+                if (status.categoryCounts[category.ordinal()] > 0) {
+                    categories.add(category);
+                }
+            }
+        }
+
+        // Same order as the DISTINCT query this replaces, which sorted on the stored name
+        List<ItemCategory> sorted = new ArrayList<>(categories);
+        sorted.sort(Comparator.comparing(ItemCategory::name));
+        return sorted;
+    }
+
+    public synchronized Map<ItemCategory, Long> getCategoryCounts(ItemStatus status) {
+        Map<ItemCategory, Long> counts = new HashMap<>();
+        StatusFacets statusFacets = facets.get(status);
+        if (statusFacets == null) {
+            return counts;
+        }
+
+        for (ItemCategory category : ItemCategory.values()) {
+            long count = statusFacets.categoryCounts[category.ordinal()];
+            if (count > 0) {
+                counts.put(category, count);
+            }
+        }
+        return counts;
+    }
+
+    public synchronized Object[] getPriceRange(ItemStatus status) {
+        StatusFacets statusFacets = facets.get(status);
+        if (statusFacets == null || statusFacets.prices.isEmpty()) {
+            return new Object[]{null, null};
+        }
+        return new Object[]{
+                Money.toBigDecimal(statusFacets.prices.firstKey()),
+                Money.toBigDecimal(statusFacets.prices.lastKey())
+        };
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemSubmitted(ItemSubmittedEvent event) {
+        AuctionItem item = event.getItem();
+        apply(item.getStatus(), item.getCategory(), Money.toCents(item.getStartingPrice()), 1);
+    }
+
+    // Bulk transitions only carry ids, so their categories and prices are read back in one grouped query
+    @Async
+    @EventListener
+    public void onItemStatusChanged(ItemStatusChangedEvent event) {
+        if (event.getItemIds().isEmpty() || event.getOldStatus() == event.getNewStatus()) {
+            return;
+        }
+
+        try {
+            for (Object[] row : itemRepository.countFacetsForItems(event.getItemIds())) {
+                ItemCategory category = (ItemCategory) row[0];
+                long priceCents = Money.toCents((BigDecimal) row[1]);
+                long count = (Long) row[2];
+
+                apply(event.getOldStatus(), category, priceCents, -count);
+                apply(event.getNewStatus(), category, priceCents, count);
+            }
+        } catch (Exception e) {
+            log.error("Error Updating Search Facets For {} Items", event.getItemIds().size(), e);
+        }
+    }
+
+    public void statusChanged(AuctionItem item, ItemStatus oldStatus) {
+        ItemCategory category = item.getCategory();
+        ItemStatus newStatus = item.getStatus();
+        long priceCents = Money.toCents(item.getStartingPrice());
+
+        afterCommit(() -> {
+            apply(oldStatus, category, priceCents, -1);
+            apply(newStatus, category, priceCents, 1);
+        });
+    }
+
+    public void priceChanged(AuctionItem item, BigDecimal oldPrice) {
+        ItemCategory category = item.getCategory();
+        ItemStatus status = item.getStatus();
+        long oldCents = Money.toCents(oldPrice);
+        long newCents = Money.toCents(item.getStartingPrice());
+        if (oldCents == newCents) {
+            return;
+        }
+
+        afterCommit(() -> {
+            apply(status, category, oldCents, -1);
+            apply(status, category, newCents, 1);
+        });
+    }
+
+    private synchronized void apply(ItemStatus status, ItemCategory category, long priceCents, long delta) {
+        if (facets == null || status == null || category == null) {
+            return;
+        }
+        facets.computeIfAbsent(status, s -> new StatusFacets()).add(category, priceCents, delta);
+    }
+
+    // A rolled back review or edit must not move the facets
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+            return;
+        }
+        change.run();
+    }
+
+    // Prices are a multiset keyed by cents, so the range stays exact as items leave the status
+    private static final class StatusFacets {
+        private final long[] categoryCounts = new long[ItemCategory.values().length];
+        private final TreeMap<Long, Long> prices = new TreeMap<>();
+
+        void add(ItemCategory category, long priceCents, long delta) {
+            categoryCounts[category.ordinal()] = Math.max(categoryCounts[category.ordinal()] + delta, 0);
+
+            long count = prices.getOrDefault(priceCents, 0L) + delta;
+            if (count > 0) {
+                prices.put(priceCents, count);
+            } else {
+                prices.remove(priceCents);
+            }
+        }
+    }
+}
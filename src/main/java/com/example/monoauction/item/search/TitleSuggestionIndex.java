@@ -0,0 +1,236 @@
+package com.example.monoauction.item.search;
+
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.item.dto.TitlePopularity;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.notifications.event.ItemApprovedEvent;
+import com.example.monoauction.scheduler.event.BatchPhaseChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Type-ahead over the titles of LIVE and upcoming (approved) items. Titles are normalized into a
+ * character trie whose every node keeps its most popular completions, so a lookup is a walk down
+ * the prefix. Rebuilt whenever the batch changes phase; approvals are added in place.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TitleSuggestionIndex {
+
+    private static final int MAX_SUGGESTIONS = 5;
+    private static final List<ItemStatus> SUGGESTED_STATUSES = List.of(ItemStatus.LIVE, ItemStatus.APPROVED);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final AuctionItemRepository itemRepository;
+
+    private final Object writeLock = new Object();
+    private volatile Trie trie;
+
+    public boolean isReady() {
+        return trie != null;
+    }
+
+    public List<String> suggest(String prefix) {
+        Trie current = trie;
+        return current == null ? List.of() : current.suggest(normalize(prefix).stripLeading());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Async
+    @EventListener(BatchPhaseChangedEvent.class)
+    public void onBatchPhaseChanged() {
+        rebuild();
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemApproved(ItemApprovedEvent event) {
+        AuctionItem item = event.getItem();
+        int popularity = item.getTotalBids() == null ? 0 : item.getTotalBids();
+
+        // Serialized with rebuilds, so an approval is never swapped away by a rebuild that missed it
+        synchronized (writeLock) {
+            if (trie != null) {
+                trie.add(item.getTitle(), popularity);
+            }
+        }
+    }
+
+    public void rebuild() {
+        try {
+            synchronized (writeLock) {
+                List<TitlePopularity> titles = itemRepository.findTitlePopularity(SUGGESTED_STATUSES);
+
+                Trie rebuilt = new Trie();
+                for (TitlePopularity title : titles) {
+                    int bids = title.getTotalBids() == null ? 0 : title.getTotalBids();
+                    int watchers = title.getWatchers() == null ? 0 : title.getWatchers();
+                    rebuilt.add(title.getTitle(), bids + watchers);
+                }
+                trie = rebuilt;
+
+                log.info("Title Suggestions Rebuilt With {} Titles", rebuilt.suggestions.size());
+            }
+        } catch (Exception e) {
+            log.error("Error Rebuilding Title Suggestions", e);
+        }
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : WHITESPACE.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    private static final class Trie {
+        private final Node root = new Node();
+        private final List<Suggestion> suggestions = new ArrayList<>();
+        private final Map<String, Integer> byTitle = new HashMap<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        void add(String title, int popularity) {
+            String key = normalize(title).strip();
+            if (key.isEmpty()) {
+                return;
+            }
+
+            lock.writeLock().lock();
+            try {
+                // Repeated titles are suggested once, ranked by their most popular listing
+                Integer existing = byTitle.get(key);
+                if (existing != null) {
+                    if (popularity <= suggestions.get(existing).popularity) {
+                        return;
+                    }
+                    suggestions.set(existing, new Suggestion(title.strip(), popularity));
+                    reinsert(key, existing);
+                    return;
+                }
+
+                int index = suggestions.size();
+                suggestions.add(new Suggestion(title.strip(), popularity));
+                byTitle.put(key, index);
+
+                Node node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.child(key.charAt(i));
+                    node.offer(index, suggestions);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<String> suggest(String prefix) {
+            lock.readLock().lock();
+            try {
+                Node node = root;
+                for (int i = 0; i < prefix.length() && node != null; i++) {
+                    node = node.find(prefix.charAt(i));
+                }
+                if (node == null) {
+                    return List.of();
+                }
+
+                List<String> titles = new ArrayList<>(node.topCount);
+                for (int i = 0; i < node.topCount; i++) {
+                    titles.add(suggestions.get(node.top[i]).title);
+                }
+                return titles;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void reinsert(String key, int index) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.find(key.charAt(i));
+                node.remove(index);
+                node.offer(index, suggestions);
+            }
+        }
+    }
+
+    private record Suggestion(String title, int popularity) {
+    }
+
+    // Children are kept in small parallel arrays; most nodes have one or two
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private final int[] top = new int[MAX_SUGGESTIONS];
+        private int topCount;
+
+        Node find(char c) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node child(char c) {
+            Node node = find(c);
+            if (node != null) {
+                return node;
+            }
+
+            node = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = c;
+            children[children.length - 1] = node;
+            return node;
+        }
+
+        // Keeps the best completions below this node, most popular first and then alphabetical
+        void offer(int index, List<Suggestion> suggestions) {
+            Suggestion candidate = suggestions.get(index);
+            int position = topCount;
+            while (position > 0 && ranksBefore(candidate, suggestions.get(top[position - 1]))) {
+                position--;
+            }
+            if (position >= MAX_SUGGESTIONS) {
+                return;
+            }
+
+            int last = Math.min(topCount, MAX_SUGGESTIONS - 1);
+            System.arraycopy(top, position, top, position + 1, last - position);
+            top[position] = index;
+            topCount = Math.min(topCount + 1, MAX_SUGGESTIONS);
+        }
+
+        void remove(int index) {
+            for (int i = 0; i < topCount; i++) {
+                if (top[i] == index) {
+                    System.arraycopy(top, i + 1, top, i, topCount - i - 1);
+                    topCount--;
+                    return;
+                }
+            }
+        }
+
+        private static boolean ranksBefore(Suggestion a, Suggestion b) {
+            if (a.popularity != b.popularity) {
+                return a.popularity > b.popularity;
+            }
+            return a.title.compareToIgnoreCase(b.title) < 0;
+        }
+    }
+}
@@ -1,20 +1,29 @@
 package com.example.monoauction.item.service;
 
+import com.example.monoauction.common.dto.CursorPage;
 import com.example.monoauction.common.enums.ItemCategory;
 import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.common.execptions.BusinessException;
 import com.example.monoauction.file.service.FileStorageService;
 import com.example.monoauction.item.dto.ItemResponse;
 import com.example.monoauction.item.dto.ItemSearchRequest;
 import com.example.monoauction.item.dto.ItemSearchResponse;
 import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.search.FullTextItemSearch;
+import com.example.monoauction.item.search.ItemCursor;
+import com.example.monoauction.item.search.ItemIdPage;
+import com.example.monoauction.item.search.LiveItemIndex;
+import com.example.monoauction.item.search.SearchFacets;
+import com.example.monoauction.item.search.TitleSuggestionIndex;
 import com.example.monoauction.item.repository.AuctionItemRepository;
-import com.example.monoauction.user.model.User;
-import com.example.monoauction.user.repository.UserRepository;
+import com.example.monoauction.user.service.SellerNameCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -24,6 +33,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,25 +43,42 @@ import java.util.stream.Collectors;
 public class ItemSearchService {
 
     private final AuctionItemRepository itemRepository;
-    private final UserRepository userRepository;
+    private final SellerNameCache sellerNameCache;
     private final FileStorageService fileStorageService;
+    private final LiveItemIndex liveItemIndex;
+    private final FullTextItemSearch fullTextSearch;
+    private final TitleSuggestionIndex suggestionIndex;
+    private final SearchFacets searchFacets;
 
     public ItemSearchResponse searchItems(ItemSearchRequest request) {
         Pageable pageable = buildPageable(request);
 
-        Page<AuctionItem> itemPage = executeSearch(request, pageable);
+        Slice<AuctionItem> itemPage = executeSearch(request, pageable);
 
-        List<ItemResponse> itemResponse = itemPage.getContent().stream()
-                .map(this::convertToResponse)
-                .toList();
+        List<ItemResponse> itemResponse = convertToResponses(itemPage.getContent());
 
         return buildSearchResponse(itemPage, itemResponse, request);
     }
 
-    private Page<AuctionItem> executeSearch(ItemSearchRequest request, Pageable pageable) {
+    private Slice<AuctionItem> executeSearch(ItemSearchRequest request, Pageable pageable) {
+
+        if (liveItemIndex.canServe(request)) {
+            return loadPage(liveItemIndex.search(
+                    request, pageable.getPageNumber(), pageable.getPageSize()), pageable);
+        }
+
+        if (fullTextSearch.canServe(request)) {
+            return loadPage(fullTextSearch.search(
+                    request, pageable.getPageNumber(), pageable.getPageSize()), pageable);
+        }
+
+        // Without a total the extra row of a Slice answers hasNext, so no COUNT(*) runs
+        if (Boolean.FALSE.equals(request.getCountTotal())) {
+            return itemRepository.findBy(buildSpecification(request), query -> query.slice(pageable));
+        }
 
         if (hasMultipleFilters(request)) {
-            return searchWithSpecification(request, pageable);
+            return itemRepository.findAll(buildSpecification(request), pageable);
         }
 
         if (request.getKeyword() != null && !request.getKeyword().isEmpty()){
@@ -77,6 +105,21 @@ public class ItemSearchService {
         return itemRepository.findAll(pageable);
     }
 
+    private Page<AuctionItem> loadPage(ItemIdPage indexPage, Pageable pageable) {
+        return new PageImpl<>(loadInOrder(indexPage.itemIds()), pageable, indexPage.total());
+    }
+
+    // Only the returned page is loaded from the database, in the order the search ranked it
+    private List<AuctionItem> loadInOrder(List<Long> itemIds) {
+        Map<Long, AuctionItem> itemsById = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(AuctionItem::getId, Function.identity()));
+
+        return itemIds.stream()
+                .map(itemsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     private boolean hasMultipleFilters(ItemSearchRequest request){
         int filterCount = 0;
 
@@ -92,8 +135,81 @@ public class ItemSearchService {
         return filterCount > 2;
     }
 
-    private Page<AuctionItem> searchWithSpecification(
-            ItemSearchRequest request, Pageable pageable){
+    // Seeks past the cursor on (sort key, id), so every page costs the same however deep it is
+    public CursorPage<ItemResponse> searchItemsByCursor(ItemSearchRequest request, String cursor, Integer limit) {
+        int pageSize = Math.min(limit != null && limit > 0 ? limit : 20, 100);
+        String sortBy = cursorSortKey(request.getSortBy());
+        boolean descending = !"ASC".equalsIgnoreCase(request.getSortOrder());
+
+        ItemCursor position = cursor == null ? null : ItemCursor.decode(cursor);
+        if (position != null && !position.sortBy().equals(sortBy)) {
+            throw new BusinessException("Cursor Does Not Match The Sort Order");
+        }
+
+        List<AuctionItem> rows;
+        if (liveItemIndex.canServe(request)) {
+            rows = loadInOrder(liveItemIndex.searchAfter(request, sortBy, descending, position, pageSize + 1));
+        } else if (fullTextSearch.canServe(request)) {
+            rows = loadInOrder(fullTextSearch.searchAfter(request, sortBy, descending, position, pageSize + 1));
+        } else {
+            Specification<AuctionItem> spec = buildSpecification(request);
+            if (position != null) {
+                spec = spec.and(after(position, descending));
+            }
+
+            Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+            Sort sort = Sort.by(direction, cursorSortField(sortBy)).and(Sort.by(direction, "id"));
+
+            rows = itemRepository.findBy(spec, query -> query.sortBy(sort).limit(pageSize + 1).all());
+        }
+
+        // Rows are fetched one past the page size so the extra row answers whether another page exists
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(convertToResponses(rows), null, false);
+        }
+
+        List<AuctionItem> items = rows.subList(0, pageSize);
+        return new CursorPage<>(convertToResponses(items),
+                ItemCursor.of(items.get(pageSize - 1), sortBy).encode(), true);
+    }
+
+    // Bid counts move while an auction is live, which would shift keyset positions, so they are offset-paged only
+    private String cursorSortKey(String sortBy) {
+        if (sortBy == null) {
+            return "date";
+        }
+        return switch (sortBy.toLowerCase()) {
+            case "price" -> "price";
+            case "bids" -> throw new BusinessException("Sorting By Bids Is Not Available With Cursors");
+            default -> "date";
+        };
+    }
+
+    private String cursorSortField(String sortKey) {
+        return "price".equals(sortKey) ? "startingPrice" : "createdAt";
+    }
+
+    private Specification<AuctionItem> after(ItemCursor cursor, boolean descending) {
+        return "price".equals(cursor.sortBy())
+                ? after("startingPrice", cursor.price(), cursor.id(), descending)
+                : after("createdAt", cursor.createdAt(), cursor.id(), descending);
+    }
+
+    private <Y extends Comparable<? super Y>> Specification<AuctionItem> after(
+            String field, Y value, Long id, boolean descending) {
+        return (root, query, cb) -> {
+            if (descending) {
+                return cb.or(
+                        cb.lessThan(root.<Y>get(field), value),
+                        cb.and(cb.equal(root.get(field), value), cb.lessThan(root.get("id"), id)));
+            }
+            return cb.or(
+                    cb.greaterThan(root.<Y>get(field), value),
+                    cb.and(cb.equal(root.get(field), value), cb.greaterThan(root.get("id"), id)));
+        };
+    }
+
+    private Specification<AuctionItem> buildSpecification(ItemSearchRequest request){
 
         Specification<AuctionItem> spec = Specification.where((root, query, cb) -> cb.conjunction());
 
@@ -134,7 +250,7 @@ public class ItemSearchService {
             spec = spec.and(hasReservePrice(request.getHasReservePrice()));
         }
 
-        return itemRepository.findAll(spec, pageable);
+        return spec;
     }
 
     private Specification<AuctionItem> hasKeyword(String keyword) {
@@ -226,10 +342,18 @@ public class ItemSearchService {
         return Sort.by(direction, fieldName);
     }
 
-    private ItemResponse convertToResponse(AuctionItem item) {
-        User seller = userRepository.findById(item.getSellerId()).orElse(null);
-        String sellerName = seller != null ? seller.getFullName() : "Unknown";
+    // All sellers of the page are resolved together rather than one lookup per item
+    private List<ItemResponse> convertToResponses(List<AuctionItem> items) {
+        Map<Long, String> sellerNames = sellerNameCache.namesOf(
+                items.stream().map(AuctionItem::getSellerId).toList());
 
+        return items.stream()
+                .map(item -> convertToResponse(item,
+                        sellerNames.getOrDefault(item.getSellerId(), SellerNameCache.UNKNOWN)))
+                .toList();
+    }
+
+    private ItemResponse convertToResponse(AuctionItem item, String sellerName) {
         ItemResponse response = new ItemResponse(item, sellerName);
 
         if (item.getImageUrls() != null && !item.getImageUrls().isEmpty()) {
@@ -241,7 +365,7 @@ public class ItemSearchService {
     }
 
     private ItemSearchResponse buildSearchResponse(
-            Page<AuctionItem> itemsPage,
+            Slice<AuctionItem> itemsPage,
             List<ItemResponse> itemResponses,
             ItemSearchRequest request) {
 
@@ -250,8 +374,10 @@ public class ItemSearchService {
         response.setItems(itemResponses);
 
         response.setCurrentPage(itemsPage.getNumber());
-        response.setTotalPages(itemsPage.getTotalPages());
-        response.setTotalItems(itemsPage.getTotalElements());
+        if (itemsPage instanceof Page<AuctionItem> page) {
+            response.setTotalPages(page.getTotalPages());
+            response.setTotalItems(page.getTotalElements());
+        }
         response.setPageSize(itemsPage.getSize());
         response.setHasNext(itemsPage.hasNext());
         response.setHasPrevious(itemsPage.hasPrevious());
@@ -288,12 +414,19 @@ public class ItemSearchService {
     }
 
     public List<ItemCategory> getAvailableCategories() {
+        if (searchFacets.isReady()) {
+            return searchFacets.getCategories();
+        }
         return itemRepository.findAllCategories();
     }
 
     public Map<ItemCategory, Long> getCategoryCount(ItemStatus status) {
         ItemStatus searchStatus = status != null ? status : ItemStatus.LIVE;
 
+        if (searchFacets.isReady()) {
+            return searchFacets.getCategoryCounts(searchStatus);
+        }
+
         List<Object[]> results = itemRepository.countByCategory(searchStatus);
 
         Map<ItemCategory, Long> categoryCount = new HashMap<>();
@@ -306,6 +439,10 @@ public class ItemSearchService {
 
     public Object[] getPriceRange(ItemStatus status) {
         ItemStatus searchStatus = status != null ? status : ItemStatus.LIVE;
+
+        if (searchFacets.isReady()) {
+            return searchFacets.getPriceRange(searchStatus);
+        }
         return itemRepository.findPriceRange(searchStatus);
     }
 
@@ -314,6 +451,10 @@ public class ItemSearchService {
             return Collections.emptyList();
         }
 
+        if (suggestionIndex.isReady()) {
+            return suggestionIndex.suggest(prefix);
+        }
+
         List<AuctionItem> items = itemRepository.findTop10ByTitleStartingWithIgnoreCase(prefix);
 
         return items.stream()
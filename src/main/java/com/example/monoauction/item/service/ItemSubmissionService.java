@@ -1,7 +1,5 @@
 package com.example.monoauction.item.service;
 
-import com.example.monoauction.batch.model.AuctionBatch;
-import com.example.monoauction.batch.repository.AuctionBatchRepository;
 import com.example.monoauction.batch.service.AuctionBatchService;
 import com.example.monoauction.common.enums.ItemCategory;
 import com.example.monoauction.common.enums.ItemStatus;
@@ -11,6 +9,7 @@ import com.example.monoauction.common.execptions.ResourceNotFoundException;
 import com.example.monoauction.item.dto.SubmitItemRequest;
 import com.example.monoauction.item.model.AuctionItem;
 import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.item.search.SearchFacets;
 import com.example.monoauction.notifications.event.ItemSubmittedEvent;
 import com.example.monoauction.user.model.User;
 import com.example.monoauction.user.repository.UserRepository;
@@ -30,9 +29,9 @@ public class ItemSubmissionService {
 
     private final AuctionItemRepository itemRepository;
     private final AuctionBatchService batchService;
-    private final AuctionBatchRepository batchRepository;
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final SearchFacets searchFacets;
 
     public AuctionItem submitItem(Long sellerId, String title, String description,
                                   ItemCategory category, BigDecimal startingPrice,
@@ -42,7 +41,7 @@ public class ItemSubmissionService {
             throw new RuntimeException("Submission Not Open");
         }
 
-        AuctionBatch currentBatch = batchService.getCurrentBatch();
+        Long currentBatchId = batchService.getCurrentPhase().batchId();
 
         User seller = userRepository.findById(sellerId)
                 .orElseThrow(() -> new RuntimeException("Seller Not Found With These Details"));
@@ -53,7 +52,7 @@ public class ItemSubmissionService {
 
         AuctionItem item = new AuctionItem();
 
-        item.setBatchId(currentBatch.getId());
+        item.setBatchId(currentBatchId);
         item.setSellerId(sellerId);
         item.setTitle(title);
         item.setDescription(description);
@@ -67,7 +66,7 @@ public class ItemSubmissionService {
 
         AuctionItem savedItem = itemRepository.save(item);
 
-        batchService.incrementItemSubmitted(currentBatch.getId());
+        batchService.incrementItemSubmitted(currentBatchId);
 
         eventPublisher.publishEvent(new ItemSubmittedEvent(savedItem));
 
@@ -82,7 +81,7 @@ public class ItemSubmissionService {
             throw new BusinessException("Item submission is closed.");
         }
 
-        AuctionBatch currentBatch = batchService.getCurrentBatch();
+        Long currentBatchId = batchService.getCurrentPhase().batchId();
 
         User seller = userRepository.findById(sellerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Seller not found"));
@@ -92,7 +91,7 @@ public class ItemSubmissionService {
         }
 
         AuctionItem item = new AuctionItem();
-        item.setBatchId(currentBatch.getId());
+        item.setBatchId(currentBatchId);
         item.setSellerId(sellerId);
         item.setTitle(request.getTitle());
         item.setDescription(request.getDescription());
@@ -110,7 +109,7 @@ public class ItemSubmissionService {
 
         AuctionItem savedItem = itemRepository.save(item);
 
-        batchService.incrementItemSubmitted(currentBatch.getId());
+        batchService.incrementItemSubmitted(currentBatchId);
 
         eventPublisher.publishEvent(new ItemSubmittedEvent(savedItem));
 
@@ -139,11 +138,16 @@ public class ItemSubmissionService {
             throw new RuntimeException("Cannot Update Item After Review");
         }
 
+        BigDecimal oldPrice = item.getStartingPrice();
+
         item.setTitle(title);
         item.setDescription(description);
         item.setStartingPrice(startingPrice);
 
-        return itemRepository.save(item);
+        AuctionItem savedItem = itemRepository.save(item);
+        searchFacets.priceChanged(savedItem, oldPrice);
+
+        return savedItem;
     }
 
     public void withdrawSubmission(Long itemId, Long sellerId){
@@ -162,10 +166,9 @@ public class ItemSubmissionService {
         item.setWithdrawnAt(LocalDateTime.now());
 
         itemRepository.save(item);
+        searchFacets.statusChanged(item, ItemStatus.SUBMITTED);
 
-        AuctionBatch batch = batchService.getBatchById(item.getBatchId());
-        batch.setTotalItemsSubmitted(batch.getTotalItemsSubmitted() - 1);
-        batchRepository.save(batch);
+        batchService.decrementItemSubmitted(item.getBatchId());
 
     }
 
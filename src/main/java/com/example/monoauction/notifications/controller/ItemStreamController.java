@@ -0,0 +1,72 @@
+package com.example.monoauction.notifications.controller;
+
+import com.example.monoauction.bids.dto.BidResponse;
+import com.example.monoauction.bids.dto.ItemResyncMessage;
+import com.example.monoauction.bids.dto.ItemSnapshotMessage;
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.service.BidService;
+import com.example.monoauction.common.execptions.ResourceNotFoundException;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.notifications.service.ItemStreamLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reconnect path for item streams: SUBSCRIBE to /app/item/{itemId}/resync with a lastSeq header and
+ * the reply carries the missed messages, or a compact snapshot once they are no longer in the log.
+ */
+@Controller
+@RequiredArgsConstructor
+public class ItemStreamController {
+
+    private final ItemStreamLog itemStreamLog;
+    private final AuctionItemRepository itemRepository;
+    private final BidService bidService;
+
+    @SubscribeMapping("/item/{itemId}/resync")
+    public ItemResyncMessage resync(
+            @DestinationVariable Long itemId,
+            @Header(value = "lastSeq", required = false) Long lastSeq
+    ){
+        // Unknown ids are turned away before they reach the log
+        if(!itemRepository.existsById(itemId)){
+            throw new ResourceNotFoundException("Item Not Found With These Details");
+        }
+
+        if(lastSeq != null){
+            Optional<List<Object>> deltas = itemStreamLog.since(itemId, lastSeq);
+            if(deltas.isPresent()){
+                return new ItemResyncMessage(itemId, lastSeq + deltas.get().size(), deltas.get(), null);
+            }
+        }
+
+        // Taken before the state is read, so nothing published meanwhile is missed; replays are idempotent per bid id
+        long seq = itemStreamLog.currentSeq(itemId);
+        return new ItemResyncMessage(itemId, seq, List.of(), snapshot(itemId));
+    }
+
+    private ItemSnapshotMessage snapshot(Long itemId){
+        AuctionItem item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new ResourceNotFoundException("Item Not Found With These Details"));
+
+        List<BidResponse> recentBids = bidService.getBidHistory(itemId, null, null).getItems().stream()
+                .map(BidResponse::new)
+                .toList();
+
+        return new ItemSnapshotMessage(
+                itemId,
+                item.getStatus(),
+                bidService.getHighestBid(itemId).map(Bid::getAmount).orElse(item.getCurrentBid()),
+                item.getTotalBids(),
+                item.getAuctionEndsAt(),
+                recentBids
+        );
+    }
+}
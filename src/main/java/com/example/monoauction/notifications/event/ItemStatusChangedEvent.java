@@ -0,0 +1,30 @@
+package com.example.monoauction.notifications.event;
+
+import com.example.monoauction.common.enums.ItemStatus;
+
+import java.util.List;
+
+// Published once the transaction that moved the items has committed
+public class ItemStatusChangedEvent {
+    private final List<Long> itemIds;
+    private final ItemStatus oldStatus;
+    private final ItemStatus newStatus;
+
+    public ItemStatusChangedEvent(List<Long> itemIds, ItemStatus oldStatus, ItemStatus newStatus) {
+        this.itemIds = itemIds;
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+    }
+
+    public List<Long> getItemIds() {
+        return itemIds;
+    }
+
+    public ItemStatus getOldStatus() {
+        return oldStatus;
+    }
+
+    public ItemStatus getNewStatus() {
+        return newStatus;
+    }
+}
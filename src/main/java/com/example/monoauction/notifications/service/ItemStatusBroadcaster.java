@@ -0,0 +1,94 @@
+package com.example.monoauction.notifications.service;
+
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.item.dto.ItemTransition;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.notifications.event.ItemStatusChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Announces item status transitions without holding up the transaction that made them: after commit
+ * an {@link ItemStatusChangedEvent} is published for in-process listeners, and the per-item updates
+ * go out in chunks from a dedicated thread.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemStatusBroadcaster {
+
+    private final WebSocketNotificationService webSocketService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${auction.websocket.status-broadcast.chunk-size:500}")
+    private int chunkSize;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("ItemStatusBroadcast-");
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    public void broadcast(AuctionItem item, ItemStatus oldStatus) {
+        broadcast(List.of(ItemTransition.of(item.getId(), item.getTitle())), oldStatus, item.getStatus());
+    }
+
+    public void broadcast(List<ItemTransition> items, ItemStatus oldStatus, ItemStatus newStatus) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        // Nothing is announced for a transition that rolls back
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(items, oldStatus, newStatus);
+                }
+            });
+            return;
+        }
+        dispatch(items, oldStatus, newStatus);
+    }
+
+    private void dispatch(List<ItemTransition> items, ItemStatus oldStatus, ItemStatus newStatus) {
+        eventPublisher.publishEvent(new ItemStatusChangedEvent(
+                items.stream().map(ItemTransition::getId).toList(), oldStatus, newStatus));
+
+        int size = Math.max(chunkSize, 1);
+        for (int from = 0; from < items.size(); from += size) {
+            List<ItemTransition> chunk = items.subList(from, Math.min(from + size, items.size()));
+            executor.execute(() -> send(chunk, oldStatus, newStatus));
+        }
+    }
+
+    private void send(List<ItemTransition> chunk, ItemStatus oldStatus, ItemStatus newStatus) {
+        for (ItemTransition item : chunk) {
+            try {
+                webSocketService.sendItemStatusUpdate(item.getId(), item.getTitle(), oldStatus, newStatus);
+            } catch (Exception e) {
+                log.error("Error Broadcasting Status Update For Item {}", item.getId(), e);
+            }
+        }
+    }
+}
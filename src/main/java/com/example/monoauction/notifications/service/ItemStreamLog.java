@@ -0,0 +1,107 @@
+package com.example.monoauction.notifications.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Sequence numbers and a bounded delta log for every {@code /topic/item/{id}} stream. A client that
+ * reconnects hands back the last sequence it saw and gets the missed messages from here, or is told
+ * to take a snapshot when they have already fallen out of the log.
+ */
+@Slf4j
+@Component
+public class ItemStreamLog {
+
+    public static final long NO_SEQ = 0;
+
+    @Value("${auction.websocket.item-stream.log-size:256}")
+    private int logSize;
+
+    @Value("${auction.websocket.item-stream.idle-minutes:30}")
+    private long idleMinutes;
+
+    private final Map<Long, ItemLog> logs = new ConcurrentHashMap<>();
+
+    // Assigned and published under one lock, so subscribers receive an item's messages in sequence order
+    public void publish(Long itemId, LongFunction<Object> messageForSeq, Consumer<Object> send) {
+        ItemLog itemLog = logs.computeIfAbsent(itemId, id -> new ItemLog(logSize));
+        itemLog.lastUsedMillis = System.currentTimeMillis();
+        synchronized (itemLog) {
+            Object message = messageForSeq.apply(itemLog.nextSeq);
+            itemLog.append(message);
+            send.accept(message);
+        }
+    }
+
+    // Reads never create a log; with nothing published yet, any later resync from here takes a snapshot
+    public long currentSeq(Long itemId) {
+        ItemLog itemLog = logs.get(itemId);
+        if (itemLog == null) {
+            return NO_SEQ;
+        }
+        synchronized (itemLog) {
+            return itemLog.nextSeq - 1;
+        }
+    }
+
+    // Empty when lastSeq predates the log, or there is no log, in which case only a snapshot can bring the client back
+    public Optional<List<Object>> since(Long itemId, long lastSeq) {
+        ItemLog itemLog = logs.get(itemId);
+        if (itemLog == null) {
+            return Optional.empty();
+        }
+        synchronized (itemLog) {
+            return itemLog.since(lastSeq);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleLogs() {
+        long idleBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(idleMinutes);
+        logs.values().removeIf(itemLog -> itemLog.lastUsedMillis < idleBefore);
+    }
+
+    private static final class ItemLog {
+        private final Object[] messages;
+        // Starts from the clock so a recreated log, after eviction or a restart, never reuses a sequence
+        private long nextSeq = System.currentTimeMillis() * 1000;
+        private int count;
+        private volatile long lastUsedMillis;
+
+        ItemLog(int size) {
+            this.messages = new Object[Math.max(size, 1)];
+        }
+
+        void append(Object message) {
+            messages[(int) (nextSeq % messages.length)] = message;
+            nextSeq++;
+            if (count < messages.length) {
+                count++;
+            }
+        }
+
+        Optional<List<Object>> since(long lastSeq) {
+            long oldestSeq = nextSeq - count;
+            if (lastSeq < oldestSeq - 1 || lastSeq >= nextSeq) {
+                return Optional.empty();
+            }
+
+            List<Object> missed = new ArrayList<>((int) (nextSeq - 1 - lastSeq));
+            for (long seq = lastSeq + 1; seq < nextSeq; seq++) {
+                missed.add(messages[(int) (seq % messages.length)]);
+            }
+            return Optional.of(missed);
+        }
+    }
+}
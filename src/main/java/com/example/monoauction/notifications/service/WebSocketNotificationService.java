@@ -18,6 +18,7 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.LongFunction;
 
 @Service
 @Slf4j
@@ -25,10 +26,11 @@ import java.util.Map;
 public class WebSocketNotificationService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final ItemStreamLog itemStreamLog;
 
     public void sendBidUpdate(Long itemId, Bid bid) {
         BidUpdateMessage message = new BidUpdateMessage();
-        message.setBidId(itemId);
+        message.setItemId(itemId);
         message.setBidId(bid.getId());
         message.setBidderName(bid.getBidderName());
         message.setAmount(bid.getAmount());
@@ -36,7 +38,10 @@ public class WebSocketNotificationService {
         message.setStatus("NEW_BID");
 
         String destination = "/topic/item/" + itemId;
-        messagingTemplate.convertAndSend(destination, message);
+        publishToItem(itemId, destination, seq -> {
+            message.setSeq(seq);
+            return message;
+        });
 
         log.info("WebSocket: Sent bid update to {}", destination);
     }
@@ -58,16 +63,23 @@ public class WebSocketNotificationService {
     }
 
     public void sendItemStatusUpdate(AuctionItem item, ItemStatus oldStatus) {
+        sendItemStatusUpdate(item.getId(), item.getTitle(), oldStatus, item.getStatus());
+    }
+
+    public void sendItemStatusUpdate(Long itemId, String title, ItemStatus oldStatus, ItemStatus newStatus) {
         ItemStatusUpdateMessage message = new ItemStatusUpdateMessage();
-        message.setItemId(item.getId());
-        message.setTitle(item.getTitle());
+        message.setItemId(itemId);
+        message.setTitle(title);
         message.setOldStatus(oldStatus);
-        message.setNewStatus(item.getStatus());
+        message.setNewStatus(newStatus);
         message.setTimestamp(LocalDateTime.now());
-        message.setMessage("Item status change: " + oldStatus + " -> " + item.getStatus());
+        message.setMessage("Item status change: " + oldStatus + " -> " + newStatus);
 
-        String destination = "/topic/item/" + item.getId();
-        messagingTemplate.convertAndSend(destination, message);
+        String destination = "/topic/item/" + itemId;
+        publishToItem(itemId, destination, seq -> {
+            message.setSeq(seq);
+            return message;
+        });
 
         log.info("WebSocket: Sent item status update for item {}", destination);
     }
@@ -93,6 +105,28 @@ public class WebSocketNotificationService {
         log.info("WebSocket: Sent auction status update {}", destination);
     }
 
+    public void sendItemDeadlineUpdate(Long itemId, LocalDateTime endsAt) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "DEADLINE_EXTENDED");
+        message.put("itemId", itemId);
+        message.put("endsAt", endsAt);
+        message.put("timestamp", LocalDateTime.now());
+
+        String destination = "/topic/item/" + itemId;
+        publishToItem(itemId, destination, seq -> {
+            message.put("seq", seq);
+            return message;
+        });
+
+        log.info("WebSocket: Sent deadline update for item {}", destination);
+    }
+
+    // Every message on an item topic carries the item's next sequence number and is kept for resync
+    private void publishToItem(Long itemId, String destination, LongFunction<Object> messageForSeq) {
+        itemStreamLog.publish(itemId, messageForSeq,
+                message -> messagingTemplate.convertAndSend(destination, message));
+    }
+
     public void sendCountdowndUpdate(Long itemId, Long secondsRemaining) {
         Map<String, Object> message = new HashMap<>();
         message.put("itemId", itemId);
@@ -0,0 +1,13 @@
+package com.example.monoauction.scheduler.event;
+
+public class BatchPhaseChangedEvent {
+    private final Long batchId;
+
+    public BatchPhaseChangedEvent(Long batchId) {
+        this.batchId = batchId;
+    }
+
+    public Long getBatchId() {
+        return batchId;
+    }
+}
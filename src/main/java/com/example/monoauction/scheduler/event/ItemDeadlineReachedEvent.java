@@ -0,0 +1,13 @@
+package com.example.monoauction.scheduler.event;
+
+public class ItemDeadlineReachedEvent {
+    private final Long itemId;
+
+    public ItemDeadlineReachedEvent(Long itemId) {
+        this.itemId = itemId;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.monoauction.scheduler.event;
+
+public class LifecycleLeaseChangedEvent {
+    private final boolean leader;
+    private final long fencingToken;
+
+    public LifecycleLeaseChangedEvent(boolean leader, long fencingToken) {
+        this.leader = leader;
+        this.fencingToken = fencingToken;
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    public long getFencingToken() {
+        return fencingToken;
+    }
+}
@@ -1,27 +1,38 @@
 package com.example.monoauction.scheduler.service;
 
 import com.example.monoauction.batch.model.AuctionBatch;
+import com.example.monoauction.batch.model.BatchPhaseSnapshot;
 import com.example.monoauction.batch.service.AuctionBatchService;
-import com.example.monoauction.bids.model.Bid;
-import com.example.monoauction.bids.repository.BidRepository;
+import com.example.monoauction.bids.engine.BidSequencer;
+import com.example.monoauction.bids.engine.LiveBidEngine;
 import com.example.monoauction.common.enums.*;
-import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.common.money.Money;
+import com.example.monoauction.item.dto.ItemTransition;
 import com.example.monoauction.item.repository.AuctionItemRepository;
 import com.example.monoauction.notifications.event.AuctionStartedEvent;
+import com.example.monoauction.notifications.service.ItemStatusBroadcaster;
 import com.example.monoauction.notifications.service.WebSocketNotificationService;
-import com.example.monoauction.payments.model.Transaction;
-import com.example.monoauction.payments.repository.TransactionRepository;
+import com.example.monoauction.scheduler.event.BatchPhaseChangedEvent;
+import com.example.monoauction.scheduler.event.LifecycleLeaseChangedEvent;
+import com.example.monoauction.settlement.dto.SettlementSummary;
+import com.example.monoauction.settlement.service.BatchSettlementEngine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
 
 @Slf4j
 @Service
@@ -30,27 +41,125 @@ public class AuctionLifecycleScheduler {
 
     private final AuctionBatchService batchService;
     private final AuctionItemRepository itemRepository;
-    private final BidRepository bidRepository;
-    private final TransactionRepository transactionRepository;
     private final WebSocketNotificationService webSocketService;
+    private final ItemStatusBroadcaster statusBroadcaster;
     private final ApplicationEventPublisher eventPublisher;
+    private final LiveBidEngine liveBidEngine;
+    private final BidSequencer bidSequencer;
+    private final BatchSettlementEngine settlementEngine;
+    private final ItemDeadlineTracker deadlineTracker;
+    private final LifecycleLease lease;
 
     @Value("${auction.lifecycle.scheduler.enabled}")
     private boolean schedulerEnabled;
 
-    @Scheduled(fixedDelay = 60000)
-    public void checkAndUpdateBatchStatus(){
-        log.info("Checking Batch Status");
+    @Value("${auction.lifecycle.scheduler.retry-seconds:30}")
+    private long retrySeconds;
+
+    private final Object timerLock = new Object();
+    private ThreadPoolTaskScheduler taskScheduler;
+    private ScheduledFuture<?> nextTransition;
+    private ScheduledFuture<?> settlementRetry;
+
+    @PostConstruct
+    public void start(){
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(1);
+        taskScheduler.setThreadNamePrefix("BatchLifecycle-");
+        taskScheduler.initialize();
+    }
+
+    @PreDestroy
+    public void stop(){
+        taskScheduler.shutdown();
+    }
+
+    // Only the lease holder drives batches; a standby keeps no timer until it takes over
+    @EventListener
+    public void onLeaseChanged(LifecycleLeaseChangedEvent event){
+        if(event.isLeader()){
+            taskScheduler.execute(() -> {
+                resumeSettlements();
+                armNextTransition();
+            });
+            return;
+        }
+
+        synchronized (timerLock){
+            if(nextTransition != null){
+                nextTransition.cancel(false);
+                nextTransition = null;
+            }
+            if(settlementRetry != null){
+                settlementRetry.cancel(false);
+                settlementRetry = null;
+            }
+        }
+    }
+
+    // Batch changes commit before this runs; the timer is re-armed off the committing thread, and a batch
+    // that just ended with items left over, including one ended by an admin, is picked up by resumeSettlements
+    @EventListener(BatchPhaseChangedEvent.class)
+    public void onBatchPhaseChanged(){
+        if(!lease.isLeader()){
+            return;
+        }
+        taskScheduler.execute(this::resumeSettlements);
+        if(schedulerEnabled){
+            taskScheduler.schedule(this::armNextTransition, Instant.now());
+        }
+    }
+
+    /**
+     * Arms one timer for the current batch's next phase boundary, or for the week rolling over when
+     * the batch has nothing left to do. A boundary that has passed without a transition, such as an
+     * auction still waiting on soft-closed items, is retried after retry-seconds.
+     */
+    public void armNextTransition(){
         if(!schedulerEnabled){
-            log.info("Scheduler is disabled. Skipping batch status check.");
+            log.info("Scheduler is disabled. Batch transitions will not be armed.");
+            return;
+        }
+        if(!lease.isLeader()){
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime at;
+        try{
+            BatchPhaseSnapshot phase = batchService.getCurrentPhase();
+            at = phase.nextTransitionAt();
+            if(at == null || at.isAfter(phase.validUntil())){
+                at = phase.validUntil();
+            }
+            if(!at.isAfter(now)){
+                at = now.plusSeconds(retrySeconds);
+            }
+        } catch (Exception e) {
+            log.error("Error Arming Batch Transition: {}", e.getMessage(), e);
+            at = now.plusSeconds(retrySeconds);
+        }
+
+        // The phase checks compare with isAfter, so fire just past the boundary
+        Instant fireAt = at.atZone(ZoneId.systemDefault()).toInstant().plusMillis(1);
+        synchronized (timerLock){
+            if(nextTransition != null){
+                nextTransition.cancel(false);
+            }
+            nextTransition = taskScheduler.schedule(this::checkAndUpdateBatchStatus, fireAt);
+        }
+
+        log.info("Next Batch Transition Check Armed For {}", at);
+    }
+
+    public void checkAndUpdateBatchStatus(){
+        if(!lease.isLeader()){
             return;
         }
         try{
             AuctionBatch currentBatch = batchService.getCurrentBatch();
             LocalDateTime now = LocalDateTime.now();
-
-            webSocketService.sendAuctionStatusUpdate(currentBatch,
-                    "Checking Batch Status");
+            lease.fence(currentBatch.getId());
 
             log.info("Check Batch Status. Current: {}, Time: {}",
                     currentBatch.getStatus(), now);
@@ -71,7 +180,8 @@ public class AuctionLifecycleScheduler {
             }
 
             else if(currentBatch.getStatus() == BatchStatus.LIVE &&
-                    now.isAfter(currentBatch.getAuctionEndTime())){
+                    now.isAfter(currentBatch.getAuctionEndTime()) &&
+                    allItemsClosed(currentBatch)){
                 log.info("Ending Auction");
 
                 endAuction(currentBatch);
@@ -80,21 +190,22 @@ public class AuctionLifecycleScheduler {
 
         } catch (Exception e) {
             log.error("Error In Batch Status Check: {}", e.getMessage(), e);
+        } finally {
+            armNextTransition();
         }
     }
 
-    private void transitionToReview(AuctionBatch batch){
-
-        List<AuctionItem> submittedItems = itemRepository.findByBatchIdAndStatus(batch.getId(), ItemStatus.SUBMITTED);
-
+    // With soft-close, the batch waits for extended items; ones left LIVE past their deadline are settled with it
+    private boolean allItemsClosed(AuctionBatch batch){
+        return !deadlineTracker.isEnabled()
+                || itemRepository.countByBatchIdAndStatusAndAuctionEndsAtAfter(
+                        batch.getId(), ItemStatus.LIVE, LocalDateTime.now()) == 0;
+    }
 
-        for(AuctionItem item : submittedItems){
-            ItemStatus oldStatus = item.getStatus();
-            item.setStatus(ItemStatus.UNDER_REVIEW);
-            itemRepository.save(item);
+    private void transitionToReview(AuctionBatch batch){
 
-            webSocketService.sendItemStatusUpdate(item, oldStatus);
-        }
+        List<ItemTransition> submittedItems = itemRepository.moveSubmittedToReview(batch.getId(), LocalDateTime.now());
+        statusBroadcaster.broadcast(submittedItems, ItemStatus.SUBMITTED, ItemStatus.UNDER_REVIEW);
 
         webSocketService.sendAuctionStatusUpdate(batch,
                 "Submission phase ended. Items are now under review.");
@@ -107,18 +218,15 @@ public class AuctionLifecycleScheduler {
 
     private void startAuction(AuctionBatch batch){
         batch.setStatus(BatchStatus.LIVE);
+        batchService.updateBatchStatus(batch.getId(), BatchStatus.LIVE);
 
-        List<AuctionItem> approvedItems = itemRepository
-                .findByBatchIdAndStatus(batch.getId(), ItemStatus.APPROVED);
+        List<ItemTransition> approvedItems = itemRepository
+                .moveApprovedToLive(batch.getId(), LocalDateTime.now(), batch.getAuctionEndTime());
+        List<Long> approvedIds = approvedItems.stream().map(ItemTransition::getId).toList();
 
-        for(AuctionItem item : approvedItems) {
-            ItemStatus oldStatus = item.getStatus();
-            item.setStatus(ItemStatus.LIVE);
-            item.setAuctionStartedAt(LocalDateTime.now());
-            itemRepository.save(item);
-
-            webSocketService.sendItemStatusUpdate(item, oldStatus);
-        }
+        liveBidEngine.loadBatch(batch.getId(), approvedIds);
+        approvedIds.forEach(itemId -> deadlineTracker.arm(itemId, batch.getId(), batch.getAuctionEndTime()));
+        statusBroadcaster.broadcast(approvedItems, ItemStatus.APPROVED, ItemStatus.LIVE);
 
         webSocketService.sendAuctionStatusUpdate(batch,
                 "AUCTION IS NOW LIVE! Start Bidding!");
@@ -128,29 +236,21 @@ public class AuctionLifecycleScheduler {
     }
 
     private void endAuction(AuctionBatch batch){
-        batch.setStatus(BatchStatus.ENDED);
+        // Recorded first so a close interrupted from here on is resumed at startup
+        settlementEngine.begin(batch.getId());
 
-        List<AuctionItem> liveItems = itemRepository
-                .findByBatchIdAndStatus(batch.getId(), ItemStatus.LIVE);
-
-        int soldCount = 0;
-        int unsoldCount = 0;
-        BigDecimal totalAmount = BigDecimal.ZERO;
+        batch.setStatus(BatchStatus.ENDED);
+        batchService.updateBatchStatus(batch.getId(), BatchStatus.ENDED);
 
-        for(AuctionItem item : liveItems){
-            boolean isSold = processItemEnd(item);
+        liveBidEngine.drainBatch(batch.getId());
+        bidSequencer.drainBatch(batch.getId());
+        deadlineTracker.releaseBatch(batch.getId());
 
-            if(isSold){
-                soldCount++;
-                totalAmount = totalAmount.add(item.getCurrentBid());
-            }
-            else{
-                unsoldCount++;
-            }
-        }
+        SettlementSummary summary = settlementEngine.settleBatch(batch.getId(), lease.getFencingToken());
+        int soldCount = summary.soldCount();
+        int unsoldCount = summary.unsoldCount();
 
-        batch.setTotalItemsSold(soldCount);
-        batch.setTotalRevenue(totalAmount);
+        BigDecimal totalAmount = Money.toBigDecimal(summary.revenueCents());
 
         webSocketService.sendAuctionStatusUpdate(batch,
                 "AUCTION ENDED! " + soldCount + " Items Sold.");
@@ -161,87 +261,52 @@ public class AuctionLifecycleScheduler {
 
     }
 
-    private boolean processItemEnd(AuctionItem item){
-        ItemStatus oldStatus = item.getStatus();
-        item.setAuctionEndedAt(LocalDateTime.now());
-
-        Optional<Bid> winningBidOpt = bidRepository
-                .findTopByItemIdOrderByAmountDesc(item.getId());
-
-        if(winningBidOpt.isEmpty()){
-            item.setStatus(ItemStatus.UNSOLD);
-            itemRepository.save(item);
-
-            webSocketService.sendItemStatusUpdate(item, oldStatus);
-
-            log.info("Item {} - No Bid Received", item.getId());
-            return false;
+    // Settlement totals are applied once the last item is settled, so resuming never double counts
+    public void resumeSettlements(){
+        if(!lease.isLeader()){
+            return;
         }
 
-        Bid winningBid = winningBidOpt.get();
-
-        if(item.getReservePrice() != null &&
-            winningBid.getAmount().compareTo(item.getReservePrice()) < 0){
-            item.setStatus(ItemStatus.UNSOLD);
-            winningBid.setStatus(BidStatus.LOST);
-
-            itemRepository.save(item);
-            bidRepository.save(winningBid);
-
-            webSocketService.sendItemStatusUpdate(item, oldStatus);
-
-            log.info("Item {} - Reserve Price Not Met. Highest Bid: {}, Reserve: {}",
-                    item.getId(), winningBid.getAmount(), item.getReservePrice());
-            return false;
+        boolean incomplete = false;
+        for(Long batchId : settlementEngine.findUnfinishedBatchIds()){
+            try{
+                log.info("Resuming Settlement For Batch {}", batchId);
+                lease.fence(batchId);
+
+                AuctionBatch batch = batchService.getBatchById(batchId);
+                if(batch.getStatus() != BatchStatus.ENDED){
+                    batch.setStatus(BatchStatus.ENDED);
+                    batchService.updateBatchStatus(batchId, BatchStatus.ENDED);
+                }
+                deadlineTracker.releaseBatch(batchId);
+
+                SettlementSummary summary = settlementEngine.settleBatch(batchId, lease.getFencingToken());
+
+                webSocketService.sendAuctionStatusUpdate(batch,
+                        "AUCTION ENDED! " + summary.soldCount() + " Items Sold.");
+
+                log.info("Settlement Resumed And Completed For Batch {}. Items Sold: {}",
+                        batch.getBatchCode(), summary.soldCount());
+            } catch (Exception e) {
+                log.error("Error Resuming Settlement For Batch {}: {}", batchId, e.getMessage(), e);
+                incomplete = true;
+            }
         }
 
-        item.setStatus(ItemStatus.SOLD);
-        item.setWinnerId(winningBid.getBidderId());
-        item.setSoldAt(LocalDateTime.now());
-
-        winningBid.setStatus(BidStatus.WON);
-
-        itemRepository.save(item);
-        bidRepository.save(winningBid);
-
-        webSocketService.sendItemStatusUpdate(item, oldStatus);
-
-        List<Bid> otherBids = bidRepository.findByItemIdAndStatusNot(item.getId(), BidStatus.WON);
-
-        otherBids.forEach(otherBid -> {
-            otherBid.setStatus(BidStatus.LOST);
-            bidRepository.save(otherBid);
-        });
-
-        createTransaction(item, winningBid);
-
-        log.info("Item {} - Sold To User {} For {}"
-                , item.getId(), winningBid.getBidderId(), winningBid.getAmount());
-        return true;
+        if(incomplete){
+            scheduleSettlementRetry();
+        }
     }
 
-    private void createTransaction(AuctionItem item, Bid winningBid){
-        Transaction transaction = new Transaction();
-
-        transaction.setAuctionItemId(item.getId());
-        transaction.setBuyerId(winningBid.getBidderId());
-        transaction.setSellerId(item.getSellerId());
-        transaction.setWinningBidId(winningBid.getId());
-        transaction.setAmount(winningBid.getAmount());
-
-        BigDecimal platformFee = winningBid.getAmount().multiply(new BigDecimal("0.05"));
-        transaction.setPlatformFee(platformFee);
-
-        BigDecimal sellerPayout = winningBid.getAmount().subtract(platformFee);
-        transaction.setSellerPayout(sellerPayout);
-
-        transaction.setStatus(TransactionStatus.PENDING);
-        transaction.setPaymentMethod(PaymentMethod.PENDING);
-
-        transactionRepository.save(transaction);
-
-        log.info("Transaction Created For Item {}, Amount: {}, Fee: {}, Payout {}."
-                , item.getId(), winningBid.getAmount(), platformFee, sellerPayout);
+    // Settlements that are still incomplete are retried every retry-seconds while this node leads
+    private void scheduleSettlementRetry(){
+        synchronized (timerLock){
+            if(settlementRetry != null && !settlementRetry.isDone()){
+                return;
+            }
+            settlementRetry = taskScheduler.schedule(this::resumeSettlements, Instant.now().plusSeconds(retrySeconds));
+        }
+        log.info("Incomplete Settlements Will Be Retried In {} Seconds", retrySeconds);
     }
 
     @Scheduled(cron = "0 0 19 * * SUN")
@@ -0,0 +1,72 @@
+package com.example.monoauction.scheduler.service;
+
+import com.example.monoauction.bids.engine.BidSequencer;
+import com.example.monoauction.bids.engine.LiveBidEngine;
+import com.example.monoauction.scheduler.event.ItemDeadlineReachedEvent;
+import com.example.monoauction.settlement.service.ItemSettlementService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemCloseService {
+
+    private final ItemDeadlineTracker deadlineTracker;
+    private final LiveBidEngine liveBidEngine;
+    private final BidSequencer bidSequencer;
+    private final ItemSettlementService settlementService;
+    private final LifecycleLease lease;
+
+    @Value("${auction.soft-close.settle-delay-ms:2000}")
+    private long settleDelayMillis;
+
+    @EventListener
+    @Async
+    public void handleItemDeadlineReached(ItemDeadlineReachedEvent event){
+        Long itemId = event.getItemId();
+
+        // A late bid may have pushed the deadline out after the wheel fired
+        if(!deadlineTracker.isExpired(itemId)){
+            return;
+        }
+
+        try{
+            if(deadlineTracker.followPersistedDeadline(itemId)){
+                return;
+            }
+
+            liveBidEngine.closeItem(itemId);
+            bidSequencer.closeItem(itemId);
+
+            // Every node closes its own book; only the lease holder settles
+            if(!lease.isLeader()){
+                return;
+            }
+
+            // An extension is persisted just after the bid that caused it, so settlement gives it a moment to land
+            long overdueMillis = -deadlineTracker.millisRemaining(itemId);
+            if(overdueMillis < settleDelayMillis){
+                deadlineTracker.retryIn(itemId, settleDelayMillis - overdueMillis);
+                return;
+            }
+
+            if(!settlementService.settleItem(itemId)){
+                if(!deadlineTracker.followPersistedDeadline(itemId)){
+                    deadlineTracker.retry(itemId);
+                }
+                return;
+            }
+
+            log.info("Item {} Closed At Its Deadline", itemId);
+        } catch (Exception e) {
+            // The book is already closed, so only settlement is retried; the batch end settles it otherwise
+            log.error("Error Closing Item {}, Retrying", itemId, e);
+            deadlineTracker.retry(itemId);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.monoauction.scheduler.service;
+
+import com.example.monoauction.batch.model.AuctionBatch;
+import com.example.monoauction.batch.repository.AuctionBatchRepository;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.notifications.service.WebSocketNotificationService;
+import com.example.monoauction.scheduler.event.BatchPhaseChangedEvent;
+import com.example.monoauction.scheduler.event.ItemDeadlineReachedEvent;
+import com.example.monoauction.scheduler.timer.TimingWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Per-item close deadlines with soft-close: a bid accepted inside the closing window pushes the
+ * item's deadline out. Deadlines live on a timing wheel; reaching one publishes an
+ * {@link ItemDeadlineReachedEvent} so the wheel thread never does the settlement itself. Every node
+ * keeps the deadlines of the LIVE items so it can reject late bids; extensions reach the other
+ * nodes through the persisted auction_ends_at.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemDeadlineTracker {
+
+    private final AuctionItemRepository itemRepository;
+    private final AuctionBatchRepository batchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WebSocketNotificationService webSocketService;
+
+    @Value("${auction.soft-close.enabled:false}")
+    private boolean enabled;
+
+    @Value("${auction.soft-close.window-seconds:120}")
+    private long windowSeconds;
+
+    @Value("${auction.soft-close.extension-seconds:120}")
+    private long extensionSeconds;
+
+    @Value("${auction.soft-close.retry-seconds:30}")
+    private long retrySeconds;
+
+    @Value("${auction.soft-close.wheel.tick-ms:10}")
+    private long tickMillis;
+
+    @Value("${auction.soft-close.wheel.size:512}")
+    private int wheelSize;
+
+    private final Map<Long, Deadline> deadlines = new ConcurrentHashMap<>();
+    private TimingWheel wheel;
+    private ThreadPoolTaskExecutor extensionExecutor;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        wheel = new TimingWheel("ItemDeadlineWheel", tickMillis, wheelSize);
+        wheel.start();
+
+        // Extensions are persisted off the bidding path; the UPDATE only ever moves the deadline forward
+        extensionExecutor = new ThreadPoolTaskExecutor();
+        extensionExecutor.setCorePoolSize(1);
+        extensionExecutor.setMaxPoolSize(1);
+        extensionExecutor.setThreadNamePrefix("ItemDeadline-");
+        extensionExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (wheel != null) {
+            wheel.stop();
+            extensionExecutor.shutdown();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rearmLiveItems() {
+        if (!enabled) {
+            return;
+        }
+
+        List<AuctionItem> liveItems = itemRepository.findByStatusOrderByCreatedAtDesc(ItemStatus.LIVE);
+        Set<Long> liveIds = liveItems.stream().map(AuctionItem::getId).collect(Collectors.toSet());
+
+        // Items without their own deadline follow their batch, loaded once per batch
+        Set<Long> batchIds = liveItems.stream()
+                .filter(item -> item.getAuctionEndsAt() == null)
+                .map(AuctionItem::getBatchId)
+                .collect(Collectors.toSet());
+        Map<Long, LocalDateTime> batchEnds = new HashMap<>();
+        for (AuctionBatch batch : batchRepository.findAllById(batchIds)) {
+            batchEnds.put(batch.getId(), batch.getAuctionEndTime());
+        }
+
+        for (AuctionItem item : liveItems) {
+            if (item.getAuctionEndsAt() == null) {
+                item.setAuctionEndsAt(batchEnds.get(item.getBatchId()));
+            }
+            arm(item);
+        }
+
+        // Items the lease holder settled are dropped here once their deadline has passed
+        long now = System.currentTimeMillis();
+        for (Long itemId : deadlines.keySet()) {
+            if (liveIds.contains(itemId)) {
+                continue;
+            }
+            deadlines.computeIfPresent(itemId, (id, deadline) -> {
+                if (now < deadline.endsAtMillis) {
+                    return deadline;
+                }
+                deadline.timeout.cancel();
+                return null;
+            });
+        }
+
+        log.info("Rearmed {} Item Deadlines", liveItems.size());
+    }
+
+    // Arms the items of an auction started on another node, which this node only learns of from the phase
+    @Async
+    @EventListener(BatchPhaseChangedEvent.class)
+    public void onBatchPhaseChanged() {
+        rearmLiveItems();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void arm(AuctionItem item) {
+        arm(item.getId(), item.getBatchId(), item.getAuctionEndsAt());
+    }
+
+    public void arm(Long itemId, Long batchId, LocalDateTime endsAt) {
+        if (!enabled || endsAt == null) {
+            return;
+        }
+
+        long endsAtMillis = toMillis(endsAt);
+
+        // Deadlines are only changed inside the map's compute calls, so a re-arm never races an extension,
+        // and re-arming never pulls a deadline in
+        deadlines.compute(itemId, (id, previous) -> {
+            if (previous != null) {
+                if (previous.endsAtMillis >= endsAtMillis) {
+                    return previous;
+                }
+                previous.timeout.cancel();
+            }
+            Deadline deadline = new Deadline(batchId, endsAtMillis);
+            deadline.timeout = wheel.schedule(endsAtMillis, () -> expire(itemId));
+            return deadline;
+        });
+    }
+
+    // Fires a passed deadline again later without moving it, so a close that failed is retried
+    public void retry(Long itemId) {
+        retryIn(itemId, TimeUnit.SECONDS.toMillis(retrySeconds));
+    }
+
+    public void retryIn(Long itemId, long delayMillis) {
+        if (!enabled) {
+            return;
+        }
+
+        long retryAt = System.currentTimeMillis() + delayMillis;
+        deadlines.computeIfPresent(itemId, (id, deadline) -> {
+            deadline.timeout.cancel();
+            deadline.timeout = wheel.schedule(retryAt, () -> expire(itemId));
+            return deadline;
+        });
+    }
+
+    // A bid taken on another node extends the deadline there and in the database, but not here
+    public boolean followPersistedDeadline(Long itemId) {
+        Deadline deadline = deadlines.get(itemId);
+        if (!enabled || deadline == null) {
+            return false;
+        }
+
+        LocalDateTime persisted = itemRepository.findAuctionEndsAtById(itemId).orElse(null);
+        if (persisted == null || toMillis(persisted) <= deadline.endsAtMillis) {
+            return false;
+        }
+
+        arm(itemId, deadline.batchId, persisted);
+        log.info("Item {} Deadline Follows Extension To {}", itemId, persisted);
+        return true;
+    }
+
+    public void ensureOpen(Long itemId) {
+        Deadline deadline = deadlines.get(itemId);
+        if (deadline != null && System.currentTimeMillis() >= deadline.endsAtMillis) {
+            throw new RuntimeException("Bidding Has Ended For This Item");
+        }
+    }
+
+    // Called after a bid is accepted; only a bid inside the closing window moves the deadline
+    public void onBidAccepted(Long itemId) {
+        long now = System.currentTimeMillis();
+        long extendedTo = now + TimeUnit.SECONDS.toMillis(extensionSeconds);
+
+        Deadline extended = deadlines.computeIfPresent(itemId, (id, deadline) -> {
+            if (now >= deadline.endsAtMillis
+                    || deadline.endsAtMillis - now > TimeUnit.SECONDS.toMillis(windowSeconds)
+                    || extendedTo <= deadline.endsAtMillis) {
+                return deadline;
+            }
+
+            deadline.timeout.cancel();
+            deadline.endsAtMillis = extendedTo;
+            deadline.timeout = wheel.schedule(extendedTo, () -> expire(itemId));
+            return deadline;
+        });
+        if (extended == null || extended.endsAtMillis != extendedTo) {
+            return;
+        }
+
+        LocalDateTime endsAt = toLocalDateTime(extendedTo);
+        extensionExecutor.execute(() -> {
+            try {
+                itemRepository.extendAuctionEnd(itemId, endsAt);
+                webSocketService.sendItemDeadlineUpdate(itemId, endsAt);
+            } catch (Exception e) {
+                log.error("Error Extending Deadline For Item {}", itemId, e);
+            }
+        });
+
+        log.info("Item {} Deadline Extended To {}", itemId, endsAt);
+    }
+
+    public long millisRemaining(Long itemId) {
+        Deadline deadline = deadlines.get(itemId);
+        return deadline == null ? Long.MAX_VALUE : deadline.endsAtMillis - System.currentTimeMillis();
+    }
+
+    // Once passed, only an extension another node took before then can move the deadline again
+    public boolean isExpired(Long itemId) {
+        Deadline deadline = deadlines.get(itemId);
+        return deadline == null || System.currentTimeMillis() >= deadline.endsAtMillis;
+    }
+
+    // Closed items keep their expired deadline until the batch ends so they keep rejecting bids
+    public void releaseBatch(Long batchId) {
+        for (Long itemId : deadlines.keySet()) {
+            deadlines.computeIfPresent(itemId, (id, deadline) -> {
+                if (!deadline.batchId.equals(batchId)) {
+                    return deadline;
+                }
+                deadline.timeout.cancel();
+                return null;
+            });
+        }
+    }
+
+    private void expire(Long itemId) {
+        eventPublisher.publishEvent(new ItemDeadlineReachedEvent(itemId));
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    private static final class Deadline {
+        private final Long batchId;
+        private volatile long endsAtMillis;
+        private TimingWheel.Timeout timeout;
+
+        private Deadline(Long batchId, long endsAtMillis) {
+            this.batchId = batchId;
+            this.endsAtMillis = endsAtMillis;
+        }
+    }
+}
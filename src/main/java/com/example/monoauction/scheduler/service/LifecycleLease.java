@@ -0,0 +1,183 @@
+package com.example.monoauction.scheduler.service;
+
+import com.example.monoauction.batch.repository.AuctionBatchRepository;
+import com.example.monoauction.scheduler.event.LifecycleLeaseChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Decides which node drives batch lifecycle and settlement. The leader holds a session-level Postgres
+ * advisory lock on a connection it keeps for as long as it leads, so the lock goes away with the node.
+ * Every acquisition takes a new fencing token from a sequence; lifecycle work stamps it on the batch,
+ * and writes made under an older token are refused, so a node that lost the lock without noticing
+ * cannot settle a batch a second time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LifecycleLease {
+
+    // Token used when the lease is not in play; fenced writes are not checked against it
+    public static final long UNFENCED = 0;
+
+    private static final String CREATE_SEQUENCE = "CREATE SEQUENCE IF NOT EXISTS ah_lifecycle_fencing_seq";
+    private static final String NEXT_TOKEN = "SELECT nextval('ah_lifecycle_fencing_seq')";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuctionBatchRepository batchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${auction.lifecycle.scheduler.enabled}")
+    private boolean schedulerEnabled;
+
+    @Value("${auction.lifecycle.lease.lock-key:872301}")
+    private long lockKey;
+
+    private final Object leaseLock = new Object();
+    private Connection connection;
+    private volatile long fencingToken = UNFENCED;
+    private volatile boolean leader;
+    private volatile boolean started;
+
+    // Without the scheduler only this node's admin drives batches, so it leads unfenced
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!schedulerEnabled) {
+            leader = true;
+            eventPublisher.publishEvent(new LifecycleLeaseChangedEvent(true, UNFENCED));
+            return;
+        }
+
+        jdbcTemplate.execute(CREATE_SEQUENCE);
+        started = true;
+        renew();
+    }
+
+    @PreDestroy
+    public void stop() {
+        synchronized (leaseLock) {
+            release();
+        }
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    public long getFencingToken() {
+        return fencingToken;
+    }
+
+    // Stamps the token on the batch; fails once a newer leader has claimed it
+    public void fence(Long batchId) {
+        long token = fencingToken;
+        if (token == UNFENCED) {
+            if (schedulerEnabled) {
+                throw new RuntimeException("Lifecycle Lease Not Held");
+            }
+            return;
+        }
+        if (batchRepository.claimFence(batchId, token) == 0) {
+            throw new RuntimeException("Lifecycle Lease Lost For Batch");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auction.lifecycle.lease.renew-ms:5000}")
+    public void renew() {
+        if (!started) {
+            return;
+        }
+
+        boolean changed;
+        synchronized (leaseLock) {
+            changed = leader ? checkHeld() : tryAcquire();
+        }
+
+        if (changed) {
+            eventPublisher.publishEvent(new LifecycleLeaseChangedEvent(leader, fencingToken));
+        }
+    }
+
+    private boolean tryAcquire() {
+        try {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(true);
+
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+                statement.setLong(1, lockKey);
+                try (ResultSet result = statement.executeQuery()) {
+                    if (!result.next() || !result.getBoolean(1)) {
+                        closeConnection();
+                        return false;
+                    }
+                }
+            }
+
+            fencingToken = jdbcTemplate.queryForObject(NEXT_TOKEN, Long.class);
+            leader = true;
+
+            log.info("Lifecycle Lease Acquired With Fencing Token {}", fencingToken);
+            return true;
+        } catch (Exception e) {
+            log.error("Error Acquiring Lifecycle Lease", e);
+            release();
+            return false;
+        }
+    }
+
+    // The lock lives exactly as long as the session, so a broken connection means it is gone
+    private boolean checkHeld() {
+        try {
+            if (connection.isValid(2)) {
+                return false;
+            }
+        } catch (SQLException e) {
+            log.error("Error Checking Lifecycle Lease", e);
+        }
+
+        log.warn("Lifecycle Lease Lost, Fencing Token {} Retired", fencingToken);
+        release();
+        return true;
+    }
+
+    private void release() {
+        if (connection != null && leader) {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+                statement.setLong(1, lockKey);
+                statement.execute();
+            } catch (SQLException e) {
+                log.debug("Could Not Unlock Lifecycle Lease: {}", e.getMessage());
+            }
+        }
+        leader = false;
+        fencingToken = UNFENCED;
+        closeConnection();
+    }
+
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Could Not Close Lifecycle Lease Connection: {}", e.getMessage());
+        }
+        connection = null;
+    }
+}
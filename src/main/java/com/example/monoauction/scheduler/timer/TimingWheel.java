@@ -0,0 +1,214 @@
+package com.example.monoauction.scheduler.timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hierarchical timing wheel. Level 0 has one bucket per tick and every level above covers a full
+ * rotation of the level below per bucket, so scheduling and cancelling are O(1) and a waiting
+ * deadline costs a single node. One thread advances the wheel and runs the expired tasks, so tasks
+ * should hand real work off to another executor.
+ */
+@Slf4j
+public class TimingWheel {
+
+    private static final int LEVELS = 4;
+
+    private final String name;
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final Bucket[][] levels;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final List<Timeout> expired = new ArrayList<>();
+    private Thread worker;
+    private volatile boolean running;
+    private long currentTick;
+
+    public TimingWheel(String name, long tickMillis, int wheelSize) {
+        int size = Integer.highestOneBit(Math.max(wheelSize, 2));
+        this.name = name;
+        this.tickMillis = Math.max(tickMillis, 1);
+        this.bits = Integer.numberOfTrailingZeros(size);
+        this.mask = size - 1;
+        this.levels = new Bucket[LEVELS][size];
+
+        for (Bucket[] level : levels) {
+            for (int i = 0; i < size; i++) {
+                level[i] = new Bucket();
+            }
+        }
+    }
+
+    public void start() {
+        currentTick = System.currentTimeMillis() / tickMillis;
+        running = true;
+        worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Safe from any thread; the wheel thread picks the timeout up on its next tick
+    public Timeout schedule(long deadlineMillis, Runnable task) {
+        Timeout timeout = new Timeout(deadlineMillis, task);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    private void run() {
+        while (running) {
+            long nowTick = System.currentTimeMillis() / tickMillis;
+
+            transferPending();
+            while (currentTick < nowTick) {
+                advance(++currentTick);
+            }
+            runExpired();
+
+            long sleepMillis = (currentTick + 1) * tickMillis - System.currentTimeMillis();
+            if (sleepMillis > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(sleepMillis));
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (!timeout.isCancelled()) {
+                insert(timeout);
+            }
+        }
+    }
+
+    // Higher levels cascade first so their timeouts can still land in this tick's lower buckets
+    private void advance(long tick) {
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            int shift = bits * level;
+            if ((tick & ((1L << shift) - 1)) == 0) {
+                Timeout timeout = levels[level][(int) ((tick >>> shift) & mask)].clear();
+                while (timeout != null) {
+                    Timeout next = timeout.next;
+                    timeout.next = null;
+                    if (!timeout.isCancelled()) {
+                        insert(timeout);
+                    }
+                    timeout = next;
+                }
+            }
+        }
+
+        Timeout timeout = levels[0][(int) (tick & mask)].clear();
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.next = null;
+            expired.add(timeout);
+            timeout = next;
+        }
+    }
+
+    private void insert(Timeout timeout) {
+        // Rounded up so a timeout never fires before its deadline
+        long deadlineTick = (timeout.deadlineMillis + tickMillis - 1) / tickMillis;
+        if (deadlineTick <= currentTick) {
+            expired.add(timeout);
+            return;
+        }
+
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = bits * level;
+            if ((deadlineTick >>> shift) - (currentTick >>> shift) <= mask || level == LEVELS - 1) {
+                levels[level][(int) ((deadlineTick >>> shift) & mask)].add(timeout);
+                return;
+            }
+        }
+    }
+
+    private void runExpired() {
+        for (Timeout timeout : expired) {
+            if (!timeout.expire()) {
+                continue;
+            }
+            try {
+                timeout.task.run();
+            } catch (Throwable e) {
+                log.error("Error Running Timer Task On {}", name, e);
+            }
+        }
+        expired.clear();
+    }
+
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        Timeout clear() {
+            Timeout first = head;
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+
+    public static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final long deadlineMillis;
+        private final Runnable task;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private Timeout next;
+
+        private Timeout(long deadlineMillis, Runnable task) {
+            this.deadlineMillis = deadlineMillis;
+            this.task = task;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        // Cancelled timeouts are dropped lazily when the wheel reaches their bucket
+        public boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private boolean expire() {
+            return state.compareAndSet(PENDING, EXPIRED);
+        }
+    }
+}
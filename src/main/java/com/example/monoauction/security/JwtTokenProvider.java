@@ -14,6 +14,7 @@ import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -75,12 +76,16 @@ public class JwtTokenProvider {
     }
 
     public Boolean validateToken(String token) {
+        return parseValidClaims(token).isPresent();
+    }
+
+    // Verifies the token and hands back its claims, so callers needing more than one of them parse it once
+    public Optional<Claims> parseValidClaims(String token) {
         try {
-            Jwts.parser().verifyWith(SECRET_KEY)
+            return Optional.of(Jwts.parser().verifyWith(SECRET_KEY)
                     .build()
-                    .parseSignedClaims(token);
-
-            return true;
+                    .parseSignedClaims(token)
+                    .getPayload());
 
         } catch (SecurityException ex) {
             log.error("Invalid JWT Signature");
@@ -93,7 +98,7 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT Claims String Is Empty");
         }
-        return false;
+        return Optional.empty();
     }
 
 }
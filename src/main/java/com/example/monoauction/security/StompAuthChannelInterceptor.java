@@ -0,0 +1,52 @@
+package com.example.monoauction.security;
+
+import com.example.monoauction.common.execptions.BusinessException;
+import com.example.monoauction.user.model.User;
+import com.example.monoauction.user.service.UserService;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates a STOMP session once, at CONNECT, from the same bearer token the REST API takes.
+ * Every later frame on the session carries the resulting {@link StompPrincipal}, so sending a bid
+ * costs no JWT parsing or user lookup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JwtTokenProvider tokenProvider;
+    private final UserService userService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.CONNECT.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        String bearerToken = accessor.getFirstNativeHeader("Authorization");
+        if (bearerToken == null || !bearerToken.startsWith("Bearer ")) {
+            // Anonymous sessions can still subscribe to the public item topics
+            return message;
+        }
+
+        Claims claims = tokenProvider.parseValidClaims(bearerToken.substring(7))
+                .orElseThrow(() -> new BusinessException("Invalid Or Expired Token"));
+
+        User user = userService.getUserById(Long.parseLong(claims.getSubject()));
+        accessor.setUser(new StompPrincipal(user, claims.getExpiration().getTime()));
+
+        log.debug("WebSocket: Authenticated STOMP session for user {}", user.getId());
+        return message;
+    }
+}
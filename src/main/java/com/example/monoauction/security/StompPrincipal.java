@@ -0,0 +1,18 @@
+package com.example.monoauction.security;
+
+import com.example.monoauction.user.model.User;
+
+import java.security.Principal;
+
+// Session user of an authenticated STOMP connection; the name is the user id so user destinations resolve by id
+public record StompPrincipal(User user, long expiresAtMillis) implements Principal {
+
+    @Override
+    public String getName() {
+        return user.getId().toString();
+    }
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.monoauction.settlement.dto;
+
+public record SettlementSummary(int soldCount, int unsoldCount, long revenueCents) {
+
+    public static final SettlementSummary EMPTY = new SettlementSummary(0, 0, 0);
+
+    public SettlementSummary plus(SettlementSummary other) {
+        return new SettlementSummary(
+                soldCount + other.soldCount,
+                unsoldCount + other.unsoldCount,
+                revenueCents + other.revenueCents);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.monoauction.settlement.model;
+
+import com.example.monoauction.common.enums.SettlementStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// One row per batch being closed; every settled chunk adds to the counters in its own transaction
+@Entity
+@Table(name = "ah_settlement_progress")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementProgress {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "batch_id", nullable = false, unique = true)
+    private Long batchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SettlementStatus status;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer settledItems = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer soldCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer unsoldCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long revenueCents = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer chunksCompleted = 0;
+
+    private LocalDateTime lastCheckpointAt;
+    private LocalDateTime completedAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,39 @@
+package com.example.monoauction.settlement.repository;
+
+import com.example.monoauction.common.enums.SettlementStatus;
+import com.example.monoauction.settlement.model.SettlementProgress;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface SettlementProgressRepository extends JpaRepository<SettlementProgress, Long> {
+
+    Optional<SettlementProgress> findByBatchId(Long batchId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM SettlementProgress p WHERE p.batchId = :batchId")
+    Optional<SettlementProgress> findByBatchIdForUpdate(@Param("batchId") Long batchId);
+
+    List<SettlementProgress> findByStatus(SettlementStatus status);
+
+    // Runs inside the chunk's transaction, so the counters only ever include committed chunks
+    @Modifying
+    @Query("UPDATE SettlementProgress p SET p.settledItems = p.settledItems + :settled, " +
+            "p.soldCount = p.soldCount + :sold, p.unsoldCount = p.unsoldCount + :unsold, " +
+            "p.revenueCents = p.revenueCents + :revenueCents, p.chunksCompleted = p.chunksCompleted + 1, " +
+            "p.lastCheckpointAt = :now WHERE p.batchId = :batchId AND p.status = :status")
+    int checkpoint(@Param("batchId") Long batchId,
+                   @Param("settled") int settled,
+                   @Param("sold") int sold,
+                   @Param("unsold") int unsold,
+                   @Param("revenueCents") long revenueCents,
+                   @Param("status") SettlementStatus status,
+                   @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,93 @@
+package com.example.monoauction.settlement.service;
+
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.settlement.dto.SettlementSummary;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Closes a whole batch by splitting its LIVE items into chunks and settling the chunks in parallel,
+ * each in its own transaction through {@link ItemSettlementService#settleChunk}. A failed chunk rolls
+ * back on its own and leaves its items LIVE; the settlement then stays in progress and the next run,
+ * including the one made at startup, only picks up the items that are still LIVE.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchSettlementEngine {
+
+    private final AuctionItemRepository itemRepository;
+    private final ItemSettlementService settlementService;
+    private final SettlementProgressService progressService;
+
+    @Value("${auction.settlement.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${auction.settlement.parallelism:4}")
+    private int parallelism;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(parallelism, 1));
+        executor.setMaxPoolSize(Math.max(parallelism, 1));
+        executor.setThreadNamePrefix("Settlement-");
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    public void begin(Long batchId) {
+        progressService.begin(batchId);
+    }
+
+    // Returns the totals of every run for this batch, not just this one
+    public SettlementSummary settleBatch(Long batchId, long fencingToken) {
+        progressService.begin(batchId);
+
+        List<Long> itemIds = itemRepository.findIdsByBatchIdAndStatus(batchId, ItemStatus.LIVE);
+        int size = Math.max(chunkSize, 1);
+
+        List<CompletableFuture<SettlementSummary>> chunks = new ArrayList<>();
+        for (int from = 0; from < itemIds.size(); from += size) {
+            List<Long> chunk = itemIds.subList(from, Math.min(from + size, itemIds.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> settlementService.settleChunk(batchId, fencingToken, chunk), executor)
+                    .exceptionally(e -> {
+                        log.error("Error Settling Chunk Of {} Items In Batch {}", chunk.size(), batchId, e);
+                        return SettlementSummary.EMPTY;
+                    }));
+        }
+
+        SettlementSummary run = SettlementSummary.EMPTY;
+        for (CompletableFuture<SettlementSummary> chunk : chunks) {
+            run = run.plus(chunk.join());
+        }
+
+        log.info("Settled Batch {} In {} Chunks. Sold: {}, Unsold: {}",
+                batchId, chunks.size(), run.soldCount(), run.unsoldCount());
+
+        if (itemRepository.countByBatchIdAndStatus(batchId, ItemStatus.LIVE) > 0) {
+            throw new RuntimeException("Settlement Incomplete For Batch, Will Resume");
+        }
+        return progressService.complete(batchId);
+    }
+
+    public List<Long> findUnfinishedBatchIds() {
+        return progressService.findUnfinishedBatchIds();
+    }
+}
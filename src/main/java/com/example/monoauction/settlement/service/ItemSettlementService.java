@@ -0,0 +1,263 @@
+package com.example.monoauction.settlement.service;
+
+import com.example.monoauction.batch.repository.AuctionBatchRepository;
+import com.example.monoauction.batch.service.BatchCounters;
+import com.example.monoauction.bids.history.RecentBidsBuffer;
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.repository.BidRepository;
+import com.example.monoauction.common.enums.BidStatus;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.common.enums.PaymentMethod;
+import com.example.monoauction.common.enums.SettlementStatus;
+import com.example.monoauction.common.enums.TransactionStatus;
+import com.example.monoauction.common.money.Money;
+import com.example.monoauction.item.dto.ItemTransition;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.notifications.service.ItemStatusBroadcaster;
+import com.example.monoauction.payments.model.Transaction;
+import com.example.monoauction.payments.repository.TransactionRepository;
+import com.example.monoauction.scheduler.service.LifecycleLease;
+import com.example.monoauction.settlement.dto.SettlementSummary;
+import com.example.monoauction.settlement.repository.SettlementProgressRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class ItemSettlementService {
+
+    private static final String SETTLE_ITEM =
+            "UPDATE ah_auctionitems SET status = ?, winner_id = ?, sold_at = ?, auction_ended_at = ?, " +
+            "version = COALESCE(version, 0) + 1, updated_at = ? WHERE id = ? AND status = 'LIVE'";
+    private static final String INSERT_TRANSACTION =
+            "INSERT INTO ah_transactions (auction_item_id, buyer_id, seller_id, winning_bid_id, amount, " +
+            "platform_fee, seller_payout, status, payment_method, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final AuctionItemRepository itemRepository;
+    private final AuctionBatchRepository batchRepository;
+    private final BidRepository bidRepository;
+    private final TransactionRepository transactionRepository;
+    private final RecentBidsBuffer recentBids;
+    private final ItemStatusBroadcaster statusBroadcaster;
+    private final JdbcTemplate jdbcTemplate;
+    private final SettlementProgressRepository progressRepository;
+    private final BatchCounters batchCounters;
+
+    @Value("${auction.settlement.platform-fee-bps:500}")
+    private long platformFeeBasisPoints;
+
+    /**
+     * Settles one item at its own deadline and adds the sale to the batch totals. Returns false,
+     * leaving the item LIVE, while its persisted deadline is still ahead, which happens when a bid
+     * on another node extended it.
+     */
+    public boolean settleItem(Long itemId){
+        if(itemRepository.claimForSettlement(itemId, ItemStatus.LIVE, LocalDateTime.now()) == 0){
+            return itemRepository.findById(itemId)
+                    .map(item -> item.getStatus() != ItemStatus.LIVE)
+                    .orElse(true);
+        }
+
+        AuctionItem item = itemRepository.findById(itemId).orElseThrow();
+        if(settle(item)){
+            batchCounters.addSold(item.getBatchId(), Money.toCents(item.getCurrentBid()));
+        }
+        return true;
+    }
+
+    /**
+     * Settles a chunk of items in one transaction with set-based writes: one batched item update, one
+     * UPDATE for the losing bids, one for the winners and one batched insert for the transactions.
+     * Items that are no longer LIVE are left alone, which makes re-running a chunk after a crash safe,
+     * and the batch's settlement progress is checkpointed in the same transaction. A fenced chunk only
+     * runs while its token is still the batch's latest.
+     */
+    public SettlementSummary settleChunk(Long batchId, long fencingToken, List<Long> itemIds){
+        if(fencingToken != LifecycleLease.UNFENCED && batchRepository.lockFence(batchId, fencingToken).isEmpty()){
+            throw new RuntimeException("Lifecycle Lease Lost For Batch");
+        }
+
+        List<AuctionItem> items = itemRepository.findAllById(itemIds).stream()
+                .filter(item -> item.getStatus() == ItemStatus.LIVE)
+                .toList();
+        if(items.isEmpty()){
+            return SettlementSummary.EMPTY;
+        }
+
+        Map<Long, Bid> topBids = bidRepository.findTopBidPerItem(items.stream().map(AuctionItem::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Bid::getItemId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> itemRows = new ArrayList<>(items.size());
+        List<Bid> winners = new ArrayList<>(items.size());
+
+        for(AuctionItem item : items){
+            Bid topBid = topBids.get(item.getId());
+            boolean sold = topBid != null && (item.getReservePrice() == null
+                    || Money.toCents(topBid.getAmount()) >= Money.toCents(item.getReservePrice()));
+
+            winners.add(sold ? topBid : null);
+            itemRows.add(sold
+                    ? new Object[]{ItemStatus.SOLD.name(), topBid.getBidderId(), now, now, now, item.getId()}
+                    : new Object[]{ItemStatus.UNSOLD.name(), null, null, now, now, item.getId()});
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(SETTLE_ITEM, itemRows);
+
+        List<Long> settledIds = new ArrayList<>(items.size());
+        List<Long> wonBidIds = new ArrayList<>();
+        List<Object[]> transactionRows = new ArrayList<>();
+        List<ItemTransition> soldItems = new ArrayList<>();
+        List<ItemTransition> unsoldItems = new ArrayList<>();
+        long revenueCents = 0;
+
+        for(int i = 0; i < items.size(); i++){
+            // Zero rows means the item was settled elsewhere after it was read
+            if(updated[i] == 0){
+                continue;
+            }
+
+            AuctionItem item = items.get(i);
+            Bid winner = winners.get(i);
+            settledIds.add(item.getId());
+            recentBids.release(item.getId());
+
+            if(winner == null){
+                unsoldItems.add(ItemTransition.of(item.getId(), item.getTitle()));
+                continue;
+            }
+
+            long amountCents = Money.toCents(winner.getAmount());
+            long feeCents = Money.percentOf(amountCents, platformFeeBasisPoints);
+            wonBidIds.add(winner.getId());
+            transactionRows.add(new Object[]{item.getId(), winner.getBidderId(), item.getSellerId(), winner.getId(),
+                    winner.getAmount(), Money.toBigDecimal(feeCents), Money.toBigDecimal(amountCents - feeCents),
+                    TransactionStatus.PENDING.name(), PaymentMethod.PENDING.name(), now, now});
+            soldItems.add(ItemTransition.of(item.getId(), item.getTitle()));
+            revenueCents = Money.add(revenueCents, amountCents);
+        }
+
+        if(!settledIds.isEmpty()){
+            bidRepository.updateStatusForItems(settledIds, BidStatus.LOST);
+        }
+        if(!wonBidIds.isEmpty()){
+            bidRepository.updateStatusForBids(wonBidIds, BidStatus.WON);
+            jdbcTemplate.batchUpdate(INSERT_TRANSACTION, transactionRows);
+        }
+
+        statusBroadcaster.broadcast(soldItems, ItemStatus.LIVE, ItemStatus.SOLD);
+        statusBroadcaster.broadcast(unsoldItems, ItemStatus.LIVE, ItemStatus.UNSOLD);
+
+        progressRepository.checkpoint(batchId, settledIds.size(), soldItems.size(), unsoldItems.size(),
+                revenueCents, SettlementStatus.IN_PROGRESS, now);
+
+        log.info("Settled Chunk Of {} Items. Sold: {}, Unsold: {}",
+                settledIds.size(), soldItems.size(), unsoldItems.size());
+        return new SettlementSummary(soldItems.size(), unsoldItems.size(), revenueCents);
+    }
+
+    public boolean settle(AuctionItem item){
+        ItemStatus oldStatus = item.getStatus();
+        item.setAuctionEndedAt(LocalDateTime.now());
+        recentBids.release(item.getId());
+
+        Optional<Bid> winningBidOpt = bidRepository
+                .findTopByItemIdOrderByAmountDescIdDesc(item.getId());
+
+        if(winningBidOpt.isEmpty()){
+            item.setStatus(ItemStatus.UNSOLD);
+            itemRepository.save(item);
+
+            statusBroadcaster.broadcast(item, oldStatus);
+
+            log.info("Item {} - No Bid Received", item.getId());
+            return false;
+        }
+
+        Bid winningBid = winningBidOpt.get();
+
+        long winningCents = Money.toCents(winningBid.getAmount());
+
+        if(item.getReservePrice() != null &&
+                winningCents < Money.toCents(item.getReservePrice())){
+            item.setStatus(ItemStatus.UNSOLD);
+            winningBid.setStatus(BidStatus.LOST);
+
+            itemRepository.save(item);
+            bidRepository.save(winningBid);
+
+            statusBroadcaster.broadcast(item, oldStatus);
+
+            log.info("Item {} - Reserve Price Not Met. Highest Bid: {}, Reserve: {}",
+                    item.getId(), winningBid.getAmount(), item.getReservePrice());
+            return false;
+        }
+
+        item.setStatus(ItemStatus.SOLD);
+        item.setWinnerId(winningBid.getBidderId());
+        item.setSoldAt(LocalDateTime.now());
+
+        winningBid.setStatus(BidStatus.WON);
+
+        itemRepository.save(item);
+        bidRepository.save(winningBid);
+
+        statusBroadcaster.broadcast(item, oldStatus);
+
+        List<Bid> otherBids = bidRepository.findByItemIdAndStatusNot(item.getId(), BidStatus.WON);
+
+        otherBids.forEach(otherBid -> {
+            otherBid.setStatus(BidStatus.LOST);
+            bidRepository.save(otherBid);
+        });
+
+        createTransaction(item, winningBid, winningCents);
+
+        log.info("Item {} - Sold To User {} For {}"
+                , item.getId(), winningBid.getBidderId(), winningBid.getAmount());
+        return true;
+    }
+
+    private void createTransaction(AuctionItem item, Bid winningBid, long amountCents){
+        Transaction transaction = new Transaction();
+
+        transaction.setAuctionItemId(item.getId());
+        transaction.setBuyerId(winningBid.getBidderId());
+        transaction.setSellerId(item.getSellerId());
+        transaction.setWinningBidId(winningBid.getId());
+        transaction.setAmount(winningBid.getAmount());
+
+        long feeCents = Money.percentOf(amountCents, platformFeeBasisPoints);
+        BigDecimal platformFee = Money.toBigDecimal(feeCents);
+        transaction.setPlatformFee(platformFee);
+
+        BigDecimal sellerPayout = Money.toBigDecimal(amountCents - feeCents);
+        transaction.setSellerPayout(sellerPayout);
+
+        transaction.setStatus(TransactionStatus.PENDING);
+        transaction.setPaymentMethod(PaymentMethod.PENDING);
+
+        transactionRepository.save(transaction);
+
+        log.info("Transaction Created For Item {}, Amount: {}, Fee: {}, Payout {}."
+                , item.getId(), winningBid.getAmount(), platformFee, sellerPayout);
+    }
+}
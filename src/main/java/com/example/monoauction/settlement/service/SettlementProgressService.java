@@ -0,0 +1,71 @@
+package com.example.monoauction.settlement.service;
+
+import com.example.monoauction.batch.repository.AuctionBatchRepository;
+import com.example.monoauction.common.enums.SettlementStatus;
+import com.example.monoauction.common.money.Money;
+import com.example.monoauction.settlement.dto.SettlementSummary;
+import com.example.monoauction.settlement.model.SettlementProgress;
+import com.example.monoauction.settlement.repository.SettlementProgressRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SettlementProgressService {
+
+    private final SettlementProgressRepository progressRepository;
+    private final AuctionBatchRepository batchRepository;
+
+    // Committed on its own so the chunk transactions can checkpoint against it straight away
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public SettlementProgress begin(Long batchId){
+        return progressRepository.findByBatchId(batchId).orElseGet(() -> {
+            SettlementProgress progress = new SettlementProgress();
+            progress.setBatchId(batchId);
+            progress.setStatus(SettlementStatus.IN_PROGRESS);
+            progress.setSettledItems(0);
+            progress.setSoldCount(0);
+            progress.setUnsoldCount(0);
+            progress.setRevenueCents(0L);
+            progress.setChunksCompleted(0);
+            return progressRepository.save(progress);
+        });
+    }
+
+    public List<Long> findUnfinishedBatchIds(){
+        return progressRepository.findByStatus(SettlementStatus.IN_PROGRESS).stream()
+                .map(SettlementProgress::getBatchId)
+                .toList();
+    }
+
+    /**
+     * Closes the progress row and adds its totals to the batch in the same transaction, so the totals
+     * are applied exactly once however many runs it took to settle every item.
+     */
+    @Transactional
+    public SettlementSummary complete(Long batchId){
+        SettlementProgress progress = progressRepository.findByBatchIdForUpdate(batchId)
+                .orElseThrow(() -> new RuntimeException("Settlement Not Found For Batch"));
+
+        SettlementSummary summary = new SettlementSummary(
+                progress.getSoldCount(), progress.getUnsoldCount(), progress.getRevenueCents());
+        if(progress.getStatus() == SettlementStatus.COMPLETED){
+            return summary;
+        }
+
+        batchRepository.addTotals(batchId, 0, 0, 0, summary.soldCount(), Money.toBigDecimal(summary.revenueCents()));
+
+        progress.setStatus(SettlementStatus.COMPLETED);
+        progress.setCompletedAt(LocalDateTime.now());
+        progressRepository.save(progress);
+
+        log.info("Settlement Completed For Batch {} After {} Chunks", batchId, progress.getChunksCompleted());
+        return summary;
+    }
+}
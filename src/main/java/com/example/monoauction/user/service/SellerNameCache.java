@@ -0,0 +1,115 @@
+package com.example.monoauction.user.service;
+
+import com.example.monoauction.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seller display names for item responses. A page of items resolves all of its sellers at once:
+ * names still in the cache are reused and the rest are loaded with a single IN query. Entries
+ * expire after a TTL and the map is bounded; a profile change evicts the seller's entry.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SellerNameCache {
+
+    public static final String UNKNOWN = "Unknown";
+
+    private final UserRepository userRepository;
+
+    @Value("${auction.seller-names.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${auction.seller-names.max-entries:20000}")
+    private int maxEntries;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public String nameOf(Long sellerId) {
+        return namesOf(List.of(sellerId)).getOrDefault(sellerId, UNKNOWN);
+    }
+
+    // Sellers that no longer exist are left out of the result
+    public Map<Long, String> namesOf(Collection<Long> sellerIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, String> names = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+
+        for (Long sellerId : sellerIds) {
+            if (sellerId == null || names.containsKey(sellerId)) {
+                continue;
+            }
+            Entry entry = entries.get(sellerId);
+            if (entry != null && entry.expiresAtMillis > now) {
+                names.put(sellerId, entry.name);
+            } else {
+                missing.add(sellerId);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return names;
+        }
+
+        long expiresAt = now + TimeUnit.SECONDS.toMillis(ttlSeconds);
+        for (Object[] row : userRepository.findFullNamesByIdIn(missing)) {
+            Long sellerId = (Long) row[0];
+            String name = (String) row[1];
+            names.put(sellerId, name);
+            entries.put(sellerId, new Entry(name, expiresAt));
+        }
+        evictIfFull(now);
+
+        return names;
+    }
+
+    // Removed again after commit, in case a reader cached the old name while the change was in flight
+    public void evict(Long userId) {
+        entries.remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(userId);
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+    }
+
+    // Past the bound, expired entries go first and then the ones closest to expiring
+    private void evictIfFull(long now) {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+
+        int excess = entries.size() - maxEntries;
+        if (excess > 0) {
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().expiresAtMillis))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(entries::remove);
+        }
+    }
+
+    private record Entry(String name, long expiresAtMillis) {
+    }
+}
@@ -20,6 +20,7 @@ public class UserService {
     private final UserRepository userRepository;
 
     private final PasswordEncoder passwordEncoder;
+    private final SellerNameCache sellerNameCache;
 
     public User registerUser(String email, String password, String fullName, UserRole role) {
         if (userRepository.existsByEmail(email)) {
@@ -52,7 +53,10 @@ public class UserService {
         User user = getUserById(userId);
         user.setFullName(fullName);
         user.setPhoneNumber(phoneNumber);
-        return userRepository.save(user);
+
+        User savedUser = userRepository.save(user);
+        sellerNameCache.evict(userId);
+        return savedUser;
     }
 
     public User updatePassword(Long userId, String password){
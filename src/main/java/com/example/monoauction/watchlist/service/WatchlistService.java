@@ -6,6 +6,7 @@ import com.example.monoauction.item.model.AuctionItem;
 import com.example.monoauction.item.repository.AuctionItemRepository;
 import com.example.monoauction.user.model.User;
 import com.example.monoauction.user.repository.UserRepository;
+import com.example.monoauction.user.service.SellerNameCache;
 import com.example.monoauction.watchlist.dto.WatchlistRequest;
 import com.example.monoauction.watchlist.dto.WatchlistResponse;
 import com.example.monoauction.watchlist.model.WatchlistItem;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +28,7 @@ public class WatchlistService {
     private final WatchlistRepository watchlistRepository;
     private final UserRepository userRepository;
     private final AuctionItemRepository auctionItemRepository;
+    private final SellerNameCache sellerNameCache;
 
     @Transactional
     public WatchlistResponse addToWatchlist(Long userId, WatchlistRequest request) {
@@ -53,7 +56,7 @@ public class WatchlistService {
         WatchlistItem savedWatchlistItem = watchlistRepository.save(watchlistItem);
         log.info("User {} added item {} to watchlist", userId, request.getItemId());
 
-        return convertToWatchlistResponse(savedWatchlistItem);
+        return convertToWatchlistResponse(savedWatchlistItem, sellerNameCache.nameOf(item.getSellerId()));
     }
 
     @Transactional
@@ -70,17 +73,13 @@ public class WatchlistService {
     @Transactional(readOnly = true)
     public List<WatchlistResponse> getUserWatchlist(Long userId) {
         List<WatchlistItem> watchlistItems = watchlistRepository.findByUserId(userId);
-        return watchlistItems.stream()
-                .map(this::convertToWatchlistResponse)
-                .collect(Collectors.toList());
+        return convertToWatchlistResponses(watchlistItems);
     }
 
     @Transactional
     public List<WatchlistResponse> getLiveWatchlistItems(Long userId) {
         List<WatchlistItem> watchlistItems = watchlistRepository.findByUserIdAndItemStatus(userId, "LIVE");
-        return watchlistItems.stream()
-                .map(this::convertToWatchlistResponse)
-                .collect(Collectors.toList());
+        return convertToWatchlistResponses(watchlistItems);
     }
 
     public boolean isInWatchlist(Long userId, Long itemId) {
@@ -107,7 +106,8 @@ public class WatchlistService {
         }
 
         WatchlistItem updated = watchlistRepository.save(watchlistItem);
-        return convertToWatchlistResponse(updated);
+        return convertToWatchlistResponse(updated,
+                sellerNameCache.nameOf(updated.getAuctionItem().getSellerId()));
 
     }
 
@@ -115,12 +115,20 @@ public class WatchlistService {
         return watchlistRepository.countByUserId(userId);
     }
 
-    private WatchlistResponse convertToWatchlistResponse(WatchlistItem watchlistItem) {
-        AuctionItem item = auctionItemRepository.findById(watchlistItem.getAuctionItem().getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Item not found"));
+    // The watchlist queries fetch the items with the rows, so only the seller names are looked up, all at once
+    private List<WatchlistResponse> convertToWatchlistResponses(List<WatchlistItem> watchlistItems) {
+        Map<Long, String> sellerNames = sellerNameCache.namesOf(watchlistItems.stream()
+                .map(watchlistItem -> watchlistItem.getAuctionItem().getSellerId())
+                .toList());
+
+        return watchlistItems.stream()
+                .map(watchlistItem -> convertToWatchlistResponse(watchlistItem, sellerNames.getOrDefault(
+                        watchlistItem.getAuctionItem().getSellerId(), SellerNameCache.UNKNOWN)))
+                .collect(Collectors.toList());
+    }
 
-        User seller = userRepository.findById(item.getSellerId())
-                .orElseThrow(() -> new ResourceNotFoundException("Seller not found"));
+    private WatchlistResponse convertToWatchlistResponse(WatchlistItem watchlistItem, String sellerName) {
+        AuctionItem item = watchlistItem.getAuctionItem();
 
         return WatchlistResponse.builder()
                 .watchlistId(watchlistItem.getId())
@@ -131,7 +139,7 @@ public class WatchlistService {
                 .currentBid(item.getCurrentBid())
                 .reservePrice(item.getReservePrice())
                 .itemStatus(item.getStatus().name())
-                .sellerName(seller.getFullName())
+                .sellerName(sellerName)
                 .totalBids(item.getTotalBids())
                 .addedToWatchlistAt(watchlistItem.getAddedAt())
                 .notifyOnBid(watchlistItem.getNotifyOnBid())
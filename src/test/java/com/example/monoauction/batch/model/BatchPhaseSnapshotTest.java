@@ -0,0 +1,64 @@
+package com.example.monoauction.batch.model;
+
+import com.example.monoauction.common.enums.BatchStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchPhaseSnapshotTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 1, 5, 0, 0);
+
+    @Test
+    void submissionIsOpenOnlyInsideItsWindow() {
+        BatchPhaseSnapshot snapshot = snapshot(BatchStatus.SUBMISSION);
+
+        assertTrue(snapshot.isSubmissionOpen(MONDAY.plusDays(1)));
+        assertFalse(snapshot.isSubmissionOpen(MONDAY.plusDays(3)));
+        assertFalse(snapshot(BatchStatus.REVIEW).isSubmissionOpen(MONDAY.plusDays(1)));
+    }
+
+    @Test
+    void reviewIsActiveOnlyInsideItsWindow() {
+        BatchPhaseSnapshot snapshot = snapshot(BatchStatus.REVIEW);
+
+        assertTrue(snapshot.isReviewPhaseActive(MONDAY.plusDays(3).plusHours(1)));
+        assertFalse(snapshot.isReviewPhaseActive(MONDAY.plusDays(5)));
+    }
+
+    @Test
+    void auctionIsLiveByStatus() {
+        assertTrue(snapshot(BatchStatus.LIVE).isAuctionLive());
+        assertFalse(snapshot(BatchStatus.ENDED).isAuctionLive());
+    }
+
+    @Test
+    void nextTransitionFollowsTheStatus() {
+        assertEquals(MONDAY.plusDays(2).withHour(23).withMinute(59).withSecond(59),
+                snapshot(BatchStatus.SUBMISSION).nextTransitionAt());
+        // Review hands over a minute before the auction starts when that comes later than the review end
+        assertEquals(MONDAY.plusDays(5).withHour(9).withMinute(59),
+                snapshot(BatchStatus.REVIEW).nextTransitionAt());
+        assertEquals(MONDAY.plusDays(6).withHour(20), snapshot(BatchStatus.LIVE).nextTransitionAt());
+        assertNull(snapshot(BatchStatus.ENDED).nextTransitionAt());
+    }
+
+    private static BatchPhaseSnapshot snapshot(BatchStatus status) {
+        AuctionBatch batch = AuctionBatch.builder()
+                .id(1L)
+                .batchCode("BATCH-2026-W02")
+                .weekNumber(2)
+                .year(2026)
+                .status(status)
+                .submissionStartDate(MONDAY)
+                .submissionEndDate(MONDAY.plusDays(2).withHour(23).withMinute(59).withSecond(59))
+                .reviewStartDate(MONDAY.plusDays(3))
+                .reviewEndDate(MONDAY.plusDays(4).withHour(23).withMinute(59).withSecond(59))
+                .auctionStartTime(MONDAY.plusDays(5).withHour(10))
+                .auctionEndTime(MONDAY.plusDays(6).withHour(20))
+                .build();
+        return BatchPhaseSnapshot.of(batch, MONDAY.plusDays(7));
+    }
+}
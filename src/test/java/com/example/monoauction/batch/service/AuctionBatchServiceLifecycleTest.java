@@ -0,0 +1,92 @@
+package com.example.monoauction.batch.service;
+
+import com.example.monoauction.batch.model.AuctionBatch;
+import com.example.monoauction.batch.repository.AuctionBatchRepository;
+import com.example.monoauction.bids.engine.LiveBidEngine;
+import com.example.monoauction.common.enums.BatchStatus;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.item.dto.ItemTransition;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.notifications.service.ItemStatusBroadcaster;
+import com.example.monoauction.notifications.service.WebSocketNotificationService;
+import com.example.monoauction.scheduler.service.ItemDeadlineTracker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionBatchServiceLifecycleTest {
+
+    private static final LocalDateTime AUCTION_END = LocalDateTime.of(2026, 1, 11, 20, 0);
+
+    @Mock
+    private AuctionBatchRepository batchRepository;
+    @Mock
+    private AuctionItemRepository itemRepository;
+    @Mock
+    private WebSocketNotificationService webSocketService;
+    @Mock
+    private ItemStatusBroadcaster statusBroadcaster;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private LiveBidEngine liveBidEngine;
+    @Mock
+    private ItemDeadlineTracker deadlineTracker;
+
+    @InjectMocks
+    private AuctionBatchService batchService;
+
+    @Test
+    void reviewMovesEverySubmittedItemInOneStatement() {
+        AuctionBatch batch = batch(BatchStatus.SUBMISSION);
+        List<ItemTransition> moved = List.of(ItemTransition.of(1L, "Lamp"), ItemTransition.of(2L, "Chair"));
+        when(batchRepository.findById(7L)).thenReturn(Optional.of(batch));
+        when(itemRepository.moveSubmittedToReview(eq(7L), any())).thenReturn(moved);
+
+        batchService.batchLifecycle(7L, BatchStatus.REVIEW);
+
+        assertEquals(BatchStatus.REVIEW, batch.getStatus());
+        verify(itemRepository).moveSubmittedToReview(eq(7L), any());
+        verify(statusBroadcaster).broadcast(moved, ItemStatus.SUBMITTED, ItemStatus.UNDER_REVIEW);
+        verify(itemRepository, never()).save(any());
+    }
+
+    @Test
+    void goingLiveLoadsAndArmsOnlyTheMovedItems() {
+        AuctionBatch batch = batch(BatchStatus.REVIEW);
+        List<ItemTransition> moved = List.of(ItemTransition.of(1L, "Lamp"), ItemTransition.of(2L, "Chair"));
+        when(batchRepository.findById(7L)).thenReturn(Optional.of(batch));
+        when(itemRepository.moveApprovedToLive(eq(7L), any(), eq(AUCTION_END))).thenReturn(moved);
+
+        batchService.batchLifecycle(7L, BatchStatus.LIVE);
+
+        assertEquals(BatchStatus.LIVE, batch.getStatus());
+        verify(liveBidEngine).loadBatch(7L, List.of(1L, 2L));
+        verify(deadlineTracker).arm(1L, 7L, AUCTION_END);
+        verify(deadlineTracker).arm(2L, 7L, AUCTION_END);
+        verify(statusBroadcaster).broadcast(moved, ItemStatus.APPROVED, ItemStatus.LIVE);
+        verify(itemRepository, never()).findAll();
+    }
+
+    private static AuctionBatch batch(BatchStatus status) {
+        return AuctionBatch.builder()
+                .id(7L)
+                .batchCode("BATCH-2026-W02")
+                .status(status)
+                .auctionEndTime(AUCTION_END)
+                .build();
+    }
+}
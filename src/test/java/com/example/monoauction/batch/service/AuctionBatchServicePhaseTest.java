@@ -0,0 +1,101 @@
+package com.example.monoauction.batch.service;
+
+import com.example.monoauction.batch.model.AuctionBatch;
+import com.example.monoauction.batch.repository.AuctionBatchRepository;
+import com.example.monoauction.common.enums.BatchStatus;
+import com.example.monoauction.scheduler.event.BatchPhaseChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionBatchServicePhaseTest {
+
+    @Mock
+    private AuctionBatchRepository batchRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AuctionBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(batchService, "phaseRecheckSeconds", 0L);
+    }
+
+    @Test
+    void phaseIsLoadedOnceUntilItsBoundary() {
+        LocalDateTime now = LocalDateTime.now();
+        when(batchRepository.findByWeekNumberAndYearAndIsDeleted(anyInt(), anyInt(), eq(false)))
+                .thenReturn(Optional.of(batch(BatchStatus.SUBMISSION, now.plusHours(1))));
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(batchService.isSubmissionOpen());
+            assertFalse(batchService.isAuctionLive());
+        }
+
+        verify(batchRepository, times(1)).findByWeekNumberAndYearAndIsDeleted(anyInt(), anyInt(), eq(false));
+    }
+
+    @Test
+    void invalidationReloadsAndAnnouncesTheChange() {
+        LocalDateTime now = LocalDateTime.now();
+        when(batchRepository.findByWeekNumberAndYearAndIsDeleted(anyInt(), anyInt(), eq(false)))
+                .thenReturn(Optional.of(batch(BatchStatus.SUBMISSION, now.plusHours(1))))
+                .thenReturn(Optional.of(batch(BatchStatus.LIVE, now.plusHours(1))));
+        batchService.isAuctionLive();
+
+        batchService.invalidatePhase();
+
+        assertTrue(batchService.isAuctionLive());
+        ArgumentCaptor<BatchPhaseChangedEvent> event = ArgumentCaptor.forClass(BatchPhaseChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(1L, event.getValue().getBatchId());
+    }
+
+    @Test
+    void passedBoundaryIsRecheckedUntilAnotherNodeMovesTheBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        when(batchRepository.findByWeekNumberAndYearAndIsDeleted(anyInt(), anyInt(), eq(false)))
+                .thenReturn(Optional.of(batch(BatchStatus.SUBMISSION, now.minusMinutes(1))))
+                .thenReturn(Optional.of(batch(BatchStatus.REVIEW, now.minusMinutes(1))));
+
+        assertEquals(BatchStatus.SUBMISSION, batchService.getCurrentPhase().status());
+        assertEquals(BatchStatus.REVIEW, batchService.getCurrentPhase().status());
+
+        // A transition made elsewhere is announced here like a local one
+        verify(eventPublisher).publishEvent(any(BatchPhaseChangedEvent.class));
+    }
+
+    private static AuctionBatch batch(BatchStatus status, LocalDateTime submissionEnd) {
+        return AuctionBatch.builder()
+                .id(1L)
+                .batchCode("BATCH-TEST")
+                .weekNumber(1)
+                .year(2026)
+                .status(status)
+                .submissionStartDate(submissionEnd.minusDays(2))
+                .submissionEndDate(submissionEnd)
+                .reviewStartDate(submissionEnd.plusHours(1))
+                .reviewEndDate(submissionEnd.plusDays(1))
+                .auctionStartTime(submissionEnd.plusDays(2))
+                .auctionEndTime(submissionEnd.plusDays(3))
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.monoauction.batch.service;
+
+import com.example.monoauction.batch.dto.BatchTotals;
+import com.example.monoauction.batch.model.AuctionBatch;
+import com.example.monoauction.batch.repository.AuctionBatchRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchCountersTest {
+
+    private static final Long BATCH = 7L;
+
+    @Mock
+    private AuctionBatchRepository batchRepository;
+
+    @InjectMocks
+    private BatchCounters counters;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void totalsIncludeWhatIsNotFlushedYet() {
+        counters.addSubmitted(BATCH, 3);
+        counters.addApproved(BATCH);
+        counters.addRejected(BATCH);
+        counters.addSold(BATCH, 12_550);
+
+        BatchTotals totals = counters.totals(batch(10, 4, 1, 2, "300.00"));
+
+        assertEquals(new BatchTotals(13, 5, 2, 3, new BigDecimal("425.50")), totals);
+    }
+
+    @Test
+    void flushWritesOneAdditiveUpdateAndResets() {
+        counters.addSubmitted(BATCH, 2);
+        counters.addSubmitted(BATCH, 1);
+        counters.addSold(BATCH, 10_000);
+
+        counters.flush();
+        counters.flush();
+
+        verify(batchRepository, times(1)).addTotals(BATCH, 3, 0, 0, 1, new BigDecimal("100.00"));
+        assertEquals(new BatchTotals(0, 0, 0, 0, new BigDecimal("0.00")), counters.totals(batch(0, 0, 0, 0, null)));
+    }
+
+    @Test
+    void failedFlushCarriesTheDeltasOver() {
+        counters.addApproved(BATCH);
+        when(batchRepository.addTotals(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), any()))
+                .thenThrow(new RuntimeException("Connection Refused"))
+                .thenReturn(1);
+
+        counters.flush();
+        counters.addApproved(BATCH);
+        counters.flush();
+
+        verify(batchRepository).addTotals(BATCH, 0, 1, 0, 0, new BigDecimal("0.00"));
+        verify(batchRepository).addTotals(BATCH, 0, 2, 0, 0, new BigDecimal("0.00"));
+    }
+
+    @Test
+    void changesCountOnlyOnceCommitted() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        counters.addSubmitted(BATCH, 1);
+        counters.flush();
+
+        verifyNoInteractions(batchRepository);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        counters.flush();
+        verify(batchRepository).addTotals(BATCH, 1, 0, 0, 0, new BigDecimal("0.00"));
+    }
+
+    private static AuctionBatch batch(int submitted, int approved, int rejected, int sold, String revenue) {
+        AuctionBatch batch = new AuctionBatch();
+        batch.setId(BATCH);
+        batch.setTotalItemsSubmitted(submitted);
+        batch.setTotalItemsApproved(approved);
+        batch.setTotalItemsRejected(rejected);
+        batch.setTotalItemsSold(sold);
+        batch.setTotalRevenue(revenue != null ? new BigDecimal(revenue) : null);
+        return batch;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.monoauction.bids.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidRingBufferTest {
+
+    @Test
+    void capacityRoundsDownToPowerOfTwo() {
+        BidRingBuffer ring = new BidRingBuffer(6);
+
+        for (long i = 0; i < 4; i++) {
+            long itemId = i;
+            assertTrue(ring.offer(command -> command.close(itemId, null)));
+        }
+        assertFalse(ring.offer(command -> command.close(99L, null)));
+        assertEquals(4, ring.available(10));
+    }
+
+    @Test
+    void fullRingRejectsUntilReleased() {
+        BidRingBuffer ring = new BidRingBuffer(4);
+        for (long i = 0; i < 4; i++) {
+            long itemId = i;
+            ring.offer(command -> command.close(itemId, null));
+        }
+
+        assertFalse(ring.offer(command -> command.close(4L, null)));
+
+        ring.release(1);
+        assertTrue(ring.offer(command -> command.close(4L, null)));
+        assertFalse(ring.offer(command -> command.close(5L, null)));
+    }
+
+    @Test
+    void sequencesWrapAroundInOrder() {
+        BidRingBuffer ring = new BidRingBuffer(4);
+        long next = 0;
+
+        // Ten laps of the ring in uneven batches, so slots are reused at every offset
+        for (int lap = 0; lap < 10; lap++) {
+            for (int i = 0; i < 3; i++) {
+                long itemId = next + i;
+                assertTrue(ring.offer(command -> command.close(itemId, null)));
+            }
+
+            assertEquals(3, ring.available(4));
+            for (int i = 0; i < 3; i++) {
+                assertEquals(BidCommand.Type.CLOSE, ring.get(i).getType());
+                assertEquals(next + i, (long) ring.get(i).getItemId());
+            }
+            ring.release(3);
+            next += 3;
+
+            assertEquals(0, ring.available(4));
+        }
+    }
+
+    @Test
+    void availableIsCappedAtMax() {
+        BidRingBuffer ring = new BidRingBuffer(8);
+        for (long i = 0; i < 5; i++) {
+            long itemId = i;
+            ring.offer(command -> command.close(itemId, null));
+        }
+
+        assertEquals(2, ring.available(2));
+        assertEquals(5, ring.available(8));
+    }
+
+    @Test
+    void releaseClearsSlotReferences() {
+        BidRingBuffer ring = new BidRingBuffer(2);
+        ring.offer(command -> command.bid(BidCommand.Type.BID, 1L, null, BigDecimal.TEN, "key", null));
+
+        BidCommand slot = ring.get(0);
+        ring.release(1);
+
+        assertNull(slot.getAmount());
+        assertNull(slot.getIdempotencyKey());
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.monoauction.bids.engine;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.repository.BidRepository;
+import com.example.monoauction.bids.service.BidNotificationService;
+import com.example.monoauction.bids.service.ProxyBidService;
+import com.example.monoauction.common.enums.BidProcessingMode;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.scheduler.service.ItemDeadlineTracker;
+import com.example.monoauction.user.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidSequencerTest {
+
+    private static final User BIDDER = User.builder().id(10L).fullName("Alice").build();
+
+    @Mock
+    private AuctionItemRepository itemRepository;
+    @Mock
+    private BidRepository bidRepository;
+    @Mock
+    private BidNotificationService bidNotificationService;
+    @Mock
+    private ProxyBidService proxyBidService;
+    @Mock
+    private ItemDeadlineTracker deadlineTracker;
+    @Mock
+    private BidWriteBehindJournal bidJournal;
+
+    @InjectMocks
+    private BidSequencer sequencer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sequencer, "biddingMode", BidProcessingMode.SEQUENCER);
+        ReflectionTestUtils.setField(sequencer, "shardCount", 1);
+        ReflectionTestUtils.setField(sequencer, "ringSize", 16);
+        ReflectionTestUtils.setField(sequencer, "maxBatch", 16);
+        ReflectionTestUtils.setField(sequencer, "drainTimeoutSeconds", 5L);
+
+        when(bidRepository.findTopByItemIdOrderByAmountDescIdDesc(any())).thenReturn(Optional.empty());
+        // Acknowledged like ACK_AFTER_FLUSH: the shard waits for the row's own future
+        doAnswer(invocation -> invocation.<CompletableFuture<Bid>>getArgument(0).join())
+                .when(bidJournal).awaitAcknowledgement(any());
+
+        sequencer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sequencer.stop();
+    }
+
+    @Test
+    void failedRowFailsOnlyItsOwnBidInTheBatch() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(itemRepository.findById(0L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(liveItem(0L));
+        });
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(liveItem(1L)));
+        when(itemRepository.findById(2L)).thenReturn(Optional.of(liveItem(2L)));
+        when(bidJournal.append(any(AcceptedBid.class))).thenAnswer(invocation -> {
+            AcceptedBid accepted = invocation.getArgument(0);
+            return accepted.getItem().getId() == 2L
+                    ? CompletableFuture.failedFuture(new IllegalStateException("Row Rejected"))
+                    : CompletableFuture.completedFuture(accepted.getBid());
+        });
+
+        // Item 0 holds the shard while items 1 and 2 queue up, so they are flushed as one batch
+        CompletableFuture<Bid> first = sequencer.submit(0L, BIDDER, amount("100.00"), null);
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Bid> stored = sequencer.submit(1L, BIDDER, amount("100.00"), null);
+        CompletableFuture<Bid> rejected = sequencer.submit(2L, BIDDER, amount("100.00"), null);
+        release.countDown();
+
+        assertNotNull(first.get(5, TimeUnit.SECONDS));
+        assertEquals(amount("100.00"), stored.get(5, TimeUnit.SECONDS).getAmount());
+        ExecutionException error = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertEquals("Bid Could Not Be Saved, Please Retry", error.getCause().getMessage());
+
+        verify(bidNotificationService, timeout(5000)).notifyAccepted(argThat(a -> a.getItem().getId() == 1L));
+        verify(bidNotificationService, never()).notifyAccepted(argThat(a -> a.getItem().getId() == 2L));
+    }
+
+    @Test
+    void failedRowEvictsOnlyItsOwnBook() throws Exception {
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(liveItem(1L)));
+        when(itemRepository.findById(2L)).thenReturn(Optional.of(liveItem(2L)));
+        when(bidJournal.append(any(AcceptedBid.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.<AcceptedBid>getArgument(0).getBid()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Row Rejected")))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.<AcceptedBid>getArgument(0).getBid()));
+
+        sequencer.submit(1L, BIDDER, amount("100.00"), null).get(5, TimeUnit.SECONDS);
+        CompletableFuture<Bid> rejected = sequencer.submit(2L, BIDDER, amount("100.00"), null);
+        assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        sequencer.submit(1L, BIDDER, amount("110.00"), null).get(5, TimeUnit.SECONDS);
+        sequencer.submit(2L, BIDDER, amount("100.00"), null).get(5, TimeUnit.SECONDS);
+
+        verify(itemRepository, times(1)).findById(1L);
+        verify(itemRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    void notificationsRunOffTheShardThread() throws Exception {
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(liveItem(1L)));
+        when(bidJournal.append(any(AcceptedBid.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.<AcceptedBid>getArgument(0).getBid()));
+        CompletableFuture<String> notifiedOn = new CompletableFuture<>();
+        doAnswer(invocation -> notifiedOn.complete(Thread.currentThread().getName()))
+                .when(bidNotificationService).notifyAccepted(any());
+
+        sequencer.submit(1L, BIDDER, amount("100.00"), null).get(5, TimeUnit.SECONDS);
+
+        assertTrue(notifiedOn.get(5, TimeUnit.SECONDS).startsWith("BidNotify-"));
+    }
+
+    private static AuctionItem liveItem(Long itemId) {
+        return AuctionItem.builder()
+                .id(itemId)
+                .batchId(7L)
+                .sellerId(1L)
+                .status(ItemStatus.LIVE)
+                .startingPrice(amount("100.00"))
+                .bidIncrement(amount("10.00"))
+                .totalBids(0)
+                .build();
+    }
+
+    private static BigDecimal amount(String value) {
+        return new BigDecimal(value);
+    }
+}
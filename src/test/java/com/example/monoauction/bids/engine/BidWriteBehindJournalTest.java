@@ -0,0 +1,248 @@
+package com.example.monoauction.bids.engine;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.model.ProxyBid;
+import com.example.monoauction.common.enums.BidDurabilityMode;
+import com.example.monoauction.common.enums.BidProcessingMode;
+import com.example.monoauction.common.enums.BidStatus;
+import com.example.monoauction.item.model.AuctionItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidWriteBehindJournalTest {
+
+    private static final String BID_TIME = "2026-01-05T12:00:00.123456";
+
+    @TempDir
+    Path tempDir;
+
+    private Path journalFile;
+    private RecordingJdbcTemplate jdbcTemplate;
+    private BidWriteBehindJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        journalFile = tempDir.resolve("bid-journal.log");
+        jdbcTemplate = new RecordingJdbcTemplate();
+        journal = new BidWriteBehindJournal(jdbcTemplate, new NoOpTransactionManager());
+
+        // DIRECT mode only replays on start, no flusher thread is started
+        ReflectionTestUtils.setField(journal, "biddingMode", BidProcessingMode.DIRECT);
+        ReflectionTestUtils.setField(journal, "journalFile", journalFile.toString());
+    }
+
+    @Test
+    void replaysJournaledBidsAndTruncatesJournal() throws IOException {
+        writeJournal(
+                line(1, 10, "100.00", 1, "Alice", "key-1"),
+                line(1, 11, "120.00", 2, "Bob", "key-2"),
+                line(2, 10, "50.00", 1, "Alice", "key-3"));
+
+        journal.start();
+
+        assertEquals(3, jdbcTemplate.replayed.size());
+        assertReplayed(jdbcTemplate.replayed.get(0), 1L, 10L, "100.00", "key-1");
+        assertReplayed(jdbcTemplate.replayed.get(1), 1L, 11L, "120.00", "key-2");
+        assertReplayed(jdbcTemplate.replayed.get(2), 2L, 10L, "50.00", "key-3");
+        assertEquals(0, Files.size(journalFile));
+    }
+
+    @Test
+    void appliesItemStateFromLastBidPerItem() throws IOException {
+        writeJournal(
+                line(1, 10, "100.00", 1, "Alice", "key-1"),
+                line(2, 10, "50.00", 1, "Alice", "key-2"),
+                line(1, 11, "120.00", 2, "Bob", "key-3"));
+
+        journal.start();
+
+        List<Object[]> outbid = jdbcTemplate.batches.get("UPDATE ah_bids");
+        assertEquals(2, outbid.size());
+        assertEquals(3L, outbid.get(0)[3]);
+        assertEquals(2L, outbid.get(1)[3]);
+
+        List<Object[]> items = jdbcTemplate.batches.get("UPDATE ah_auctionitems");
+        assertEquals(2, items.size());
+        assertEquals(new BigDecimal("120.00"), items.get(0)[0]);
+        assertEquals(2, items.get(0)[1]);
+        assertEquals(1L, items.get(0)[2]);
+        assertEquals(new BigDecimal("50.00"), items.get(1)[0]);
+        assertEquals(2L, items.get(1)[2]);
+    }
+
+    @Test
+    void itemTotalAdvancesEvenWhenPriceIsUnchanged() throws IOException {
+        // A proxy answer at the same price as an earlier flush still adds to the bid count
+        writeJournal(line(1, 11, "120.00", 3, "Bob", "key-1"));
+
+        journal.start();
+
+        String sql = jdbcTemplate.statements.get("UPDATE ah_auctionitems");
+        assertTrue(sql.contains("total_bids = GREATEST(total_bids, ?)"));
+        assertTrue(sql.endsWith("WHERE id = ?"));
+        assertArrayEquals(new Object[]{new BigDecimal("120.00"), 3, 1L},
+                jdbcTemplate.batches.get("UPDATE ah_auctionitems").get(0));
+    }
+
+    @Test
+    void replaysJournaledProxyMaximumsWithTheirBids() throws IOException {
+        writeJournal(
+                String.join("\t", "P", "1", "11", "300.00", BID_TIME, "Bob"),
+                line(1, 11, "120.00", 2, "Bob", ""));
+
+        journal.start();
+
+        List<Object[]> maximums = jdbcTemplate.batches.get("INSERT INTO ah_proxy_bids");
+        assertEquals(1, maximums.size());
+        assertEquals(1L, maximums.get(0)[0]);
+        assertEquals(11L, maximums.get(0)[1]);
+        assertEquals("Bob", maximums.get(0)[2]);
+        assertEquals(new BigDecimal("300.00"), maximums.get(0)[3]);
+        assertEquals(1, jdbcTemplate.replayed.size());
+        assertReplayed(jdbcTemplate.replayed.get(0), 1L, 11L, "120.00", null);
+    }
+
+    @Test
+    void flushesRaisedMaximumWithoutBids() throws Exception {
+        ReflectionTestUtils.setField(journal, "biddingMode", BidProcessingMode.IN_MEMORY);
+        ReflectionTestUtils.setField(journal, "durability", BidDurabilityMode.ACK_AFTER_ENQUEUE);
+        ReflectionTestUtils.setField(journal, "queueCapacity", 16);
+        ReflectionTestUtils.setField(journal, "flushIntervalMs", 1L);
+        ReflectionTestUtils.setField(journal, "flushRows", 16);
+        ReflectionTestUtils.setField(journal, "drainTimeoutSeconds", 5L);
+        journal.start();
+
+        ProxyBid maximum = ProxyBid.builder()
+                .itemId(1L)
+                .bidderId(11L)
+                .bidderName("Bob")
+                .maxAmount(new BigDecimal("500.00"))
+                .maxAmountSetAt(LocalDateTime.parse(BID_TIME))
+                .build();
+        Bid leading = Bid.builder().itemId(1L).bidderId(11L).amount(new BigDecimal("120.00")).build();
+        AcceptedBid raised = new AcceptedBid(null, List.of(), leading, leading, new AuctionItem(), 2, maximum);
+
+        journal.append(raised).get(5, TimeUnit.SECONDS);
+        journal.stop();
+
+        List<Object[]> maximums = jdbcTemplate.batches.get("INSERT INTO ah_proxy_bids");
+        assertEquals(new BigDecimal("500.00"), maximums.get(0)[3]);
+        assertNull(jdbcTemplate.batches.get("UPDATE ah_auctionitems"));
+        // Everything journaled was flushed, so the journal was cut back
+        assertEquals(0, Files.size(journalFile));
+    }
+
+    @Test
+    void skipsTornAndMalformedLines() throws IOException {
+        writeJournal(
+                line(1, 10, "100.00", 1, "Alice", "key-1"),
+                String.join("\t", "1", "x", "110.00", BID_TIME, "2", "Bob", "key-2"),
+                "1\t11\t120.0");
+
+        journal.start();
+
+        assertEquals(1, jdbcTemplate.replayed.size());
+        assertReplayed(jdbcTemplate.replayed.get(0), 1L, 10L, "100.00", "key-1");
+    }
+
+    @Test
+    void keepsJournalWhenReplayFails() throws IOException {
+        String contents = line(1, 10, "100.00", 1, "Alice", "key-1") + "\n";
+        Files.writeString(journalFile, contents, StandardCharsets.UTF_8);
+        jdbcTemplate.failReplay = true;
+
+        journal.start();
+
+        assertEquals(contents, Files.readString(journalFile, StandardCharsets.UTF_8));
+        assertEquals(true, ReflectionTestUtils.getField(journal, "replayRequired"));
+    }
+
+    @Test
+    void startsWithoutJournalFile() {
+        journal.start();
+
+        assertTrue(jdbcTemplate.replayed.isEmpty());
+        assertFalse(Files.exists(journalFile));
+    }
+
+    private void assertReplayed(Object[] args, Long itemId, Long bidderId, String amount, String idempotencyKey) {
+        assertEquals(itemId, args[0]);
+        assertEquals(bidderId, args[1]);
+        assertEquals(new BigDecimal(amount), args[2]);
+        assertEquals(BidStatus.WINNING.ordinal(), args[3]);
+        assertEquals(idempotencyKey, args[7]);
+    }
+
+    private void writeJournal(String... lines) throws IOException {
+        Files.writeString(journalFile, String.join("\n", lines) + "\n", StandardCharsets.UTF_8);
+    }
+
+    private static String line(long itemId, long bidderId, String amount, int totalBids, String name, String key) {
+        return String.join("\t", Long.toString(itemId), Long.toString(bidderId), amount, BID_TIME,
+                Integer.toString(totalBids), name, key);
+    }
+
+    // Replayed rows get ids in order; batch updates are kept by statement prefix
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<Object[]> replayed = new ArrayList<>();
+        private final Map<String, List<Object[]>> batches = new HashMap<>();
+        private final Map<String, String> statements = new HashMap<>();
+        private boolean failReplay;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+            if (failReplay) {
+                throw new IllegalStateException("Database Unavailable");
+            }
+            replayed.add(args);
+            return (T) Long.valueOf(replayed.size());
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            String statement = sql.startsWith("UPDATE ah_bids") ? "UPDATE ah_bids"
+                    : sql.startsWith("INSERT INTO ah_proxy_bids") ? "INSERT INTO ah_proxy_bids"
+                    : "UPDATE ah_auctionitems";
+            batches.put(statement, batchArgs);
+            statements.put(statement, sql);
+            return new int[batchArgs.size()];
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
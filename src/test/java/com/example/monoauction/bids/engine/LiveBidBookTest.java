@@ -0,0 +1,194 @@
+package com.example.monoauction.bids.engine;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.model.ProxyBid;
+import com.example.monoauction.common.enums.BidStatus;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.user.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveBidBookTest {
+
+    private static final Long SELLER = 1L;
+    private static final User ALICE = user(10L, "Alice");
+    private static final User BOB = user(11L, "Bob");
+    private static final User CAROL = user(12L, "Carol");
+
+    @Test
+    void firstBidOpensAtStartingPrice() {
+        LiveBidBook book = book(null, List.of());
+
+        AcceptedBid accepted = book.accept(ALICE, amount("100.00"), "key-1");
+
+        assertEquals(1, accepted.getBids().size());
+        assertRow(accepted.getBid(), ALICE, "100.00", BidStatus.WINNING);
+        assertEquals("key-1", accepted.getBid().getIdempotencyKey());
+        assertEquals(amount("110.00"), book.minimumBid());
+        assertEquals(1, book.getTotalBids());
+        assertNull(accepted.getMaximum());
+    }
+
+    @Test
+    void rejectsBidsBelowMinimumAndFromSeller() {
+        LiveBidBook book = book(null, List.of());
+
+        assertThrows(RuntimeException.class, () -> book.accept(ALICE, amount("99.99"), null));
+        assertThrows(RuntimeException.class, () -> book.accept(user(SELLER, "Seller"), amount("100.00"), null));
+
+        book.close();
+        assertThrows(RuntimeException.class, () -> book.accept(ALICE, amount("100.00"), null));
+    }
+
+    @Test
+    void strongerProxyAnswersOneIncrementAbove() {
+        LiveBidBook book = book(null, List.of(proxy(BOB, "200.00")));
+
+        AcceptedBid accepted = book.accept(ALICE, amount("150.00"), null);
+
+        List<Bid> bids = accepted.getBids();
+        assertEquals(2, bids.size());
+        assertRow(bids.get(0), ALICE, "150.00", BidStatus.OUTBID);
+        assertRow(bids.get(1), BOB, "160.00", BidStatus.WINNING);
+        assertSame(bids.get(1), accepted.getLeadingBid());
+        assertEquals(2, accepted.getTotalBids());
+    }
+
+    @Test
+    void proxyAnswerIsCappedAtItsMaximum() {
+        LiveBidBook book = book(null, List.of(proxy(BOB, "155.00")));
+
+        List<Bid> bids = book.accept(ALICE, amount("150.00"), null).getBids();
+
+        assertRow(bids.get(1), BOB, "155.00", BidStatus.WINNING);
+    }
+
+    @Test
+    void bidAboveProxyMaximumExhaustsIt() {
+        LiveBidBook book = book(null, List.of(proxy(BOB, "150.00")));
+
+        List<Bid> bids = book.accept(ALICE, amount("180.00"), null).getBids();
+
+        assertEquals(2, bids.size());
+        assertRow(bids.get(0), BOB, "150.00", BidStatus.OUTBID);
+        assertRow(bids.get(1), ALICE, "180.00", BidStatus.WINNING);
+
+        // Bob's maximum is spent, so the next bid meets no proxy
+        List<Bid> next = book.accept(CAROL, amount("190.00"), null).getBids();
+        assertEquals(1, next.size());
+        assertRow(next.get(0), CAROL, "190.00", BidStatus.WINNING);
+    }
+
+    @Test
+    void proxyWarSettlesAtOneIncrementAboveLosingMaximum() {
+        LiveBidBook book = book(null, List.of(proxy(BOB, "150.00")));
+
+        AcceptedBid accepted = book.acceptProxy(ALICE, amount("300.00"));
+
+        List<Bid> bids = accepted.getBids();
+        assertEquals(2, bids.size());
+        assertRow(bids.get(0), BOB, "150.00", BidStatus.OUTBID);
+        assertRow(bids.get(1), ALICE, "160.00", BidStatus.WINNING);
+        assertSame(bids.get(1), accepted.getBid());
+        assertEquals(ALICE.getId(), accepted.getMaximum().getBidderId());
+        assertEquals(amount("300.00"), accepted.getMaximum().getMaxAmount());
+    }
+
+    @Test
+    void equalMaximumGoesToEarlierProxy() {
+        LiveBidBook book = book(null, List.of(proxy(BOB, "200.00")));
+
+        List<Bid> bids = book.acceptProxy(ALICE, amount("200.00")).getBids();
+
+        assertRow(bids.get(0), ALICE, "200.00", BidStatus.OUTBID);
+        assertRow(bids.get(1), BOB, "200.00", BidStatus.WINNING);
+    }
+
+    @Test
+    void tiedRivalsResolveToFirstRegistered() {
+        LiveBidBook book = book(null, List.of(proxy(BOB, "200.00"), proxy(CAROL, "200.00")));
+
+        List<Bid> bids = book.accept(ALICE, amount("150.00"), null).getBids();
+
+        assertRow(bids.get(1), BOB, "160.00", BidStatus.WINNING);
+    }
+
+    @Test
+    void leaderRaisingMaximumPlacesNoBid() {
+        LiveBidBook book = book(null, List.of());
+        Bid leading = book.accept(ALICE, amount("100.00"), null).getBid();
+
+        AcceptedBid raised = book.acceptProxy(ALICE, amount("500.00"));
+
+        assertNull(raised.getBid());
+        assertTrue(raised.getBids().isEmpty());
+        assertEquals(amount("500.00"), raised.getMaximum().getMaxAmount());
+        assertSame(leading, raised.getLeadingBid());
+        assertEquals(1, book.getTotalBids());
+
+        // The raised maximum still defends the lead
+        List<Bid> bids = book.accept(BOB, amount("200.00"), null).getBids();
+        assertRow(bids.get(1), ALICE, "210.00", BidStatus.WINNING);
+    }
+
+    @Test
+    void proxyMaximumMustIncrease() {
+        LiveBidBook book = book(null, List.of(proxy(BOB, "200.00")));
+
+        assertThrows(RuntimeException.class, () -> book.acceptProxy(BOB, amount("200.00")));
+    }
+
+    @Test
+    void resumesFromPersistedCurrentBid() {
+        Bid leading = new Bid();
+        leading.setBidderId(BOB.getId());
+        LiveBidBook book = book(leading, List.of(proxy(CAROL, "120.00")));
+
+        // Carol's maximum is below the next minimum of 130.00, so it no longer takes part
+        List<Bid> bids = book.accept(ALICE, amount("130.00"), null).getBids();
+
+        assertEquals(1, bids.size());
+        assertRow(bids.get(0), ALICE, "130.00", BidStatus.WINNING);
+        assertEquals(6, book.getTotalBids());
+    }
+
+    private static LiveBidBook book(Bid leadingBid, List<ProxyBid> proxies) {
+        AuctionItem item = AuctionItem.builder()
+                .id(100L)
+                .batchId(5L)
+                .sellerId(SELLER)
+                .startingPrice(amount("100.00"))
+                .bidIncrement(amount("10.00"))
+                .currentBid(leadingBid != null ? amount("120.00") : null)
+                .totalBids(leadingBid != null ? 5 : 0)
+                .build();
+        return new LiveBidBook(item, leadingBid, proxies);
+    }
+
+    private static ProxyBid proxy(User bidder, String maxAmount) {
+        return ProxyBid.builder()
+                .itemId(100L)
+                .bidderId(bidder.getId())
+                .bidderName(bidder.getFullName())
+                .maxAmount(amount(maxAmount))
+                .build();
+    }
+
+    private static User user(Long id, String fullName) {
+        return User.builder().id(id).fullName(fullName).build();
+    }
+
+    private static BigDecimal amount(String value) {
+        return new BigDecimal(value);
+    }
+
+    private static void assertRow(Bid bid, User bidder, String amount, BidStatus status) {
+        assertEquals(bidder.getId(), bid.getBidderId());
+        assertEquals(amount(amount), bid.getAmount());
+        assertEquals(status, bid.getStatus());
+    }
+}
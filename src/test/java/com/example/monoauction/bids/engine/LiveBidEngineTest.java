@@ -0,0 +1,181 @@
+package com.example.monoauction.bids.engine;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.repository.BidRepository;
+import com.example.monoauction.bids.service.ProxyBidService;
+import com.example.monoauction.common.enums.BidProcessingMode;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.scheduler.service.ItemDeadlineTracker;
+import com.example.monoauction.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LiveBidEngineTest {
+
+    private static final Long BATCH = 7L;
+
+    @Mock
+    private AuctionItemRepository itemRepository;
+    @Mock
+    private BidRepository bidRepository;
+    @Mock
+    private BidWriteBehindJournal bidJournal;
+    @Mock
+    private ProxyBidService proxyBidService;
+    @Mock
+    private ItemDeadlineTracker deadlineTracker;
+
+    @InjectMocks
+    private LiveBidEngine engine;
+
+    private final List<AcceptedBid> journaled = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(engine, "biddingMode", BidProcessingMode.IN_MEMORY);
+        ReflectionTestUtils.setField(engine, "lockStripes", 4);
+        engine.init();
+
+        lenient().when(bidRepository.findTopByItemIdOrderByAmountDescIdDesc(anyLong())).thenReturn(Optional.empty());
+        lenient().when(proxyBidService.getItemMaximums(anyCollection())).thenReturn(Map.of());
+        lenient().when(bidJournal.append(any(AcceptedBid.class))).thenAnswer(invocation -> {
+            AcceptedBid accepted = invocation.getArgument(0);
+            journaled.add(accepted);
+            return CompletableFuture.completedFuture(accepted.getBid());
+        });
+    }
+
+    @Test
+    void concurrentBiddersOnOneItemAreSerialized() throws InterruptedException {
+        when(itemRepository.findAllById(List.of(1L))).thenReturn(List.of(liveItem(1L)));
+        engine.loadBatch(BATCH, List.of(1L));
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (long bidder = 10; bidder < 18; bidder++) {
+            User user = User.builder().id(bidder).fullName("Bidder " + bidder).build();
+            Thread thread = new Thread(() -> {
+                try {
+                    ready.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 50; i++) {
+                    try {
+                        engine.placeBid(1L, user, engine.getMinimumBid(1L).orElseThrow(), null, null);
+                    } catch (RuntimeException e) {
+                        // Another bidder took the same minimum first
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        ready.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Journaled in acceptance order: every step is one increment above the last, with no gaps or repeats
+        assertFalse(journaled.isEmpty());
+        for (int i = 0; i < journaled.size(); i++) {
+            AcceptedBid accepted = journaled.get(i);
+            assertEquals(new BigDecimal("100.00").add(new BigDecimal("10.00").multiply(BigDecimal.valueOf(i))),
+                    accepted.getBid().getAmount());
+            assertEquals(i + 1, accepted.getTotalBids());
+        }
+        verify(deadlineTracker, times(journaled.size())).onBidAccepted(1L);
+    }
+
+    @Test
+    void failedAcknowledgementEvictsTheBook() {
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(liveItem(1L)));
+        User bidder = User.builder().id(10L).fullName("Alice").build();
+        doThrow(new RuntimeException("Bid Could Not Be Saved, Please Retry"))
+                .doNothing()
+                .when(bidJournal).awaitAcknowledgement(any());
+
+        assertThrows(RuntimeException.class, () -> engine.placeBid(1L, bidder, new BigDecimal("100.00"), null, null));
+
+        // Rebuilt from the database, which never saw the failed bid
+        Bid bid = engine.placeBid(1L, bidder, new BigDecimal("100.00"), null, null).getBid();
+        assertEquals(new BigDecimal("100.00"), bid.getAmount());
+        verify(itemRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void afterPersistRunsOnlyForStoredBids() {
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(liveItem(1L)));
+        User bidder = User.builder().id(10L).fullName("Alice").build();
+        List<AcceptedBid> notified = new ArrayList<>();
+        when(bidJournal.append(any(AcceptedBid.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Row Rejected")));
+
+        engine.placeBid(1L, bidder, new BigDecimal("100.00"), null, notified::add);
+
+        assertTrue(notified.isEmpty());
+    }
+
+    @Test
+    void drainedBatchTurnsBidsAwayAndWaitsForTheFlush() {
+        when(itemRepository.findAllById(List.of(1L))).thenReturn(List.of(liveItem(1L)));
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(liveItem(1L)));
+        engine.loadBatch(BATCH, List.of(1L));
+        assertTrue(engine.isLive(1L));
+
+        engine.drainBatch(BATCH);
+
+        User bidder = User.builder().id(10L).fullName("Alice").build();
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> engine.placeBid(1L, bidder, new BigDecimal("100.00"), null, null));
+        assertEquals("Item Is Not Available For Bidding", error.getMessage());
+        assertFalse(engine.isLive(1L));
+        verify(bidJournal).awaitFlushed();
+    }
+
+    @Test
+    void otherModesNeverLoadBooks() {
+        ReflectionTestUtils.setField(engine, "biddingMode", BidProcessingMode.DIRECT);
+
+        engine.loadBatch(BATCH, List.of(1L));
+        engine.drainBatch(BATCH);
+
+        verifyNoInteractions(itemRepository, bidJournal);
+    }
+
+    private static AuctionItem liveItem(Long itemId) {
+        return AuctionItem.builder()
+                .id(itemId)
+                .batchId(BATCH)
+                .sellerId(1L)
+                .status(ItemStatus.LIVE)
+                .startingPrice(new BigDecimal("100.00"))
+                .bidIncrement(new BigDecimal("10.00"))
+                .totalBids(0)
+                .build();
+    }
+}
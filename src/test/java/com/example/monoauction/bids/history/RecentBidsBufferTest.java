@@ -0,0 +1,129 @@
+package com.example.monoauction.bids.history;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.common.enums.BidStatus;
+import com.example.monoauction.common.execptions.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecentBidsBufferTest {
+
+    private static final Long ITEM = 1L;
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 5, 12, 0);
+
+    private RecentBidsBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new RecentBidsBuffer();
+        ReflectionTestUtils.setField(buffer, "capacity", 3);
+    }
+
+    @Test
+    void unseededItemFallsBackToTheDatabase() {
+        buffer.record(List.of(bid(1, BidStatus.WINNING)));
+
+        assertTrue(buffer.firstPage(ITEM, 2).isEmpty());
+    }
+
+    @Test
+    void shortSeedIsTheWholeHistory() {
+        buffer.seed(ITEM, () -> List.of(bid(2, BidStatus.WINNING), bid(1, BidStatus.OUTBID)));
+
+        assertEquals(List.of(2L, 1L), ids(buffer.firstPage(ITEM, 2).orElseThrow()));
+        assertEquals(List.of(2L, 1L), ids(buffer.firstPage(ITEM, 3).orElseThrow()));
+    }
+
+    @Test
+    void fullRingAnswersWithOneExtraRow() {
+        buffer.seed(ITEM, () -> List.of(bid(3, BidStatus.WINNING), bid(2, BidStatus.OUTBID), bid(1, BidStatus.OUTBID)));
+
+        // The extra row tells the caller a next page exists
+        assertEquals(List.of(3L, 2L, 1L), ids(buffer.firstPage(ITEM, 2).orElseThrow()));
+        // Three rows may not be all of them, so the database has to answer
+        assertTrue(buffer.firstPage(ITEM, 3).isEmpty());
+        assertTrue(buffer.firstPage(ITEM, 4).isEmpty());
+    }
+
+    @Test
+    void acceptedBidLeadsAndOutbidsThePreviousWinner() {
+        buffer.seed(ITEM, () -> List.of(bid(1, BidStatus.WINNING)));
+
+        buffer.record(List.of(bid(2, BidStatus.WINNING)));
+
+        List<Bid> page = buffer.firstPage(ITEM, 2).orElseThrow();
+        assertEquals(List.of(2L, 1L), ids(page));
+        assertEquals(BidStatus.WINNING, page.get(0).getStatus());
+        assertEquals(BidStatus.OUTBID, page.get(1).getStatus());
+    }
+
+    @Test
+    void overflowDropsTheOldestAndEndsTheWholeHistory() {
+        buffer.seed(ITEM, () -> List.of(bid(1, BidStatus.WINNING)));
+
+        buffer.record(List.of(bid(2, BidStatus.OUTBID), bid(3, BidStatus.OUTBID), bid(4, BidStatus.WINNING)));
+
+        assertEquals(List.of(4L, 3L, 2L), ids(buffer.firstPage(ITEM, 2).orElseThrow()));
+        assertTrue(buffer.firstPage(ITEM, 3).isEmpty());
+    }
+
+    @Test
+    void bidsRecordedWhileSeedingAreMergedOnce() {
+        buffer.seed(ITEM, () -> {
+            // Accepted while the seed query ran, and also returned by it
+            buffer.record(List.of(bid(2, BidStatus.WINNING)));
+            return List.of(bid(2, BidStatus.WINNING), bid(1, BidStatus.OUTBID));
+        });
+
+        assertEquals(List.of(2L, 1L), ids(buffer.firstPage(ITEM, 2).orElseThrow()));
+    }
+
+    @Test
+    void pagesAreCopiesOfTheRing() {
+        buffer.seed(ITEM, () -> List.of(bid(1, BidStatus.WINNING)));
+
+        buffer.firstPage(ITEM, 1).orElseThrow().get(0).setStatus(BidStatus.OUTBID);
+
+        assertEquals(BidStatus.WINNING, buffer.firstPage(ITEM, 1).orElseThrow().get(0).getStatus());
+    }
+
+    @Test
+    void releasedItemIsForgotten() {
+        buffer.seed(ITEM, () -> List.of(bid(1, BidStatus.WINNING)));
+
+        buffer.release(ITEM);
+
+        assertTrue(buffer.firstPage(ITEM, 1).isEmpty());
+    }
+
+    @Test
+    void cursorRoundTripsAndRejectsGarbage() {
+        BidCursor cursor = BidCursor.of(bid(7, BidStatus.OUTBID));
+
+        assertEquals(cursor, BidCursor.decode(cursor.encode()));
+        assertThrows(BusinessException.class, () -> BidCursor.decode("not-a-cursor"));
+    }
+
+    // Later ids are placed later, so id order and time order agree
+    private static Bid bid(long id, BidStatus status) {
+        return Bid.builder()
+                .id(id)
+                .itemId(ITEM)
+                .bidderId(10L + id)
+                .amount(BigDecimal.valueOf(100 + id * 10))
+                .status(status)
+                .bidTime(START.plusSeconds(id))
+                .build();
+    }
+
+    private static List<Long> ids(List<Bid> bids) {
+        return bids.stream().map(Bid::getId).toList();
+    }
+}
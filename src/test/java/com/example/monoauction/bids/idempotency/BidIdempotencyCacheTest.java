@@ -0,0 +1,155 @@
+package com.example.monoauction.bids.idempotency;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.repository.BidRepository;
+import com.example.monoauction.common.execptions.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidIdempotencyCacheTest {
+
+    private static final Long BIDDER = 10L;
+
+    @Mock
+    private BidRepository bidRepository;
+
+    @InjectMocks
+    private BidIdempotencyCache cache;
+
+    private final AtomicInteger placements = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+    }
+
+    @Test
+    void retryWithinTtlReplaysTheFirstResult() {
+        when(bidRepository.findByBidderIdAndIdempotencyKey(BIDDER, "key-1")).thenReturn(Optional.empty());
+        Bid bid = bid(1L);
+
+        Bid first = cache.execute(BIDDER, "key-1", placing(bid)).join();
+        Bid retried = cache.execute(BIDDER, "key-1", placing(bid(2L))).join();
+
+        assertSame(first, retried);
+        assertEquals(1, placements.get());
+        verify(bidRepository, times(1)).findByBidderIdAndIdempotencyKey(BIDDER, "key-1");
+    }
+
+    @Test
+    void retryJoinsTheRequestStillInFlight() {
+        when(bidRepository.findByBidderIdAndIdempotencyKey(BIDDER, "key-1")).thenReturn(Optional.empty());
+        CompletableFuture<Bid> inFlight = new CompletableFuture<>();
+
+        CompletableFuture<Bid> first = cache.execute(BIDDER, "key-1", () -> {
+            placements.incrementAndGet();
+            return inFlight;
+        });
+        CompletableFuture<Bid> retried = cache.execute(BIDDER, "key-1", placing(bid(2L)));
+
+        assertFalse(retried.isDone());
+        Bid bid = bid(1L);
+        inFlight.complete(bid);
+
+        assertSame(bid, first.join());
+        assertSame(bid, retried.join());
+        assertEquals(1, placements.get());
+    }
+
+    @Test
+    void expiredEntryFallsBackToTheDatabase() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        Bid stored = bid(1L);
+        when(bidRepository.findByBidderIdAndIdempotencyKey(BIDDER, "key-1"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(stored));
+
+        cache.execute(BIDDER, "key-1", placing(stored)).join();
+        Bid retried = cache.execute(BIDDER, "key-1", placing(bid(2L))).join();
+
+        assertSame(stored, retried);
+        assertEquals(1, placements.get());
+    }
+
+    @Test
+    void lostUniqueKeyRaceResolvesToTheStoredBid() {
+        Bid stored = bid(1L);
+        when(bidRepository.findByBidderIdAndIdempotencyKey(BIDDER, "key-1"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(stored));
+
+        Bid result = cache.execute(BIDDER, "key-1",
+                () -> CompletableFuture.failedFuture(new IllegalStateException("Duplicate Key"))).join();
+
+        assertSame(stored, result);
+    }
+
+    @Test
+    void failedPlacementIsNotRemembered() {
+        when(bidRepository.findByBidderIdAndIdempotencyKey(BIDDER, "key-1")).thenReturn(Optional.empty());
+
+        CompletableFuture<Bid> failed = cache.execute(BIDDER, "key-1", () -> {
+            throw new RuntimeException("Bid must be at least 110.00");
+        });
+        assertTrue(failed.isCompletedExceptionally());
+
+        Bid bid = bid(1L);
+        assertSame(bid, cache.execute(BIDDER, "key-1", placing(bid)).join());
+    }
+
+    @Test
+    void keysAreScopedToTheBidder() {
+        when(bidRepository.findByBidderIdAndIdempotencyKey(anyLong(), anyString())).thenReturn(Optional.empty());
+
+        cache.execute(BIDDER, "key-1", placing(bid(1L))).join();
+        cache.execute(11L, "key-1", placing(bid(2L))).join();
+
+        assertEquals(2, placements.get());
+    }
+
+    @Test
+    void rejectsMalformedKeysBeforePlacing() {
+        assertThrows(BusinessException.class, () -> cache.execute(BIDDER, "key with spaces", placing(bid(1L))));
+        assertThrows(BusinessException.class, () -> cache.execute(BIDDER, "k".repeat(65), placing(bid(1L))));
+
+        assertEquals(0, placements.get());
+        verifyNoInteractions(bidRepository);
+    }
+
+    @Test
+    void missingKeyAlwaysPlaces() {
+        cache.execute(BIDDER, null, placing(bid(1L))).join();
+        cache.execute(BIDDER, " ", placing(bid(2L))).join();
+
+        assertEquals(2, placements.get());
+        verifyNoInteractions(bidRepository);
+    }
+
+    private Supplier<CompletableFuture<Bid>> placing(Bid bid) {
+        return () -> {
+            placements.incrementAndGet();
+            return CompletableFuture.completedFuture(bid);
+        };
+    }
+
+    private static Bid bid(Long id) {
+        return Bid.builder().id(id).bidderId(BIDDER).build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.monoauction.bids.ratelimit;
+
+import com.example.monoauction.common.execptions.TooManyRequestsException;
+import com.example.monoauction.scheduler.service.ItemDeadlineTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidRateLimiterTest {
+
+    @Mock
+    private ItemDeadlineTracker deadlineTracker;
+
+    @InjectMocks
+    private BidRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        // Slow refill, so only the bursts matter within a test
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "maxTrackedKeys", 100);
+        ReflectionTestUtils.setField(rateLimiter, "closingWindowSeconds", 300L);
+        ReflectionTestUtils.setField(rateLimiter, "openBidderRate", 0.01);
+        ReflectionTestUtils.setField(rateLimiter, "openBidderBurst", 2);
+        ReflectionTestUtils.setField(rateLimiter, "openItemRate", 0.01);
+        ReflectionTestUtils.setField(rateLimiter, "openItemBurst", 1);
+        ReflectionTestUtils.setField(rateLimiter, "closingBidderRate", 0.01);
+        ReflectionTestUtils.setField(rateLimiter, "closingBidderBurst", 1);
+        ReflectionTestUtils.setField(rateLimiter, "closingItemRate", 0.01);
+        ReflectionTestUtils.setField(rateLimiter, "closingItemBurst", 1);
+        rateLimiter.init();
+
+        lenient().when(deadlineTracker.millisRemaining(anyLong())).thenReturn(Long.MAX_VALUE);
+    }
+
+    @Test
+    void bidderBurstIsEnforced() {
+        rateLimiter.acquire(10L, 1L);
+        rateLimiter.acquire(10L, 2L);
+
+        TooManyRequestsException error = assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.acquire(10L, 3L));
+        assertEquals("Too Many Bids, Please Slow Down", error.getMessage());
+        assertTrue(error.getRetryAfterSeconds() >= 1);
+    }
+
+    @Test
+    void itemRejectionKeepsTheBidderToken() {
+        rateLimiter.acquire(10L, 1L);
+
+        TooManyRequestsException error = assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.acquire(11L, 1L));
+        assertEquals("Too Many Bids On This Item, Please Retry", error.getMessage());
+
+        // Bidder 11 was turned away by the item, so both of its tokens are still there
+        rateLimiter.acquire(11L, 2L);
+        rateLimiter.acquire(11L, 3L);
+    }
+
+    @Test
+    void closingPhaseUsesTighterLimits() {
+        when(deadlineTracker.millisRemaining(1L)).thenReturn(60_000L);
+
+        rateLimiter.acquire(10L, 1L);
+
+        // The open burst of two would admit a second bid; closing allows one
+        TooManyRequestsException error = assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.acquire(10L, 1L));
+        assertEquals("Too Many Bids, Please Slow Down", error.getMessage());
+    }
+
+    @Test
+    void disabledLimiterAdmitsEverything() {
+        ReflectionTestUtils.setField(rateLimiter, "enabled", false);
+
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.acquire(10L, 1L);
+        }
+        verifyNoInteractions(deadlineTracker);
+    }
+}
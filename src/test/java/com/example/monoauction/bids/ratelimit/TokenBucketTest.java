@@ -0,0 +1,127 @@
+package com.example.monoauction.bids.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long START = 1_000_000_000L;
+    private static final long INTERVAL = 100_000_000L;
+
+    @Test
+    void freshBucketAllowsFullBurst() {
+        TokenBucket bucket = new TokenBucket(START);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.tryAcquire(START, INTERVAL, 5));
+        }
+        assertEquals(INTERVAL, bucket.tryAcquire(START, INTERVAL, 5));
+    }
+
+    @Test
+    void emptyBucketRefillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(START);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(START, INTERVAL, 3);
+        }
+
+        assertEquals(INTERVAL / 4, bucket.tryAcquire(START + INTERVAL * 3 / 4, INTERVAL, 3));
+        assertEquals(0, bucket.tryAcquire(START + INTERVAL, INTERVAL, 3));
+        assertEquals(INTERVAL, bucket.tryAcquire(START + INTERVAL, INTERVAL, 3));
+    }
+
+    @Test
+    void rejectedCallsDoNotConsumeTokens() {
+        TokenBucket bucket = new TokenBucket(START);
+        bucket.tryAcquire(START, INTERVAL, 1);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(bucket.tryAcquire(START + i, INTERVAL, 1) > 0);
+        }
+        assertEquals(0, bucket.tryAcquire(START + INTERVAL, INTERVAL, 1));
+    }
+
+    @Test
+    void idleTimeNeverBanksMoreThanBurst() {
+        TokenBucket bucket = new TokenBucket(START);
+        long later = START + INTERVAL * 1000;
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(0, bucket.tryAcquire(later, INTERVAL, 2));
+        }
+        assertTrue(bucket.tryAcquire(later, INTERVAL, 2) > 0);
+    }
+
+    @Test
+    void burstChangeAppliesWithoutReset() {
+        TokenBucket bucket = new TokenBucket(START);
+        bucket.tryAcquire(START, INTERVAL, 2);
+        bucket.tryAcquire(START, INTERVAL, 2);
+
+        // Two tokens are spent, so raising the burst to 4 leaves two more
+        assertEquals(0, bucket.tryAcquire(START, INTERVAL, 4));
+        assertEquals(0, bucket.tryAcquire(START, INTERVAL, 4));
+        assertTrue(bucket.tryAcquire(START, INTERVAL, 4) > 0);
+    }
+
+    @Test
+    void refundReturnsOneToken() {
+        TokenBucket bucket = new TokenBucket(START);
+        bucket.tryAcquire(START, INTERVAL, 2);
+        bucket.tryAcquire(START, INTERVAL, 2);
+
+        bucket.refund(INTERVAL);
+
+        assertEquals(0, bucket.tryAcquire(START, INTERVAL, 2));
+        assertTrue(bucket.tryAcquire(START, INTERVAL, 2) > 0);
+    }
+
+    @Test
+    void idleOnceAllTokensAreBack() {
+        TokenBucket bucket = new TokenBucket(START);
+        assertTrue(bucket.isIdle(START));
+
+        bucket.tryAcquire(START, INTERVAL, 3);
+        bucket.tryAcquire(START, INTERVAL, 3);
+
+        assertFalse(bucket.isIdle(START + INTERVAL));
+        assertTrue(bucket.isIdle(START + INTERVAL * 2));
+    }
+
+    @Test
+    void concurrentCallersShareOneBurst() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(START);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    ready.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 100; i++) {
+                    if (bucket.tryAcquire(START, INTERVAL, 50) == 0) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        ready.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(50, granted.get());
+    }
+}
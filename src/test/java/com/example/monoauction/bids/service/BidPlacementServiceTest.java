@@ -0,0 +1,93 @@
+package com.example.monoauction.bids.service;
+
+import com.example.monoauction.bids.engine.BidSequencer;
+import com.example.monoauction.bids.idempotency.BidIdempotencyCache;
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.ratelimit.BidRateLimiter;
+import com.example.monoauction.bids.repository.BidRepository;
+import com.example.monoauction.common.execptions.TooManyRequestsException;
+import com.example.monoauction.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidPlacementServiceTest {
+
+    private static final User BIDDER = User.builder().id(10L).fullName("Alice").build();
+    private static final BigDecimal AMOUNT = new BigDecimal("120.00");
+
+    @Mock
+    private BidService bidService;
+    @Mock
+    private BidSequencer bidSequencer;
+    @Mock
+    private BidRateLimiter bidRateLimiter;
+    @Mock
+    private BidRepository bidRepository;
+
+    private BidPlacementService placementService;
+
+    @BeforeEach
+    void setUp() {
+        // The real cache, so the order of deduplication and throttling is what is under test
+        BidIdempotencyCache cache = new BidIdempotencyCache(bidRepository);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        placementService = new BidPlacementService(bidService, bidSequencer, bidRateLimiter, cache);
+    }
+
+    @Test
+    void retryIsReplayedWithoutBeingThrottled() {
+        Bid bid = Bid.builder().id(1L).build();
+        when(bidRepository.findByBidderIdAndIdempotencyKey(anyLong(), anyString())).thenReturn(Optional.empty());
+        when(bidService.placeBid(1L, BIDDER, AMOUNT, "key-1")).thenReturn(bid);
+
+        placementService.placeBid(1L, BIDDER, AMOUNT, "key-1").join();
+        // Anything reaching the limiter now is turned away
+        lenient().doThrow(new TooManyRequestsException("Too Many Bids, Please Slow Down", 1))
+                .when(bidRateLimiter).acquire(anyLong(), anyLong());
+
+        assertSame(bid, placementService.placeBid(1L, BIDDER, AMOUNT, "key-1").join());
+        verify(bidRateLimiter, times(1)).acquire(10L, 1L);
+        verify(bidService, times(1)).placeBid(any(), any(), any(), any());
+    }
+
+    @Test
+    void newKeyIsThrottled() {
+        when(bidRepository.findByBidderIdAndIdempotencyKey(anyLong(), anyString())).thenReturn(Optional.empty());
+        doThrow(new TooManyRequestsException("Too Many Bids, Please Slow Down", 1))
+                .when(bidRateLimiter).acquire(10L, 1L);
+
+        CompletableFuture<Bid> result = placementService.placeBid(1L, BIDDER, AMOUNT, "key-1");
+
+        CompletionException error = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(TooManyRequestsException.class, error.getCause());
+        verifyNoInteractions(bidService);
+    }
+
+    @Test
+    void bidWithoutKeyIsAlwaysThrottled() {
+        when(bidSequencer.isEnabled()).thenReturn(true);
+        when(bidSequencer.submit(1L, BIDDER, AMOUNT, null)).thenReturn(new CompletableFuture<>());
+
+        placementService.placeBid(1L, BIDDER, AMOUNT, null);
+
+        verify(bidRateLimiter).acquire(10L, 1L);
+        verifyNoInteractions(bidRepository);
+    }
+}
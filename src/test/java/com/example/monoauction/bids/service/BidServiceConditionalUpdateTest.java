@@ -0,0 +1,135 @@
+package com.example.monoauction.bids.service;
+
+import com.example.monoauction.batch.service.AuctionBatchService;
+import com.example.monoauction.bids.history.RecentBidsBuffer;
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.repository.BidRepository;
+import com.example.monoauction.common.enums.BidProcessingMode;
+import com.example.monoauction.common.enums.BidStatus;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.scheduler.service.ItemDeadlineTracker;
+import com.example.monoauction.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidServiceConditionalUpdateTest {
+
+    private static final Long ITEM_ID = 1L;
+    private static final User BIDDER = User.builder().id(10L).fullName("Alice").build();
+
+    @Mock
+    private BidRepository bidRepository;
+    @Mock
+    private AuctionItemRepository itemRepository;
+    @Mock
+    private AuctionBatchService batchService;
+    @Mock
+    private BidNotificationService bidNotificationService;
+    @Mock
+    private ItemDeadlineTracker deadlineTracker;
+    @Mock
+    private RecentBidsBuffer recentBids;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private BidService bidService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bidService, "biddingMode", BidProcessingMode.CONDITIONAL_UPDATE);
+        bidService.init();
+    }
+
+    @Test
+    void acceptedUpdateStoresWinningBidAndNotifies() {
+        AuctionItem item = liveItem(1L);
+        Bid previous = Bid.builder().id(5L).itemId(ITEM_ID).bidderId(11L).status(BidStatus.OUTBID).build();
+        when(batchService.isAuctionLive()).thenReturn(true);
+        when(itemRepository.advanceCurrentBid(eq(ITEM_ID), eq(10L), eq(amount("120.00")), any())).thenReturn(1);
+        when(bidRepository.markWinningBidsOutbid(ITEM_ID)).thenReturn(List.of(previous));
+        when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(itemRepository.findById(ITEM_ID)).thenReturn(Optional.of(item));
+
+        Bid bid = bidService.placeBid(ITEM_ID, BIDDER, amount("120.00"), "key-1");
+
+        assertEquals(BidStatus.WINNING, bid.getStatus());
+        assertEquals(amount("120.00"), bid.getAmount());
+        assertEquals("key-1", bid.getIdempotencyKey());
+        verify(deadlineTracker).onBidAccepted(ITEM_ID);
+        verify(bidNotificationService).notifyOutbid(previous, item, amount("120.00"));
+        verify(bidNotificationService).notifyBidPlaced(item, bid);
+    }
+
+    @Test
+    void rejectedUpdateReportsMinimumBid() {
+        when(batchService.isAuctionLive()).thenReturn(true);
+        when(itemRepository.advanceCurrentBid(eq(ITEM_ID), eq(10L), eq(amount("105.00")), any())).thenReturn(0);
+        when(itemRepository.findById(ITEM_ID)).thenReturn(Optional.of(liveItem(1L)));
+
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> bidService.placeBid(ITEM_ID, BIDDER, amount("105.00"), null));
+
+        assertEquals("Bid must be at least 110.00", error.getMessage());
+        verify(bidRepository, never()).save(any());
+        verify(bidRepository, never()).markWinningBidsOutbid(anyLong());
+    }
+
+    @Test
+    void rejectedUpdateReportsSellerBid() {
+        when(batchService.isAuctionLive()).thenReturn(true);
+        when(itemRepository.advanceCurrentBid(eq(ITEM_ID), eq(10L), any(), any())).thenReturn(0);
+        when(itemRepository.findById(ITEM_ID)).thenReturn(Optional.of(liveItem(10L)));
+
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> bidService.placeBid(ITEM_ID, BIDDER, amount("200.00"), null));
+
+        assertEquals("You Cannot Bid On Your Own Items", error.getMessage());
+    }
+
+    @Test
+    void closedAuctionNeverRunsTheUpdate() {
+        when(batchService.isAuctionLive()).thenReturn(false);
+
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> bidService.placeBid(ITEM_ID, BIDDER, amount("120.00"), null));
+
+        assertEquals("Auction Is Not Live", error.getMessage());
+        verify(itemRepository, never()).advanceCurrentBid(anyLong(), anyLong(), any(), any());
+    }
+
+    private static AuctionItem liveItem(Long sellerId) {
+        return AuctionItem.builder()
+                .id(ITEM_ID)
+                .sellerId(sellerId)
+                .status(ItemStatus.LIVE)
+                .startingPrice(amount("50.00"))
+                .currentBid(amount("100.00"))
+                .bidIncrement(amount("10.00"))
+                .totalBids(3)
+                .build();
+    }
+
+    private static BigDecimal amount(String value) {
+        return new BigDecimal(value);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.monoauction.common.money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bid validation and platform-fee computation, BigDecimal against long cents. Run the main method
+ * (or this class through any JMH launcher); the GC profiler reports gc.alloc.rate.norm, the bytes
+ * allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final long FEE_BASIS_POINTS = 500;
+
+    private BigDecimal currentBid;
+    private BigDecimal bidIncrement;
+    private BigDecimal bidAmount;
+
+    private long currentBidCents;
+    private long bidIncrementCents;
+    private long bidAmountCents;
+
+    @Setup
+    public void setUp() {
+        currentBid = new BigDecimal("1250.00");
+        bidIncrement = new BigDecimal("10.00");
+        bidAmount = new BigDecimal("1275.50");
+
+        currentBidCents = Money.toCents(currentBid);
+        bidIncrementCents = Money.toCents(bidIncrement);
+        bidAmountCents = Money.toCents(bidAmount);
+    }
+
+    // What validateBid did per request: build the minimum, then compare
+    @Benchmark
+    public boolean validateBidBigDecimal() {
+        BigDecimal minimumBid = currentBid.add(bidIncrement);
+        return bidAmount.compareTo(minimumBid) >= 0;
+    }
+
+    // What the live book does per request once the amount is in cents
+    @Benchmark
+    public boolean validateBidCents() {
+        long minimumBid = currentBidCents + bidIncrementCents;
+        return bidAmountCents >= minimumBid;
+    }
+
+    // The request boundary still converts the incoming amount once
+    @Benchmark
+    public boolean validateBidCentsWithConversion() {
+        long minimumBid = currentBidCents + bidIncrementCents;
+        return Money.toCents(bidAmount) >= minimumBid;
+    }
+
+    @Benchmark
+    public BigDecimal platformFeeBigDecimal() {
+        BigDecimal platformFee = bidAmount.multiply(new BigDecimal("0.05"));
+        return bidAmount.subtract(platformFee);
+    }
+
+    @Benchmark
+    public long platformFeeCents() {
+        long feeCents = Money.percentOf(bidAmountCents, FEE_BASIS_POINTS);
+        return bidAmountCents - feeCents;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MoneyBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
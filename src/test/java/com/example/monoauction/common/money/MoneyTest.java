@@ -0,0 +1,58 @@
+package com.example.monoauction.common.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void toCentsRoundsHalfUpToTheCent() {
+        assertEquals(1235, Money.toCents(new BigDecimal("12.345")));
+        assertEquals(1234, Money.toCents(new BigDecimal("12.3449")));
+        assertEquals(-1235, Money.toCents(new BigDecimal("-12.345")));
+        assertEquals(1200, Money.toCents(new BigDecimal("12")));
+    }
+
+    @Test
+    void toCentsRejectsAmountsBeyondLong() {
+        BigDecimal tooLarge = BigDecimal.valueOf(Long.MAX_VALUE).movePointLeft(2).add(BigDecimal.ONE);
+
+        assertThrows(ArithmeticException.class, () -> Money.toCents(tooLarge));
+        assertEquals(Long.MAX_VALUE, Money.toCents(BigDecimal.valueOf(Long.MAX_VALUE, 2)));
+    }
+
+    @Test
+    void roundTripsThroughBigDecimalAtScaleTwo() {
+        BigDecimal amount = Money.toBigDecimal(Money.toCents(new BigDecimal("99.9")));
+
+        assertEquals(new BigDecimal("99.90"), amount);
+        assertEquals(2, amount.scale());
+    }
+
+    @Test
+    void noneStandsInForNull() {
+        assertEquals(Money.NONE, Money.toCentsOrNone(null));
+        assertNull(Money.toBigDecimalOrNull(Money.NONE));
+        assertEquals(new BigDecimal("0.00"), Money.toBigDecimalOrNull(0));
+    }
+
+    @Test
+    void percentOfRoundsHalfUpAwayFromZero() {
+        // 5% of 100.10 is 5.005
+        assertEquals(501, Money.percentOf(10010, 500));
+        // 5% of 100.09 is 5.0045
+        assertEquals(500, Money.percentOf(10009, 500));
+        assertEquals(-501, Money.percentOf(-10010, 500));
+        assertEquals(0, Money.percentOf(10010, 0));
+        assertEquals(10010, Money.percentOf(10010, 10_000));
+    }
+
+    @Test
+    void arithmeticFailsInsteadOfOverflowing() {
+        assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Money.percentOf(Long.MAX_VALUE, 500));
+    }
+}
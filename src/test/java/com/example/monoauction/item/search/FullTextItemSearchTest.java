@@ -0,0 +1,151 @@
+package com.example.monoauction.item.search;
+
+import com.example.monoauction.common.enums.ItemCategory;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.common.enums.SearchMode;
+import com.example.monoauction.item.dto.ItemSearchRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FullTextItemSearchTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @InjectMocks
+    private FullTextItemSearch fullTextSearch;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(fullTextSearch, "searchMode", SearchMode.FULL_TEXT);
+    }
+
+    @Test
+    void keywordsBecomeAPrefixQueryWithoutUserSyntax() {
+        assertEquals("silver:* & tea:*", FullTextItemSearch.toTsQuery("Silver  TEA!"));
+        assertEquals("a:* & b:*", FullTextItemSearch.toTsQuery("a'|b):*"));
+        assertEquals("", FullTextItemSearch.toTsQuery("&|!"));
+        assertEquals("", FullTextItemSearch.toTsQuery(null));
+    }
+
+    @Test
+    void servesKeywordSearchesOnceTheVectorExists() {
+        ItemSearchRequest request = request("teapot");
+        assertFalse(fullTextSearch.canServe(request));
+
+        fullTextSearch.createSearchVector();
+
+        assertTrue(fullTextSearch.canServe(request));
+        assertFalse(fullTextSearch.canServe(request("  ")));
+        verify(jdbcTemplate, times(2)).execute(anyString());
+    }
+
+    @Test
+    void otherModesLeaveTheSchemaAlone() {
+        ReflectionTestUtils.setField(fullTextSearch, "searchMode", SearchMode.DATABASE);
+
+        fullTextSearch.createSearchVector();
+
+        assertFalse(fullTextSearch.canServe(request("teapot")));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void unsortedMatchesAreRankedAndFiltersBound() {
+        ItemSearchRequest request = request("silver teapot");
+        request.setCategory(ItemCategory.SILVER_AND_VERTU);
+        request.setMinPrice(new BigDecimal("100.00"));
+        request.setHasReservePrice(false);
+        when(namedJdbcTemplate.queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Long.class)))
+                .thenReturn(42L);
+        when(namedJdbcTemplate.queryForList(anyString(), any(MapSqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(5L, 3L));
+
+        ItemIdPage page = fullTextSearch.search(request, 2, 10);
+
+        assertEquals(List.of(5L, 3L), page.itemIds());
+        assertEquals(42, page.total());
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(namedJdbcTemplate).queryForList(sql.capture(), params.capture(), eq(Long.class));
+        assertTrue(sql.getValue().contains("search_vector @@ to_tsquery('english', :query)"));
+        assertTrue(sql.getValue().contains("AND category = :category AND status = :status AND starting_price >= :minPrice"));
+        assertTrue(sql.getValue().contains("AND reserve_price IS NULL"));
+        assertTrue(sql.getValue().contains("ORDER BY ts_rank(search_vector, to_tsquery('english', :query)) DESC, id DESC"));
+        assertEquals("silver:* & teapot:*", params.getValue().getValue("query"));
+        assertEquals("SILVER_AND_VERTU", params.getValue().getValue("category"));
+        assertEquals(20L, params.getValue().getValue("offset"));
+    }
+
+    @Test
+    void requestedOrderReplacesTheRank() {
+        ItemSearchRequest request = request("teapot");
+        request.setSortBy("price");
+        request.setSortOrder("DESC");
+        when(namedJdbcTemplate.queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Long.class)))
+                .thenReturn(1L);
+
+        fullTextSearch.search(request, 0, 10);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(namedJdbcTemplate).queryForList(sql.capture(), any(MapSqlParameterSource.class), eq(Long.class));
+        assertTrue(sql.getValue().endsWith(" ORDER BY starting_price DESC, id DESC LIMIT :limit OFFSET :offset"));
+    }
+
+    @Test
+    void noMatchesSkipsThePageQuery() {
+        when(namedJdbcTemplate.queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Long.class)))
+                .thenReturn(0L);
+
+        ItemIdPage page = fullTextSearch.search(request("teapot"), 0, 10);
+
+        assertEquals(0, page.total());
+        assertTrue(page.itemIds().isEmpty());
+        verify(namedJdbcTemplate, never()).queryForList(anyString(), any(MapSqlParameterSource.class), eq(Long.class));
+    }
+
+    @Test
+    void keysetPageSeeksPastTheCursor() {
+        ItemCursor position = new ItemCursor("price", "150.00", 9L);
+
+        fullTextSearch.searchAfter(request("teapot"), "price", true, position, 21);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(namedJdbcTemplate).queryForList(sql.capture(), params.capture(), eq(Long.class));
+        assertTrue(sql.getValue().endsWith(" AND (starting_price, id) < (:afterValue, :afterId) " +
+                "ORDER BY starting_price DESC, id DESC LIMIT :limit"));
+        assertEquals(new BigDecimal("150.00"), params.getValue().getValue("afterValue"));
+        assertEquals(9L, params.getValue().getValue("afterId"));
+        assertEquals(21, params.getValue().getValue("limit"));
+    }
+
+    private static ItemSearchRequest request(String keyword) {
+        ItemSearchRequest request = new ItemSearchRequest();
+        request.setKeyword(keyword);
+        request.setStatus(ItemStatus.LIVE);
+        return request;
+    }
+}
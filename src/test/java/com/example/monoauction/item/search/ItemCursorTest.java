@@ -0,0 +1,45 @@
+package com.example.monoauction.item.search;
+
+import com.example.monoauction.common.execptions.BusinessException;
+import com.example.monoauction.item.model.AuctionItem;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemCursorTest {
+
+    private static final AuctionItem ITEM = AuctionItem.builder()
+            .id(42L)
+            .startingPrice(new BigDecimal("150.50"))
+            .createdAt(LocalDateTime.of(2026, 10, 12, 9, 30, 15, 123_000_000))
+            .build();
+
+    @Test
+    void roundTripsThroughItsEncoding() {
+        ItemCursor byDate = ItemCursor.of(ITEM, "date");
+        ItemCursor byPrice = ItemCursor.of(ITEM, "price");
+
+        assertEquals(byDate, ItemCursor.decode(byDate.encode()));
+        assertEquals(ITEM.getCreatedAt(), ItemCursor.decode(byDate.encode()).createdAt());
+        assertEquals(new BigDecimal("150.50"), ItemCursor.decode(byPrice.encode()).price());
+        assertEquals(42L, ItemCursor.decode(byPrice.encode()).id());
+    }
+
+    @Test
+    void encodingIsUrlSafe() {
+        String encoded = ItemCursor.of(ITEM, "date").encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void tamperedCursorsAreRejected() {
+        assertEquals("Invalid Cursor",
+                assertThrows(BusinessException.class, () -> ItemCursor.decode("not a cursor")).getMessage());
+        assertThrows(BusinessException.class, () -> ItemCursor.decode(new ItemCursor("date", "x", 1L).encode()).createdAt());
+        assertThrows(BusinessException.class, () -> new ItemCursor("price", "cheap", 1L).price());
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.monoauction.item.search;
+
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.common.enums.ItemCategory;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.common.enums.SearchMode;
+import com.example.monoauction.item.dto.ItemSearchRequest;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.notifications.event.BidPlacedEvent;
+import com.example.monoauction.notifications.event.ItemStatusChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LiveItemIndexTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 10, 12, 9, 0);
+
+    @Mock
+    private AuctionItemRepository itemRepository;
+
+    @InjectMocks
+    private LiveItemIndex index;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(index, "searchMode", SearchMode.IN_MEMORY);
+        lenient().when(itemRepository.findByStatusOrderByCreatedAtDesc(ItemStatus.LIVE)).thenReturn(List.of(
+                item(1L, "Victorian Silver Teapot", "Hallmarked 1882", ItemCategory.SILVER_AND_VERTU, "300.00", 2),
+                item(2L, "Silver Pocket Watch", "Key wound", ItemCategory.WATCHES, "150.00", 0),
+                item(3L, "Oak Writing Desk", "Victorian, restored", ItemCategory.FURNITURE, "900.00", 5),
+                item(4L, "Gold Wristwatch", "Swiss movement", ItemCategory.WATCHES, "1200.00", 1)));
+    }
+
+    @Test
+    void keywordTokensArePrefixesAndAllMustMatch() {
+        index.rebuild();
+
+        assertEquals(List.of(1L, 3L), ids(request("victor", null), "price", "ASC"));
+        assertEquals(List.of(1L), ids(request("VICTORIAN silver", null), "price", "ASC"));
+        // Prefixes match from the start of a term, so "watch" does not reach "wristwatch"
+        assertEquals(List.of(2L), ids(request("watch", null), "price", "ASC"));
+        assertEquals(List.of(), ids(request("bronze", null), "price", "ASC"));
+    }
+
+    @Test
+    void filtersNarrowTheMatches() {
+        index.rebuild();
+
+        assertEquals(List.of(2L, 4L), ids(request(null, ItemCategory.WATCHES), "price", "ASC"));
+        assertEquals(List.of(), ids(request(null, ItemCategory.COINS_AND_CURRENCY), "price", "ASC"));
+
+        ItemSearchRequest priced = request(null, null);
+        priced.setMinPrice(new BigDecimal("200.00"));
+        priced.setMaxPrice(new BigDecimal("900.00"));
+        assertEquals(List.of(1L, 3L), ids(priced, "price", "ASC"));
+
+        ItemSearchRequest withBids = request(null, null);
+        withBids.setHasBids(true);
+        assertEquals(List.of(4L, 1L, 3L), ids(withBids, "bids", "ASC"));
+    }
+
+    @Test
+    void pagesCarryTheTotalMatchCount() {
+        index.rebuild();
+        ItemSearchRequest request = request(null, null);
+        request.setSortBy("price");
+        request.setSortOrder("DESC");
+
+        ItemIdPage second = index.search(request, 1, 3);
+
+        assertEquals(List.of(2L), second.itemIds());
+        assertEquals(4, second.total());
+    }
+
+    @Test
+    void keysetPagesWalkEveryMatchOnce() {
+        index.rebuild();
+        ItemSearchRequest request = request(null, null);
+
+        List<Long> first = index.searchAfter(request, "date", true, null, 3);
+        ItemCursor position = new ItemCursor("date", CREATED.plusHours(2).toString(), 2L);
+        List<Long> second = index.searchAfter(request, "date", true, position, 3);
+
+        assertEquals(List.of(4L, 3L, 2L), first);
+        assertEquals(List.of(1L), second);
+    }
+
+    @Test
+    void keysetTiesAreBrokenById() {
+        when(itemRepository.findByStatusOrderByCreatedAtDesc(ItemStatus.LIVE)).thenReturn(List.of(
+                item(1L, "Lamp", "", ItemCategory.FURNITURE, "50.00", 0),
+                item(2L, "Lamp", "", ItemCategory.FURNITURE, "50.00", 0),
+                item(3L, "Lamp", "", ItemCategory.FURNITURE, "50.00", 0)));
+        index.rebuild();
+
+        List<Long> after = index.searchAfter(request("lamp", null), "price", false,
+                new ItemCursor("price", "50.00", 1L), 10);
+
+        assertEquals(List.of(2L, 3L), after);
+    }
+
+    @Test
+    void settledItemsLeaveTheIndex() {
+        index.rebuild();
+
+        index.onItemStatusChanged(new ItemStatusChangedEvent(List.of(1L), ItemStatus.LIVE, ItemStatus.SOLD));
+
+        assertEquals(List.of(3L), ids(request("victorian", null), "price", "ASC"));
+    }
+
+    @Test
+    void bidsMoveTheBidCount() {
+        index.rebuild();
+        AuctionItem watch = item(2L, "Silver Pocket Watch", "Key wound", ItemCategory.WATCHES, "150.00", 6);
+
+        index.onBidPlaced(new BidPlacedEvent(Bid.builder().itemId(2L).build(), watch));
+
+        assertEquals(List.of(2L, 3L), ids(request(null, null), "bids", "DESC").subList(0, 2));
+    }
+
+    @Test
+    void onlyLiveSearchesWithUsableKeywordsAreServed() {
+        assertFalse(index.canServe(request("silver", null)));
+
+        index.rebuild();
+        assertTrue(index.canServe(request("silver", null)));
+        assertTrue(index.canServe(request(null, null)));
+        assertFalse(index.canServe(request("--", null)));
+
+        ItemSearchRequest byViews = request(null, null);
+        byViews.setSortBy("views");
+        assertFalse(index.canServe(byViews));
+
+        ItemSearchRequest sold = request(null, null);
+        sold.setStatus(ItemStatus.SOLD);
+        assertFalse(index.canServe(sold));
+    }
+
+    @Test
+    void disabledIndexIsNeverBuilt() {
+        ReflectionTestUtils.setField(index, "searchMode", SearchMode.DATABASE);
+
+        index.buildOnStartup();
+
+        assertFalse(index.canServe(request(null, null)));
+        verifyNoInteractions(itemRepository);
+    }
+
+    private List<Long> ids(ItemSearchRequest request, String sortBy, String sortOrder) {
+        request.setSortBy(sortBy);
+        request.setSortOrder(sortOrder);
+        return index.search(request, 0, 20).itemIds();
+    }
+
+    private static ItemSearchRequest request(String keyword, ItemCategory category) {
+        ItemSearchRequest request = new ItemSearchRequest();
+        request.setKeyword(keyword);
+        request.setCategory(category);
+        request.setStatus(ItemStatus.LIVE);
+        return request;
+    }
+
+    private static AuctionItem item(Long id, String title, String description, ItemCategory category,
+                                    String price, int totalBids) {
+        return AuctionItem.builder()
+                .id(id)
+                .batchId(7L)
+                .sellerId(1L)
+                .title(title)
+                .description(description)
+                .category(category)
+                .status(ItemStatus.LIVE)
+                .startingPrice(new BigDecimal(price))
+                .totalBids(totalBids)
+                .createdAt(CREATED.plusHours(id))
+                .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.monoauction.item.search;
+
+import com.example.monoauction.common.enums.ItemCategory;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.notifications.event.ItemStatusChangedEvent;
+import com.example.monoauction.notifications.event.ItemSubmittedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchFacetsTest {
+
+    @Mock
+    private AuctionItemRepository itemRepository;
+
+    @InjectMocks
+    private SearchFacets facets;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(itemRepository.countFacets()).thenReturn(List.of(
+                new Object[]{ItemStatus.LIVE, ItemCategory.WATCHES, new BigDecimal("150.00"), 2L},
+                new Object[]{ItemStatus.LIVE, ItemCategory.FURNITURE, new BigDecimal("900.00"), 1L},
+                new Object[]{ItemStatus.APPROVED, ItemCategory.ANTIQUES, new BigDecimal("40.00"), 3L}));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void loadsCountsAndPriceRangePerStatus() {
+        assertFalse(facets.isReady());
+
+        facets.reload();
+
+        assertTrue(facets.isReady());
+        assertEquals(List.of(ItemCategory.ANTIQUES, ItemCategory.FURNITURE, ItemCategory.WATCHES), facets.getCategories());
+        assertEquals(Map.of(ItemCategory.WATCHES, 2L, ItemCategory.FURNITURE, 1L), facets.getCategoryCounts(ItemStatus.LIVE));
+        assertArrayEquals(new Object[]{new BigDecimal("150.00"), new BigDecimal("900.00")},
+                facets.getPriceRange(ItemStatus.LIVE));
+        assertArrayEquals(new Object[]{null, null}, facets.getPriceRange(ItemStatus.SOLD));
+        assertEquals(Map.of(), facets.getCategoryCounts(ItemStatus.SOLD));
+    }
+
+    @Test
+    void bulkTransitionMovesItemsBetweenStatuses() {
+        facets.reload();
+        when(itemRepository.countFacetsForItems(List.of(1L)))
+                .thenReturn(List.<Object[]>of(new Object[]{ItemCategory.FURNITURE, new BigDecimal("900.00"), 1L}));
+
+        facets.onItemStatusChanged(new ItemStatusChangedEvent(List.of(1L), ItemStatus.LIVE, ItemStatus.SOLD));
+
+        assertEquals(Map.of(ItemCategory.WATCHES, 2L), facets.getCategoryCounts(ItemStatus.LIVE));
+        // The last item at the top price left, so the range shrinks with it
+        assertArrayEquals(new Object[]{new BigDecimal("150.00"), new BigDecimal("150.00")},
+                facets.getPriceRange(ItemStatus.LIVE));
+        assertEquals(Map.of(ItemCategory.FURNITURE, 1L), facets.getCategoryCounts(ItemStatus.SOLD));
+    }
+
+    @Test
+    void submissionsAreAdded() {
+        facets.reload();
+        AuctionItem item = item(ItemStatus.SUBMITTED, ItemCategory.COINS_AND_CURRENCY, "25.00");
+
+        facets.onItemSubmitted(new ItemSubmittedEvent(item));
+
+        assertEquals(Map.of(ItemCategory.COINS_AND_CURRENCY, 1L), facets.getCategoryCounts(ItemStatus.SUBMITTED));
+        assertTrue(facets.getCategories().contains(ItemCategory.COINS_AND_CURRENCY));
+    }
+
+    @Test
+    void singleItemChangesWaitForTheCommit() {
+        facets.reload();
+        TransactionSynchronizationManager.initSynchronization();
+        AuctionItem item = item(ItemStatus.LIVE, ItemCategory.ANTIQUES, "40.00");
+
+        facets.statusChanged(item, ItemStatus.APPROVED);
+
+        assertEquals(Map.of(ItemCategory.ANTIQUES, 3L), facets.getCategoryCounts(ItemStatus.APPROVED));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(Map.of(ItemCategory.ANTIQUES, 2L), facets.getCategoryCounts(ItemStatus.APPROVED));
+        assertEquals(1L, facets.getCategoryCounts(ItemStatus.LIVE).get(ItemCategory.ANTIQUES));
+    }
+
+    @Test
+    void priceEditsMoveTheRange() {
+        facets.reload();
+        AuctionItem item = item(ItemStatus.LIVE, ItemCategory.FURNITURE, "1000.00");
+
+        facets.priceChanged(item, new BigDecimal("900.00"));
+
+        assertArrayEquals(new Object[]{new BigDecimal("150.00"), new BigDecimal("1000.00")},
+                facets.getPriceRange(ItemStatus.LIVE));
+        assertEquals(1L, facets.getCategoryCounts(ItemStatus.LIVE).get(ItemCategory.FURNITURE));
+    }
+
+    @Test
+    void failedReloadKeepsTheLastFacets() {
+        facets.reload();
+        when(itemRepository.countFacets()).thenThrow(new RuntimeException("Connection Refused"));
+
+        facets.reload();
+
+        assertEquals(Map.of(ItemCategory.WATCHES, 2L, ItemCategory.FURNITURE, 1L), facets.getCategoryCounts(ItemStatus.LIVE));
+    }
+
+    private static AuctionItem item(ItemStatus status, ItemCategory category, String price) {
+        return AuctionItem.builder()
+                .id(1L)
+                .status(status)
+                .category(category)
+                .startingPrice(new BigDecimal(price))
+                .build();
+    }
+}
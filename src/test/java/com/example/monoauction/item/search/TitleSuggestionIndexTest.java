@@ -0,0 +1,115 @@
+package com.example.monoauction.item.search;
+
+import com.example.monoauction.item.dto.TitlePopularity;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.notifications.event.ItemApprovedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TitleSuggestionIndexTest {
+
+    @Mock
+    private AuctionItemRepository itemRepository;
+
+    @InjectMocks
+    private TitleSuggestionIndex suggestions;
+
+    @Test
+    void completionsRankByBidsAndWatchers() {
+        when(itemRepository.findTitlePopularity(anyCollection())).thenReturn(List.of(
+                title("Silver Teapot", 1, 0),
+                title("Silver Pocket Watch", 2, 3),
+                title("Silk Scarf", 4, 0),
+                title("Oak Desk", 9, 9)));
+
+        suggestions.rebuild();
+
+        assertEquals(List.of("Silver Pocket Watch", "Silk Scarf", "Silver Teapot"), suggestions.suggest("si"));
+        assertEquals(List.of("Silver Pocket Watch", "Silver Teapot"), suggestions.suggest("SILVER"));
+        assertEquals(List.of(), suggestions.suggest("bronze"));
+    }
+
+    @Test
+    void prefixIsMatchedCaseAndSpacingInsensitive() {
+        when(itemRepository.findTitlePopularity(anyCollection())).thenReturn(List.of(title("Silver  Pocket\tWatch", 0, 0)));
+
+        suggestions.rebuild();
+
+        assertEquals(List.of("Silver  Pocket\tWatch"), suggestions.suggest("  silver pocket w"));
+    }
+
+    @Test
+    void onlyTheTopFiveAreKeptWithTiesAlphabetical() {
+        when(itemRepository.findTitlePopularity(anyCollection())).thenReturn(List.of(
+                title("Lamp F", 1, 0), title("Lamp E", 1, 0), title("Lamp D", 1, 0),
+                title("Lamp C", 1, 0), title("Lamp B", 1, 0), title("Lamp A", 1, 0)));
+
+        suggestions.rebuild();
+
+        assertEquals(List.of("Lamp A", "Lamp B", "Lamp C", "Lamp D", "Lamp E"), suggestions.suggest("lamp"));
+    }
+
+    @Test
+    void repeatedTitleIsSuggestedOnceAtItsBestPopularity() {
+        when(itemRepository.findTitlePopularity(anyCollection())).thenReturn(List.of(
+                title("Lamp A", 1, 0), title("Lamp B", 2, 0), title("lamp a", 5, 0)));
+
+        suggestions.rebuild();
+
+        assertEquals(List.of("lamp a", "Lamp B"), suggestions.suggest("lamp"));
+    }
+
+    @Test
+    void approvalsAreAddedInPlace() {
+        when(itemRepository.findTitlePopularity(anyCollection())).thenReturn(List.of(title("Silver Teapot", 1, 0)));
+        suggestions.rebuild();
+
+        suggestions.onItemApproved(new ItemApprovedEvent(AuctionItem.builder().title("Silver Spoon").totalBids(3).build()));
+
+        assertEquals(List.of("Silver Spoon", "Silver Teapot"), suggestions.suggest("silver"));
+    }
+
+    @Test
+    void failedRebuildKeepsServingTheLastTrie() {
+        when(itemRepository.findTitlePopularity(anyCollection()))
+                .thenReturn(List.of(title("Silver Teapot", 1, 0)))
+                .thenThrow(new RuntimeException("Connection Refused"));
+        assertFalse(suggestions.isReady());
+        suggestions.rebuild();
+
+        suggestions.rebuild();
+
+        assertTrue(suggestions.isReady());
+        assertEquals(List.of("Silver Teapot"), suggestions.suggest("silver"));
+    }
+
+    private static TitlePopularity title(String title, Integer totalBids, Integer watchers) {
+        return new TitlePopularity() {
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public Integer getTotalBids() {
+                return totalBids;
+            }
+
+            @Override
+            public Integer getWatchers() {
+                return watchers;
+            }
+        };
+    }
+}
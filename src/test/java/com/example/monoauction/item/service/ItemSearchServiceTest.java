@@ -0,0 +1,155 @@
+package com.example.monoauction.item.service;
+
+import com.example.monoauction.common.dto.CursorPage;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.common.execptions.BusinessException;
+import com.example.monoauction.file.service.FileStorageService;
+import com.example.monoauction.item.dto.ItemResponse;
+import com.example.monoauction.item.dto.ItemSearchRequest;
+import com.example.monoauction.item.dto.ItemSearchResponse;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.item.search.FullTextItemSearch;
+import com.example.monoauction.item.search.ItemCursor;
+import com.example.monoauction.item.search.LiveItemIndex;
+import com.example.monoauction.item.search.SearchFacets;
+import com.example.monoauction.item.search.TitleSuggestionIndex;
+import com.example.monoauction.user.service.SellerNameCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchServiceTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 10, 12, 9, 0);
+
+    @Mock
+    private AuctionItemRepository itemRepository;
+    @Mock
+    private SellerNameCache sellerNameCache;
+    @Mock
+    private FileStorageService fileStorageService;
+    @Mock
+    private LiveItemIndex liveItemIndex;
+    @Mock
+    private FullTextItemSearch fullTextSearch;
+    @Mock
+    private TitleSuggestionIndex suggestionIndex;
+    @Mock
+    private SearchFacets searchFacets;
+
+    @InjectMocks
+    private ItemSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(sellerNameCache.namesOf(anyCollection())).thenReturn(Map.of());
+        lenient().when(liveItemIndex.canServe(any())).thenReturn(true);
+    }
+
+    @Test
+    void fullPageHandsOutACursorAtItsLastItem() {
+        when(liveItemIndex.searchAfter(any(), eq("date"), eq(true), isNull(), eq(3))).thenReturn(List.of(5L, 4L, 3L));
+        when(itemRepository.findAllById(List.of(5L, 4L, 3L))).thenReturn(List.of(item(3L), item(4L), item(5L)));
+
+        CursorPage<ItemResponse> page = searchService.searchItemsByCursor(liveRequest(), null, 2);
+
+        assertEquals(List.of(5L, 4L), page.getItems().stream().map(ItemResponse::getId).toList());
+        assertTrue(page.isHasMore());
+        ItemCursor next = ItemCursor.decode(page.getNextCursor());
+        assertEquals(4L, next.id());
+        assertEquals(CREATED.plusHours(4), next.createdAt());
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        ItemCursor position = ItemCursor.of(item(4L), "date");
+        when(liveItemIndex.searchAfter(any(), eq("date"), eq(true), eq(position), eq(3))).thenReturn(List.of(3L));
+        when(itemRepository.findAllById(List.of(3L))).thenReturn(List.of(item(3L)));
+
+        CursorPage<ItemResponse> page = searchService.searchItemsByCursor(liveRequest(), position.encode(), 2);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void cursorFromAnotherSortOrderIsRejected() {
+        ItemSearchRequest request = liveRequest();
+        request.setSortBy("price");
+        String dateCursor = ItemCursor.of(item(4L), "date").encode();
+
+        BusinessException error = assertThrows(BusinessException.class,
+                () -> searchService.searchItemsByCursor(request, dateCursor, 20));
+
+        assertEquals("Cursor Does Not Match The Sort Order", error.getMessage());
+        verify(liveItemIndex, never()).searchAfter(any(), any(), anyBoolean(), any(), anyInt());
+    }
+
+    @Test
+    void bidOrderIsOffsetPagedOnly() {
+        ItemSearchRequest request = liveRequest();
+        request.setSortBy("bids");
+
+        BusinessException error = assertThrows(BusinessException.class,
+                () -> searchService.searchItemsByCursor(request, null, 20));
+
+        assertEquals("Sorting By Bids Is Not Available With Cursors", error.getMessage());
+    }
+
+    @Test
+    void sliceModeSkipsTheTotal() {
+        when(liveItemIndex.canServe(any())).thenReturn(false);
+        ItemSearchRequest request = new ItemSearchRequest();
+        request.setKeyword("lamp");
+        request.setCountTotal(false);
+        doReturn(new SliceImpl<>(List.of(item(1L)), PageRequest.of(0, 20), true))
+                .when(itemRepository).findBy(any(Specification.class), any());
+
+        ItemSearchResponse response = searchService.searchItems(request);
+
+        assertTrue(response.isHasNext());
+        assertNull(response.getTotalItems());
+        assertNull(response.getTotalPages());
+        assertEquals(1, response.getItems().size());
+        verify(itemRepository, never()).searchByKeyword(any(), any());
+    }
+
+    private static ItemSearchRequest liveRequest() {
+        ItemSearchRequest request = new ItemSearchRequest();
+        request.setStatus(ItemStatus.LIVE);
+        return request;
+    }
+
+    private static AuctionItem item(Long id) {
+        return AuctionItem.builder()
+                .id(id)
+                .sellerId(1L)
+                .title("Item " + id)
+                .status(ItemStatus.LIVE)
+                .startingPrice(new BigDecimal("100.00"))
+                .createdAt(CREATED.plusHours(id))
+                .build();
+    }
+}
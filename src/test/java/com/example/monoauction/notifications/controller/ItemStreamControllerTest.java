@@ -0,0 +1,56 @@
+package com.example.monoauction.notifications.controller;
+
+import com.example.monoauction.bids.dto.ItemResyncMessage;
+import com.example.monoauction.bids.service.BidService;
+import com.example.monoauction.common.execptions.ResourceNotFoundException;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.notifications.service.ItemStreamLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemStreamControllerTest {
+
+    @Mock
+    private ItemStreamLog itemStreamLog;
+    @Mock
+    private AuctionItemRepository itemRepository;
+    @Mock
+    private BidService bidService;
+
+    @InjectMocks
+    private ItemStreamController controller;
+
+    @Test
+    void unknownItemNeverReachesTheLog() {
+        when(itemRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> controller.resync(99L, 5L));
+        assertThrows(ResourceNotFoundException.class, () -> controller.resync(99L, null));
+
+        verifyNoInteractions(itemStreamLog, bidService);
+    }
+
+    @Test
+    void missedMessagesAreReplayedWithoutSnapshot() {
+        when(itemRepository.existsById(1L)).thenReturn(true);
+        when(itemStreamLog.since(1L, 10L)).thenReturn(Optional.of(List.of("a", "b")));
+
+        ItemResyncMessage message = controller.resync(1L, 10L);
+
+        assertEquals(12L, message.getSeq());
+        assertEquals(List.of("a", "b"), message.getDeltas());
+        assertNull(message.getSnapshot());
+        verify(itemRepository, never()).findById(any());
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.monoauction.notifications.service;
+
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.item.dto.ItemTransition;
+import com.example.monoauction.notifications.event.ItemStatusChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemStatusBroadcasterTest {
+
+    @Mock
+    private WebSocketNotificationService webSocketService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ItemStatusBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(broadcaster, "chunkSize", 2);
+        broadcaster.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void everyItemIsAnnouncedAcrossChunks() {
+        broadcaster.broadcast(items(5), ItemStatus.APPROVED, ItemStatus.LIVE);
+
+        for (long id = 1; id <= 5; id++) {
+            verify(webSocketService, timeout(5000))
+                    .sendItemStatusUpdate(id, "Item " + id, ItemStatus.APPROVED, ItemStatus.LIVE);
+        }
+        ArgumentCaptor<ItemStatusChangedEvent> event = ArgumentCaptor.forClass(ItemStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), event.getValue().getItemIds());
+        assertEquals(ItemStatus.LIVE, event.getValue().getNewStatus());
+    }
+
+    @Test
+    void nothingIsAnnouncedBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        broadcaster.broadcast(items(3), ItemStatus.SUBMITTED, ItemStatus.UNDER_REVIEW);
+
+        verifyNoInteractions(eventPublisher, webSocketService);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(eventPublisher).publishEvent(any(ItemStatusChangedEvent.class));
+        verify(webSocketService, timeout(5000).times(3))
+                .sendItemStatusUpdate(anyLong(), anyString(), eq(ItemStatus.SUBMITTED), eq(ItemStatus.UNDER_REVIEW));
+    }
+
+    @Test
+    void failedItemDoesNotStopItsChunk() {
+        doThrow(new IllegalStateException("Broker Unavailable"))
+                .when(webSocketService).sendItemStatusUpdate(1L, "Item 1", ItemStatus.APPROVED, ItemStatus.LIVE);
+
+        broadcaster.broadcast(items(2), ItemStatus.APPROVED, ItemStatus.LIVE);
+
+        verify(webSocketService, timeout(5000)).sendItemStatusUpdate(2L, "Item 2", ItemStatus.APPROVED, ItemStatus.LIVE);
+    }
+
+    @Test
+    void emptyTransitionIsIgnored() {
+        broadcaster.broadcast(List.of(), ItemStatus.APPROVED, ItemStatus.LIVE);
+
+        verifyNoInteractions(eventPublisher, webSocketService);
+    }
+
+    private static List<ItemTransition> items(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> ItemTransition.of(id, "Item " + id))
+                .toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.monoauction.notifications.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemStreamLogTest {
+
+    private ItemStreamLog streamLog;
+    private final List<Object> sent = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        streamLog = new ItemStreamLog();
+        ReflectionTestUtils.setField(streamLog, "logSize", 4);
+        ReflectionTestUtils.setField(streamLog, "idleMinutes", 30L);
+    }
+
+    @Test
+    void readsNeverCreateALog() {
+        assertEquals(ItemStreamLog.NO_SEQ, streamLog.currentSeq(1L));
+        assertTrue(streamLog.since(1L, 42L).isEmpty());
+
+        assertTrue(logs().isEmpty());
+    }
+
+    @Test
+    void replaysMessagesPublishedSinceLastSeq() {
+        publish(1L);
+        long seen = streamLog.currentSeq(1L);
+        publish(1L);
+        publish(1L);
+
+        Optional<List<Object>> missed = streamLog.since(1L, seen);
+
+        assertEquals(List.of(seen + 1, seen + 2), missed.orElseThrow());
+        assertEquals(List.of(), streamLog.since(1L, seen + 2).orElseThrow());
+        assertEquals(seen + 2, streamLog.currentSeq(1L));
+    }
+
+    @Test
+    void sequenceThatFellOutOfTheLogNeedsASnapshot() {
+        publish(1L);
+        long seen = streamLog.currentSeq(1L);
+        for (int i = 0; i < 5; i++) {
+            publish(1L);
+        }
+
+        assertTrue(streamLog.since(1L, seen).isEmpty());
+        assertTrue(streamLog.since(1L, seen + 1).isPresent());
+    }
+
+    @Test
+    void noSeqAlwaysNeedsASnapshot() {
+        publish(1L);
+
+        assertTrue(streamLog.since(1L, ItemStreamLog.NO_SEQ).isEmpty());
+    }
+
+    @Test
+    void idleLogsAreEvicted() {
+        publish(1L);
+        ReflectionTestUtils.setField(streamLog, "idleMinutes", -1L);
+
+        streamLog.evictIdleLogs();
+
+        assertTrue(logs().isEmpty());
+    }
+
+    // Each message is its own sequence number
+    private void publish(Long itemId) {
+        streamLog.publish(itemId, seq -> seq, sent::add);
+    }
+
+    private Map<?, ?> logs() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(streamLog, "logs");
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.monoauction.scheduler.service;
+
+import com.example.monoauction.batch.model.BatchPhaseSnapshot;
+import com.example.monoauction.batch.service.AuctionBatchService;
+import com.example.monoauction.common.enums.BatchStatus;
+import com.example.monoauction.scheduler.event.LifecycleLeaseChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionLifecycleSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Mock
+    private AuctionBatchService batchService;
+    @Mock
+    private LifecycleLease lease;
+    @Mock
+    private ThreadPoolTaskScheduler taskScheduler;
+    @Mock
+    private ScheduledFuture<?> timer;
+
+    @InjectMocks
+    private AuctionLifecycleScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "schedulerEnabled", true);
+        ReflectionTestUtils.setField(scheduler, "retrySeconds", 30L);
+        ReflectionTestUtils.setField(scheduler, "taskScheduler", taskScheduler);
+        lenient().when(lease.isLeader()).thenReturn(true);
+        lenient().doReturn(timer).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void armsJustPastTheNextBoundary() {
+        LocalDateTime submissionEnd = NOW.plusHours(2);
+        when(batchService.getCurrentPhase()).thenReturn(snapshot(BatchStatus.SUBMISSION, submissionEnd, NOW.plusDays(1)));
+
+        scheduler.armNextTransition();
+
+        assertEquals(instant(submissionEnd).plusMillis(1), armedAt());
+    }
+
+    @Test
+    void boundaryBeyondTheSnapshotArmsForItsExpiry() {
+        LocalDateTime validUntil = NOW.plusHours(1);
+        when(batchService.getCurrentPhase()).thenReturn(snapshot(BatchStatus.SUBMISSION, NOW.plusDays(2), validUntil));
+
+        scheduler.armNextTransition();
+
+        assertEquals(instant(validUntil).plusMillis(1), armedAt());
+    }
+
+    @Test
+    void endedBatchArmsForTheWeekRollingOver() {
+        LocalDateTime validUntil = NOW.plusDays(3);
+        when(batchService.getCurrentPhase()).thenReturn(snapshot(BatchStatus.ENDED, NOW.minusDays(3), validUntil));
+
+        scheduler.armNextTransition();
+
+        assertEquals(instant(validUntil).plusMillis(1), armedAt());
+    }
+
+    @Test
+    void passedBoundaryIsRetriedLater() {
+        when(batchService.getCurrentPhase()).thenReturn(snapshot(BatchStatus.LIVE, NOW.minusMinutes(5), NOW.plusDays(1)));
+        Instant before = Instant.now();
+
+        scheduler.armNextTransition();
+
+        Duration delay = Duration.between(before, armedAt());
+        assertTrue(delay.compareTo(Duration.ofSeconds(29)) > 0 && delay.compareTo(Duration.ofSeconds(31)) < 0);
+    }
+
+    @Test
+    void rearmingCancelsThePreviousTimer() {
+        when(batchService.getCurrentPhase()).thenReturn(snapshot(BatchStatus.SUBMISSION, NOW.plusHours(2), NOW.plusDays(1)));
+
+        scheduler.armNextTransition();
+        scheduler.armNextTransition();
+
+        verify(timer, times(1)).cancel(false);
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void disabledSchedulerArmsNothing() {
+        ReflectionTestUtils.setField(scheduler, "schedulerEnabled", false);
+
+        scheduler.armNextTransition();
+        scheduler.onBatchPhaseChanged();
+
+        verifyNoInteractions(batchService);
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void phaseChangeRearmsOffTheCommittingThread() {
+        scheduler.onBatchPhaseChanged();
+
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        verifyNoInteractions(batchService);
+    }
+
+    @Test
+    void standbyNodeArmsNothing() {
+        when(lease.isLeader()).thenReturn(false);
+
+        scheduler.armNextTransition();
+        scheduler.onBatchPhaseChanged();
+        scheduler.checkAndUpdateBatchStatus();
+
+        verifyNoInteractions(batchService, taskScheduler);
+    }
+
+    @Test
+    void losingTheLeaseCancelsTheTimer() {
+        when(batchService.getCurrentPhase()).thenReturn(snapshot(BatchStatus.SUBMISSION, NOW.plusHours(2), NOW.plusDays(1)));
+        scheduler.armNextTransition();
+
+        scheduler.onLeaseChanged(new LifecycleLeaseChangedEvent(false, LifecycleLease.UNFENCED));
+
+        verify(timer).cancel(false);
+    }
+
+    private Instant armedAt() {
+        ArgumentCaptor<Instant> at = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler).schedule(any(Runnable.class), at.capture());
+        return at.getValue();
+    }
+
+    private static Instant instant(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static BatchPhaseSnapshot snapshot(BatchStatus status, LocalDateTime boundary, LocalDateTime validUntil) {
+        return new BatchPhaseSnapshot(1L, "2026-W42", 42, 2026, status,
+                boundary.minusDays(3), boundary,
+                boundary, boundary.plusDays(1),
+                boundary, boundary,
+                validUntil);
+    }
+}
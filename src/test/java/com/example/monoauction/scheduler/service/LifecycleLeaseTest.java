@@ -0,0 +1,157 @@
+package com.example.monoauction.scheduler.service;
+
+import com.example.monoauction.batch.repository.AuctionBatchRepository;
+import com.example.monoauction.scheduler.event.LifecycleLeaseChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LifecycleLeaseTest {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private AuctionBatchRepository batchRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement statement;
+    @Mock
+    private ResultSet result;
+
+    @InjectMocks
+    private LifecycleLease lease;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ReflectionTestUtils.setField(lease, "schedulerEnabled", true);
+        ReflectionTestUtils.setField(lease, "lockKey", 872301L);
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        lenient().when(connection.prepareStatement(anyString())).thenReturn(statement);
+        lenient().when(statement.executeQuery()).thenReturn(result);
+        lenient().when(result.next()).thenReturn(true);
+    }
+
+    @Test
+    void acquiringTheLockTakesANewToken() throws SQLException {
+        when(result.getBoolean(1)).thenReturn(true);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(42L);
+
+        lease.start();
+
+        assertTrue(lease.isLeader());
+        assertEquals(42L, lease.getFencingToken());
+        LifecycleLeaseChangedEvent event = publishedEvent();
+        assertTrue(event.isLeader());
+        assertEquals(42L, event.getFencingToken());
+        verify(connection, never()).close();
+    }
+
+    @Test
+    void lockHeldElsewhereLeavesThisNodeStandingBy() throws SQLException {
+        when(result.getBoolean(1)).thenReturn(false);
+
+        lease.start();
+
+        assertFalse(lease.isLeader());
+        assertEquals(LifecycleLease.UNFENCED, lease.getFencingToken());
+        verify(connection).close();
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Long.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void brokenConnectionRetiresTheToken() throws SQLException {
+        when(result.getBoolean(1)).thenReturn(true);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(42L);
+        lease.start();
+        when(connection.isValid(anyInt())).thenReturn(false);
+
+        lease.renew();
+
+        assertFalse(lease.isLeader());
+        assertEquals(LifecycleLease.UNFENCED, lease.getFencingToken());
+        ArgumentCaptor<LifecycleLeaseChangedEvent> events = ArgumentCaptor.forClass(LifecycleLeaseChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertFalse(events.getValue().isLeader());
+    }
+
+    @Test
+    void healthyLeaseRenewsQuietly() throws SQLException {
+        when(result.getBoolean(1)).thenReturn(true);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(42L);
+        lease.start();
+        when(connection.isValid(anyInt())).thenReturn(true);
+
+        lease.renew();
+
+        assertTrue(lease.isLeader());
+        verify(eventPublisher, times(1)).publishEvent(any(LifecycleLeaseChangedEvent.class));
+    }
+
+    @Test
+    void fenceIsRefusedOnceANewerLeaderClaimedTheBatch() throws SQLException {
+        when(result.getBoolean(1)).thenReturn(true);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(42L);
+        lease.start();
+        when(batchRepository.claimFence(7L, 42L)).thenReturn(0);
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> lease.fence(7L));
+
+        assertEquals("Lifecycle Lease Lost For Batch", error.getMessage());
+    }
+
+    @Test
+    void fenceWithoutTheLeaseFails() {
+        RuntimeException error = assertThrows(RuntimeException.class, () -> lease.fence(7L));
+
+        assertEquals("Lifecycle Lease Not Held", error.getMessage());
+        verifyNoInteractions(batchRepository);
+    }
+
+    @Test
+    void disabledSchedulerLeadsUnfenced() {
+        ReflectionTestUtils.setField(lease, "schedulerEnabled", false);
+
+        lease.start();
+        lease.fence(7L);
+
+        assertTrue(lease.isLeader());
+        assertEquals(LifecycleLease.UNFENCED, lease.getFencingToken());
+        assertTrue(publishedEvent().isLeader());
+        verify(batchRepository, never()).claimFence(anyLong(), anyLong());
+        verifyNoInteractions(dataSource, jdbcTemplate);
+    }
+
+    private LifecycleLeaseChangedEvent publishedEvent() {
+        ArgumentCaptor<LifecycleLeaseChangedEvent> event = ArgumentCaptor.forClass(LifecycleLeaseChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        return event.getValue();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.monoauction.scheduler.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    // Four buckets of 2ms per level: 8ms, 32ms, 128ms and 512ms per rotation
+    private TimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TimingWheel("TestWheel", 2, 4);
+        wheel.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void deadlinesOnEveryLevelCascadeDownAndFireInOrder() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        long[] delays = {5, 25, 90, 400, 700};
+        List<Long> fired = new CopyOnWriteArrayList<>();
+        Map<Long, Long> firedAt = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(delays.length);
+
+        // Scheduled latest first, so the order they fire in comes from the wheel alone
+        for (int i = delays.length - 1; i >= 0; i--) {
+            long deadline = now + delays[i];
+            wheel.schedule(deadline, () -> {
+                firedAt.put(deadline, System.currentTimeMillis());
+                fired.add(deadline);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < delays.length; i++) {
+            long deadline = now + delays[i];
+            assertEquals(deadline, (long) fired.get(i));
+            assertTrue(firedAt.get(deadline) >= deadline, "Fired before its deadline");
+        }
+    }
+
+    @Test
+    void cancelledTimeoutNeverRuns() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        CountDownLatch cancelledRan = new CountDownLatch(1);
+        CountDownLatch laterRan = new CountDownLatch(1);
+
+        TimingWheel.Timeout timeout = wheel.schedule(now + 40, cancelledRan::countDown);
+        wheel.schedule(now + 80, laterRan::countDown);
+
+        assertTrue(timeout.cancel());
+        assertTrue(laterRan.await(5, TimeUnit.SECONDS));
+        assertEquals(1, cancelledRan.getCount());
+        assertFalse(timeout.cancel());
+    }
+
+    @Test
+    void passedDeadlineRunsOnNextTick() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+
+        wheel.schedule(System.currentTimeMillis() - 1000, ran::countDown);
+
+        assertTrue(ran.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failingTaskDoesNotStopTheWheel() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        CountDownLatch ran = new CountDownLatch(1);
+
+        wheel.schedule(now + 10, () -> {
+            throw new IllegalStateException("Task Failed");
+        });
+        wheel.schedule(now + 30, ran::countDown);
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.monoauction.security;
+
+import com.example.monoauction.common.enums.UserRole;
+import com.example.monoauction.common.execptions.BusinessException;
+import com.example.monoauction.user.model.User;
+import com.example.monoauction.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final long EXPIRATION = 60_000;
+    private static final User USER = User.builder().id(10L).email("alice@example.com").role(UserRole.BUYER).build();
+
+    @Mock
+    private UserService userService;
+
+    private JwtTokenProvider tokenProvider;
+    private StompAuthChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = spy(new JwtTokenProvider(SECRET, EXPIRATION, EXPIRATION));
+        interceptor = new StompAuthChannelInterceptor(tokenProvider, userService);
+    }
+
+    @Test
+    void connectParsesTheTokenOnce() {
+        when(userService.getUserById(10L)).thenReturn(USER);
+        long before = System.currentTimeMillis();
+        StompHeaderAccessor accessor = connect("Bearer " + tokenProvider.generateAccessToken(USER));
+
+        interceptor.preSend(message(accessor), null);
+
+        StompPrincipal principal = assertInstanceOf(StompPrincipal.class, accessor.getUser());
+        assertSame(USER, principal.user());
+        // Expiry is kept at second precision in the token
+        assertTrue(principal.expiresAtMillis() >= before + EXPIRATION - 1000);
+        assertFalse(principal.isExpired());
+        verify(tokenProvider, times(1)).parseValidClaims(anyString());
+        verify(tokenProvider, never()).validateToken(anyString());
+        verify(tokenProvider, never()).getUserIdFromToken(anyString());
+    }
+
+    @Test
+    void invalidTokenIsRejected() {
+        StompHeaderAccessor accessor = connect("Bearer " + tokenProvider.generateAccessToken(USER) + "x");
+
+        BusinessException error = assertThrows(BusinessException.class,
+                () -> interceptor.preSend(message(accessor), null));
+
+        assertEquals("Invalid Or Expired Token", error.getMessage());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void connectWithoutTokenStaysAnonymous() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+
+        interceptor.preSend(message(accessor), null);
+
+        assertNull(accessor.getUser());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void framesAfterConnectAreNotParsed() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setNativeHeader("Authorization", "Bearer " + tokenProvider.generateAccessToken(USER));
+
+        interceptor.preSend(message(accessor), null);
+
+        verify(tokenProvider, never()).parseValidClaims(anyString());
+    }
+
+    private static StompHeaderAccessor connect(String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setNativeHeader("Authorization", authorization);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.monoauction.settlement.service;
+
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.settlement.dto.SettlementSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchSettlementEngineTest {
+
+    private static final Long BATCH = 7L;
+
+    @Mock
+    private AuctionItemRepository itemRepository;
+    @Mock
+    private ItemSettlementService settlementService;
+    @Mock
+    private SettlementProgressService progressService;
+
+    @InjectMocks
+    private BatchSettlementEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(engine, "chunkSize", 2);
+        ReflectionTestUtils.setField(engine, "parallelism", 2);
+        engine.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+    }
+
+    @Test
+    void splitsLiveItemsIntoChunks() {
+        when(itemRepository.findIdsByBatchIdAndStatus(BATCH, ItemStatus.LIVE)).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        when(settlementService.settleChunk(eq(BATCH), anyLong(), anyList())).thenReturn(new SettlementSummary(1, 1, 100));
+        when(itemRepository.countByBatchIdAndStatus(BATCH, ItemStatus.LIVE)).thenReturn(0L);
+        SettlementSummary totals = new SettlementSummary(3, 3, 300);
+        when(progressService.complete(BATCH)).thenReturn(totals);
+
+        assertSame(totals, engine.settleBatch(BATCH, 3L));
+
+        verify(progressService).begin(BATCH);
+        verify(settlementService).settleChunk(BATCH, 3L, List.of(1L, 2L));
+        verify(settlementService).settleChunk(BATCH, 3L, List.of(3L, 4L));
+        verify(settlementService).settleChunk(BATCH, 3L, List.of(5L));
+    }
+
+    @Test
+    void failedChunkLeavesTheSettlementToResume() {
+        when(itemRepository.findIdsByBatchIdAndStatus(BATCH, ItemStatus.LIVE)).thenReturn(List.of(1L, 2L, 3L));
+        when(settlementService.settleChunk(BATCH, 3L, List.of(1L, 2L))).thenReturn(new SettlementSummary(2, 0, 200));
+        when(settlementService.settleChunk(BATCH, 3L, List.of(3L))).thenThrow(new RuntimeException("Deadlock"));
+        when(itemRepository.countByBatchIdAndStatus(BATCH, ItemStatus.LIVE)).thenReturn(1L);
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> engine.settleBatch(BATCH, 3L));
+
+        assertEquals("Settlement Incomplete For Batch, Will Resume", error.getMessage());
+        verify(progressService, never()).complete(anyLong());
+    }
+
+    @Test
+    void batchWithNothingLeftCompletesStraightAway() {
+        when(itemRepository.findIdsByBatchIdAndStatus(BATCH, ItemStatus.LIVE)).thenReturn(List.of());
+        when(itemRepository.countByBatchIdAndStatus(BATCH, ItemStatus.LIVE)).thenReturn(0L);
+        when(progressService.complete(BATCH)).thenReturn(SettlementSummary.EMPTY);
+
+        engine.settleBatch(BATCH, 3L);
+
+        verifyNoInteractions(settlementService);
+        verify(progressService).complete(BATCH);
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.monoauction.settlement.service;
+
+import com.example.monoauction.batch.repository.AuctionBatchRepository;
+import com.example.monoauction.batch.service.BatchCounters;
+import com.example.monoauction.bids.history.RecentBidsBuffer;
+import com.example.monoauction.bids.model.Bid;
+import com.example.monoauction.bids.repository.BidRepository;
+import com.example.monoauction.common.enums.BidStatus;
+import com.example.monoauction.common.enums.ItemStatus;
+import com.example.monoauction.common.enums.SettlementStatus;
+import com.example.monoauction.item.dto.ItemTransition;
+import com.example.monoauction.item.model.AuctionItem;
+import com.example.monoauction.item.repository.AuctionItemRepository;
+import com.example.monoauction.notifications.service.ItemStatusBroadcaster;
+import com.example.monoauction.payments.repository.TransactionRepository;
+import com.example.monoauction.scheduler.service.LifecycleLease;
+import com.example.monoauction.settlement.dto.SettlementSummary;
+import com.example.monoauction.settlement.repository.SettlementProgressRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSettlementServiceTest {
+
+    private static final Long BATCH = 7L;
+
+    @Mock
+    private AuctionItemRepository itemRepository;
+    @Mock
+    private AuctionBatchRepository batchRepository;
+    @Mock
+    private BidRepository bidRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private RecentBidsBuffer recentBids;
+    @Mock
+    private ItemStatusBroadcaster statusBroadcaster;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private SettlementProgressRepository progressRepository;
+    @Mock
+    private BatchCounters batchCounters;
+
+    @InjectMocks
+    private ItemSettlementService settlementService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(settlementService, "platformFeeBasisPoints", 500L);
+    }
+
+    @Test
+    void chunkSettlesByReserveAndChargesTheFee() {
+        AuctionItem sold = item(1L, null);
+        AuctionItem belowReserve = item(2L, new BigDecimal("500.00"));
+        AuctionItem noBids = item(3L, null);
+        when(itemRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(sold, belowReserve, noBids));
+        when(bidRepository.findTopBidPerItem(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(bid(11L, 1L, "100.10"), bid(12L, 2L, "499.99")));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1, 1});
+
+        SettlementSummary summary = settlementService.settleChunk(BATCH, LifecycleLease.UNFENCED, List.of(1L, 2L, 3L));
+
+        assertEquals(new SettlementSummary(1, 2, 10010), summary);
+        verify(bidRepository).updateStatusForItems(List.of(1L, 2L, 3L), BidStatus.LOST);
+        verify(bidRepository).updateStatusForBids(List.of(11L), BidStatus.WON);
+        verify(progressRepository).checkpoint(eq(BATCH), eq(3), eq(1), eq(2), eq(10010L),
+                eq(SettlementStatus.IN_PROGRESS), any());
+
+        List<Object[]> transactions = batchUpdates().get(1);
+        assertEquals(1, transactions.size());
+        // 5% of 100.10 rounds half up to 5.01
+        assertEquals(new BigDecimal("5.01"), transactions.get(0)[5]);
+        assertEquals(new BigDecimal("95.09"), transactions.get(0)[6]);
+    }
+
+    @Test
+    void itemsSettledElsewhereAreSkipped() {
+        when(itemRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(item(1L, null), item(2L, null)));
+        when(bidRepository.findTopBidPerItem(List.of(1L, 2L)))
+                .thenReturn(List.of(bid(11L, 1L, "100.00"), bid(12L, 2L, "200.00")));
+        // Item 1 left LIVE between the read and the guarded update
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{0, 1});
+
+        SettlementSummary summary = settlementService.settleChunk(BATCH, LifecycleLease.UNFENCED, List.of(1L, 2L));
+
+        assertEquals(new SettlementSummary(1, 0, 20000), summary);
+        verify(bidRepository).updateStatusForItems(List.of(2L), BidStatus.LOST);
+        verify(bidRepository).updateStatusForBids(List.of(12L), BidStatus.WON);
+        verify(recentBids, never()).release(1L);
+        assertEquals(1, batchUpdates().get(1).size());
+    }
+
+    @Test
+    void chunkWithoutLiveItemsWritesNothing() {
+        AuctionItem settled = item(1L, null);
+        settled.setStatus(ItemStatus.SOLD);
+        when(itemRepository.findAllById(List.of(1L))).thenReturn(List.of(settled));
+
+        assertEquals(SettlementSummary.EMPTY, settlementService.settleChunk(BATCH, LifecycleLease.UNFENCED, List.of(1L)));
+
+        verifyNoInteractions(jdbcTemplate, bidRepository, progressRepository, statusBroadcaster);
+    }
+
+    @Test
+    void staleFencingTokenStopsTheChunk() {
+        when(batchRepository.lockFence(BATCH, 3L)).thenReturn(List.of());
+
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> settlementService.settleChunk(BATCH, 3L, List.of(1L)));
+
+        assertEquals("Lifecycle Lease Lost For Batch", error.getMessage());
+        verifyNoInteractions(itemRepository, jdbcTemplate);
+    }
+
+    @Test
+    void broadcastsEachOutcomeSeparately() {
+        when(itemRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(item(1L, null), item(2L, null)));
+        when(bidRepository.findTopBidPerItem(List.of(1L, 2L))).thenReturn(List.of(bid(11L, 1L, "100.00")));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1});
+
+        settlementService.settleChunk(BATCH, LifecycleLease.UNFENCED, List.of(1L, 2L));
+
+        verify(statusBroadcaster).broadcast(argThat(items -> ids(items).equals(List.of(1L))),
+                eq(ItemStatus.LIVE), eq(ItemStatus.SOLD));
+        verify(statusBroadcaster).broadcast(argThat(items -> ids(items).equals(List.of(2L))),
+                eq(ItemStatus.LIVE), eq(ItemStatus.UNSOLD));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object[]>> batchUpdates() {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), rows.capture());
+        return rows.getAllValues();
+    }
+
+    private static List<Long> ids(List<ItemTransition> items) {
+        return items.stream().map(ItemTransition::getId).toList();
+    }
+
+    private static AuctionItem item(Long itemId, BigDecimal reservePrice) {
+        return AuctionItem.builder()
+                .id(itemId)
+                .batchId(BATCH)
+                .sellerId(1L)
+                .title("Item " + itemId)
+                .status(ItemStatus.LIVE)
+                .reservePrice(reservePrice)
+                .build();
+    }
+
+    private static Bid bid(Long bidId, Long itemId, String amount) {
+        return Bid.builder().id(bidId).itemId(itemId).bidderId(10L).amount(new BigDecimal(amount)).build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.monoauction.settlement.service;
+
+import com.example.monoauction.batch.repository.AuctionBatchRepository;
+import com.example.monoauction.common.enums.SettlementStatus;
+import com.example.monoauction.settlement.dto.SettlementSummary;
+import com.example.monoauction.settlement.model.SettlementProgress;
+import com.example.monoauction.settlement.repository.SettlementProgressRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementProgressServiceTest {
+
+    private static final Long BATCH = 7L;
+
+    @Mock
+    private SettlementProgressRepository progressRepository;
+    @Mock
+    private AuctionBatchRepository batchRepository;
+
+    @InjectMocks
+    private SettlementProgressService progressService;
+
+    @Test
+    void beginStartsFromZero() {
+        when(progressRepository.findByBatchId(BATCH)).thenReturn(Optional.empty());
+        when(progressRepository.save(any(SettlementProgress.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        SettlementProgress progress = progressService.begin(BATCH);
+
+        assertEquals(SettlementStatus.IN_PROGRESS, progress.getStatus());
+        assertEquals(0, progress.getSettledItems());
+        assertEquals(0L, progress.getRevenueCents());
+        assertEquals(0, progress.getChunksCompleted());
+    }
+
+    @Test
+    void beginKeepsARunAlreadyUnderway() {
+        SettlementProgress existing = progress(SettlementStatus.IN_PROGRESS);
+        when(progressRepository.findByBatchId(BATCH)).thenReturn(Optional.of(existing));
+
+        assertSame(existing, progressService.begin(BATCH));
+        verify(progressRepository, never()).save(any());
+    }
+
+    @Test
+    void completeAddsTheTotalsToTheBatchOnce() {
+        SettlementProgress progress = progress(SettlementStatus.IN_PROGRESS);
+        when(progressRepository.findByBatchIdForUpdate(BATCH)).thenReturn(Optional.of(progress));
+
+        SettlementSummary first = progressService.complete(BATCH);
+        SettlementSummary second = progressService.complete(BATCH);
+
+        assertEquals(new SettlementSummary(3, 2, 45000), first);
+        assertEquals(first, second);
+        assertEquals(SettlementStatus.COMPLETED, progress.getStatus());
+        assertNotNull(progress.getCompletedAt());
+        verify(batchRepository, times(1)).addTotals(BATCH, 0, 0, 0, 3, new BigDecimal("450.00"));
+    }
+
+    @Test
+    void completeWithoutBeginFails() {
+        when(progressRepository.findByBatchIdForUpdate(BATCH)).thenReturn(Optional.empty());
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> progressService.complete(BATCH));
+
+        assertEquals("Settlement Not Found For Batch", error.getMessage());
+        verify(batchRepository, never()).addTotals(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void unfinishedBatchesAreTheOnesStillInProgress() {
+        when(progressRepository.findByStatus(SettlementStatus.IN_PROGRESS))
+                .thenReturn(List.of(progress(SettlementStatus.IN_PROGRESS)));
+
+        assertEquals(List.of(BATCH), progressService.findUnfinishedBatchIds());
+    }
+
+    @Test
+    void builderStartsTheCountersAtZero() {
+        SettlementProgress progress = SettlementProgress.builder().batchId(BATCH).build();
+
+        assertEquals(0, progress.getSettledItems());
+        assertEquals(0, progress.getSoldCount());
+        assertEquals(0, progress.getUnsoldCount());
+        assertEquals(0L, progress.getRevenueCents());
+        assertEquals(0, progress.getChunksCompleted());
+    }
+
+    private static SettlementProgress progress(SettlementStatus status) {
+        return SettlementProgress.builder()
+                .batchId(BATCH)
+                .status(status)
+                .settledItems(5)
+                .soldCount(3)
+                .unsoldCount(2)
+                .revenueCents(45000L)
+                .chunksCompleted(2)
+                .build();
+    }
+}
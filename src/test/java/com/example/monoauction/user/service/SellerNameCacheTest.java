@@ -0,0 +1,127 @@
+package com.example.monoauction.user.service;
+
+import com.example.monoauction.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SellerNameCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private SellerNameCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void pageResolvesItsSellersInOneQuery() {
+        when(userRepository.findFullNamesByIdIn(Set.of(1L, 2L))).thenReturn(rows(1L, "Alice", 2L, "Bob"));
+
+        Map<Long, String> names = cache.namesOf(Arrays.asList(1L, 2L, 1L, null));
+
+        assertEquals(Map.of(1L, "Alice", 2L, "Bob"), names);
+        verify(userRepository, times(1)).findFullNamesByIdIn(anyCollection());
+    }
+
+    @Test
+    void cachedSellersAreNotLoadedAgain() {
+        when(userRepository.findFullNamesByIdIn(Set.of(1L))).thenReturn(rows(1L, "Alice"));
+        when(userRepository.findFullNamesByIdIn(Set.of(2L))).thenReturn(rows(2L, "Bob"));
+        cache.namesOf(List.of(1L));
+
+        assertEquals(Map.of(1L, "Alice", 2L, "Bob"), cache.namesOf(List.of(1L, 2L)));
+        assertEquals("Alice", cache.nameOf(1L));
+        verify(userRepository, times(2)).findFullNamesByIdIn(anyCollection());
+    }
+
+    @Test
+    void missingSellerFallsBackToUnknown() {
+        when(userRepository.findFullNamesByIdIn(Set.of(9L))).thenReturn(List.of());
+
+        assertEquals(SellerNameCache.UNKNOWN, cache.nameOf(9L));
+    }
+
+    @Test
+    void expiredEntriesAreReloaded() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        when(userRepository.findFullNamesByIdIn(Set.of(1L)))
+                .thenReturn(rows(1L, "Alice"))
+                .thenReturn(rows(1L, "Alice Smith"));
+
+        cache.nameOf(1L);
+
+        assertEquals("Alice Smith", cache.nameOf(1L));
+    }
+
+    @Test
+    void profileChangeEvictsAgainAfterCommit() {
+        when(userRepository.findFullNamesByIdIn(Set.of(1L)))
+                .thenReturn(rows(1L, "Alice"))
+                .thenReturn(rows(1L, "Alice"))
+                .thenReturn(rows(1L, "Alice Smith"));
+        cache.nameOf(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(1L);
+        // A reader that ran before the commit cached the old name again
+        cache.nameOf(1L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals("Alice Smith", cache.nameOf(1L));
+    }
+
+    @Test
+    void cacheStaysWithinItsBound() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        when(userRepository.findFullNamesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            List<Object[]> rows = new ArrayList<>();
+            ids.forEach(id -> rows.add(new Object[]{id, "Seller " + id}));
+            return rows;
+        });
+
+        cache.namesOf(List.of(1L, 2L, 3L));
+
+        Map<?, ?> entries = (Map<?, ?>) ReflectionTestUtils.getField(cache, "entries");
+        assertEquals(2, entries.size());
+    }
+
+    private static List<Object[]> rows(Object... idsAndNames) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < idsAndNames.length; i += 2) {
+            rows.add(new Object[]{idsAndNames[i], idsAndNames[i + 1]});
+        }
+        return rows;
+    }
+}